@@ -76,6 +76,8 @@ dependencies {
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.2.0")
     implementation("software.amazon.awssdk:s3:2.25.22")
     implementation("co.elastic.clients:elasticsearch-java:8.12.0")
+    implementation("org.apache.lucene:lucene-core:9.10.0")
+    implementation("org.apache.lucene:lucene-analysis-nori:9.10.0")
     implementation("net.javacrumbs.shedlock:shedlock-spring:5.7.0")
     implementation("net.javacrumbs.shedlock:shedlock-provider-jdbc-template:5.7.0")
     implementation("org.jsoup:jsoup:1.17.1")
@@ -99,6 +101,7 @@ dependencies {
         exclude(group = "org.springframework.boot", module = "spring-boot-starter-logging")
     }
     testImplementation("org.mockito:mockito-core:5.11.0")
+    testImplementation("org.testcontainers:junit-jupiter")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
     // =================================================================
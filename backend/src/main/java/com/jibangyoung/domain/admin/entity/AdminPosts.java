@@ -25,7 +25,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Table(name = "posts")
-@SQLDelete(sql = "UPDATE posts SET is_deleted = true WHERE id = ?") // 삭제 시 실제로는 UPDATE 실행
+// 삭제는 setIsDeleted(true)로 처리 (updated_at은 @PreUpdate의 JVM 시계 = 검색 색인 동기화 기준), 아래 SQL은 물리 삭제 방지용
+@SQLDelete(sql = "UPDATE posts SET is_deleted = true, updated_at = NOW() WHERE id = ?")
 public class AdminPosts {
 
     // 기본 식별자
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.jibangyoung.domain.admin.repository.AdMentorProfileRepository;
 import com.jibangyoung.domain.admin.repository.AdUserMaxScore;
 import com.jibangyoung.domain.admin.repository.AdUserRepository;
+import com.jibangyoung.global.security.UserDetailsCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 public class AdMentorPromotionService {
     private final AdMentorProfileRepository mentorProfileRepository;
     private final AdUserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Transactional
     public Result runPromotion() {
@@ -33,10 +35,16 @@ public class AdMentorPromotionService {
         if (!toBUserIds.isEmpty()) {
             // 현재 role 이 C 인 경우에만 B 로 승급 (멱등)
             promotedToB = userRepository.promoteCtoB(toBUserIds);
+            if (promotedToB > 0) {
+                userDetailsCache.evictByUserIds(toBUserIds); // 인증 캐시 무효화
+            }
         }
         if (!toAUserIds.isEmpty()) {
             // 현재 role 이 B 인 경우에만 A 로 승급 (멱등)
             promotedToA = userRepository.promoteBtoA(toAUserIds);
+            if (promotedToA > 0) {
+                userDetailsCache.evictByUserIds(toAUserIds); // 인증 캐시 무효화
+            }
         }
 
         return new Result(promotedToB, promotedToA);
@@ -49,7 +49,7 @@ public class AdReportService {
             if (report.getTargetType() == ReportTargetType.POST) {
                 AdminPosts post = adPostRepository.findById(report.getTargetId())
                     .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다: " + report.getTargetId()));
-                adPostRepository.delete(post); // soft delete (@SQLDelete)
+                post.setIsDeleted(true); // soft delete (@PreUpdate가 updated_at 갱신)
             }
             if (report.getTargetType() == ReportTargetType.COMMENT) {
                 Comment comment = commentRepository.findById(report.getTargetId())
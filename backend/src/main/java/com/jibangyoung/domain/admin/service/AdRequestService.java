@@ -14,6 +14,7 @@ import com.jibangyoung.domain.mentor.dto.AdMentorRequestDTO;
 import com.jibangyoung.domain.mentor.entity.MentorCertificationRequests;
 import com.jibangyoung.domain.mentor.entity.MentorTest;
 import com.jibangyoung.domain.mentor.repository.AdMentorRepository;
+import com.jibangyoung.global.security.UserDetailsCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +25,7 @@ public class AdRequestService {
     private final AdMentorRequestRepository adMentorRequestRepository;
     private final AdMentorRepository mentorTestRepository;
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Transactional(readOnly = true)
     public List<AdMentorRequestDTO> getAllMentorRequests() {
@@ -65,6 +67,7 @@ public class AdRequestService {
         if (user.getRole() != UserRole.MENTOR_C) {
             user.changeRole(UserRole.MENTOR_C);
             userRepository.save(user);
+            userDetailsCache.evictByUserId(userId); // 인증 캐시 무효화
         }
     }
 }
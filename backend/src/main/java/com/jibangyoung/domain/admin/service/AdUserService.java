@@ -10,6 +10,7 @@ import com.jibangyoung.domain.admin.dto.AdUserRoleDTO;
 import com.jibangyoung.domain.admin.repository.AdUserRepository;
 import com.jibangyoung.domain.auth.entity.UserRole;
 import com.jibangyoung.domain.auth.entity.UserStatus;
+import com.jibangyoung.global.security.UserDetailsCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class AdUserService {
 
     private final AdUserRepository adUserRepository;
+    private final UserDetailsCache userDetailsCache;
 
     // 사용자 관리_조회
     public List<AdUserDTO> getAllUsers() {
@@ -55,6 +57,8 @@ public class AdUserService {
             // entity/User 메소드 추가 
             user.changeRole(UserRole.valueOf(dto.getRole())); 
         }
+        // 권한 변경 → 인증 캐시 무효화
+        userDetailsCache.evictByUserIds(roleList.stream().map(AdUserRoleDTO::getId).toList());
     }
 
     // 유저 상태 변경
@@ -64,6 +68,7 @@ public class AdUserService {
             .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
         try {
             user.changeStatus(UserStatus.valueOf(status));
+            userDetailsCache.evictByUserId(userId); // 인증 캐시 무효화
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("유효하지 않은 상태값입니다.");
         }
@@ -1,9 +1,12 @@
 package com.jibangyoung.domain.admin.support;
 
+import java.time.Duration;
+
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.jibangyoung.domain.admin.service.AdMentorPromotionService;
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,12 +16,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AdMentorPromotionScheduler {
     private final AdMentorPromotionService promotionService;
+    private final ScheduledJobRunner jobRunner;
 
-    // 매 5분마다 (초는 0초에)
+    // 매 5분마다 (초는 0초에), 클러스터에서 한 노드만
     @Scheduled(cron = "0 */5 * * * *")
     public void promote() {
-        var r = promotionService.runPromotion();
-        log.info("[MentorPromotion] promotedToB={}, promotedToA={}",
-                r.getPromotedToB(), r.getPromotedToA());
-    }  
+        jobRunner.run("mentor-promotion", ScheduledJobRunner.Mode.LOCKED,
+                Duration.ofMinutes(4), Duration.ofSeconds(30), () -> {
+                    var r = promotionService.runPromotion();
+                    log.info("[MentorPromotion] promotedToB={}, promotedToA={}",
+                            r.getPromotedToB(), r.getPromotedToA());
+                });
+    }
 }
@@ -2,6 +2,7 @@
 package com.jibangyoung.domain.auth.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :startDate AND u.createdAt < :endDate")
     long countUsersByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    // 게시글 목록 작성자 닉네임 일괄 조회 [id, nickname, username]
+    @Query("SELECT u.id, u.nickname, u.username FROM User u WHERE u.id IN :userIds")
+    List<Object[]> findNicknamesByIdIn(@Param("userIds") Collection<Long> userIds);
+
     // // === [비밀번호 해시코드로 변경 코드] ===
     // @Modifying(clearAutomatically = true, flushAutomatically = true)
     // @Query("update User u set u.password = :encoded where u.id = :id")
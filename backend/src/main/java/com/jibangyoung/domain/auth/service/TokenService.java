@@ -4,6 +4,7 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,9 +17,10 @@ import com.jibangyoung.domain.auth.entity.UserStatus;
 import com.jibangyoung.domain.auth.repository.UserRepository;
 import com.jibangyoung.domain.auth.support.RefreshTokenRedis;
 import com.jibangyoung.domain.auth.support.RefreshTokenRedisRepository;
+import com.jibangyoung.domain.auth.support.RefreshTokenRedisRepository.RotationResult;
 import com.jibangyoung.global.exception.BusinessException;
 import com.jibangyoung.global.exception.ErrorCode;
-import com.jibangyoung.global.security.CustomUserDetailsService;
+import com.jibangyoung.global.security.CustomUserPrincipal;
 import com.jibangyoung.global.security.JwtTokenProvider;
 
 import lombok.RequiredArgsConstructor;
@@ -36,9 +38,12 @@ public class TokenService {
         private final RefreshTokenRedisRepository refreshTokenRedisRepository;
         private final UserRepository userRepository;
         private final JwtTokenProvider jwtTokenProvider;
-        private final CustomUserDetailsService customUserDetailsService;
         private final Clock clock = Clock.systemDefaultZone();
 
+        // 다중 탭 동시 재발급 허용 구간 (이 시간 이후의 재사용만 탈취로 판단)
+        @Value("${jwt.refresh-reuse-grace-ms:10000}")
+        private long refreshReuseGraceMillis;
+
         /**
          * ✅ 기존 generateTokens 메서드 - 로깅 강화 및 예외 처리 개선
          */
@@ -77,14 +82,7 @@ public class TokenService {
                         LocalDateTime accessTokenExpiresAt = now
                                         .plusSeconds(jwtTokenProvider.getAccessTokenValidityInMilliseconds() / 1000);
 
-                        try {
-                                long activeTokens = refreshTokenRedisRepository
-                                                .countActiveTokensByUsername(user.getUsername());
-                                log.info("[TOKEN] 토큰 생성 완료 - username: {}, 활성 토큰 수: {}", user.getUsername(),
-                                                activeTokens);
-                        } catch (Exception countError) {
-                                log.info("[TOKEN] 토큰 생성 완료 - username: {} (토큰 수 조회 실패)", user.getUsername());
-                        }
+                        log.info("[TOKEN] 토큰 생성 완료 - username: {}", user.getUsername());
 
                         return LoginResponseDto.of(
                                         user, accessToken, refreshToken,
@@ -99,7 +97,9 @@ public class TokenService {
         }
 
         /**
-         * ✅ 완전히 수정된 refreshAccessToken 메서드 - 모든 문제점 해결
+         * ✅ 리프레시 토큰 재발급 - Redis 교체는 Lua 스크립트 1회로 원자 처리
+         * - 같은 토큰으로 동시에 들어온 요청은 하나만 성공 (나머지는 유예 시간 내면 단순 실패)
+         * - 유예 시간 이후 소비된 토큰이 다시 오면 탈취로 보고 사용자 토큰 전체 무효화
          */
         public LoginResponseDto refreshAccessToken(String refreshToken) {
                 log.info("[TOKEN] 토큰 재발급 요청 시작");
@@ -113,161 +113,71 @@ public class TokenService {
                 String cleanRefreshToken = refreshToken.trim();
 
                 try {
-                        // 2. JWT 토큰 서명 및 형식 검증
-                        if (!jwtTokenProvider.validateToken(cleanRefreshToken)) {
+                        // 2. JWT 서명/형식 검증 + 사용자명 추출 (1회 파싱)
+                        String usernameFromToken = jwtTokenProvider.getValidatedUsername(cleanRefreshToken);
+                        if (usernameFromToken == null || usernameFromToken.trim().isEmpty()) {
                                 log.warn("[TOKEN] JWT 토큰 형식/서명 검증 실패");
                                 throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
                         }
 
-                        // 3. JWT에서 사용자명 추출
-                        String usernameFromToken;
-                        try {
-                                usernameFromToken = jwtTokenProvider.getUsernameFromToken(cleanRefreshToken);
-                                if (usernameFromToken == null || usernameFromToken.trim().isEmpty()) {
-                                        log.warn("[TOKEN] 토큰에서 사용자명 추출 실패");
-                                        throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
-                                }
-                        } catch (Exception e) {
-                                log.warn("[TOKEN] 토큰에서 사용자명 추출 중 오류: {}", e.getMessage());
-                                throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
-                        }
-
-                        log.info("[TOKEN] 토큰에서 사용자명 추출 성공: {}", usernameFromToken);
-
-                        // 4. Redis에서 리프레시 토큰 조회 및 검증
-                        RefreshTokenRedis storedToken = refreshTokenRedisRepository.findByToken(cleanRefreshToken);
-                        if (storedToken == null) {
-                                log.warn("[TOKEN] 리프레시 토큰이 Redis에 존재하지 않음 - username: {}", usernameFromToken);
-                                throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
-                        }
-
-                        // 5. 사용자명 일치 확인
-                        if (!usernameFromToken.equals(storedToken.getUsername())) {
-                                log.warn("[TOKEN] 토큰의 사용자명 불일치 - JWT: {}, Redis: {}",
-                                                usernameFromToken, storedToken.getUsername());
-                                refreshTokenRedisRepository.deleteByToken(cleanRefreshToken);
-                                throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
-                        }
-
-                        // 6. 토큰 만료 확인
-                        if (storedToken.isExpired()) {
-                                log.warn("[TOKEN] 리프레시 토큰 만료됨 - username: {}, expiresAt: {}",
-                                                storedToken.getUsername(), storedToken.getExpiresAt());
-                                refreshTokenRedisRepository.deleteByToken(cleanRefreshToken);
-                                throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
-                        }
-
-                        // 7. 토큰 무효화 상태 확인
-                        if (storedToken.isRevoked()) {
-                                log.warn("[TOKEN] 이미 무효화된 리프레시 토큰 - username: {}", storedToken.getUsername());
-                                refreshTokenRedisRepository.deleteByToken(cleanRefreshToken);
-                                throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
-                        }
-
-                        // 8. 사용자 존재 및 상태 확인 (ACTIVE 상태만 허용)
-                        User user = userRepository.findByUsernameAndStatus(storedToken.getUsername(), UserStatus.ACTIVE)
+                        // 3. 사용자 존재 및 상태 확인 (ACTIVE 상태만 허용)
+                        User user = userRepository.findByUsernameAndStatus(usernameFromToken, UserStatus.ACTIVE)
                                         .orElseThrow(() -> {
                                                 log.error("[TOKEN] 활성 사용자를 찾을 수 없음 - username: {}",
-                                                                storedToken.getUsername());
+                                                                usernameFromToken);
                                                 refreshTokenRedisRepository.deleteByToken(cleanRefreshToken);
                                                 return new BusinessException(ErrorCode.USER_NOT_FOUND);
                                         });
 
-                        log.info("[TOKEN] 사용자 상태 확인 완료 - username: {}, status: {}",
-                                        user.getUsername(), user.getStatus());
+                        // 4. 새 토큰 생성 (조회한 사용자로 바로 principal 구성 → 추가 DB 조회 없음)
+                        UserDetails userDetails = CustomUserPrincipal.create(user);
+                        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                                        userDetails, null, userDetails.getAuthorities());
 
-                        // 9. UserDetails 로드 및 Authentication 객체 생성
-                        UserDetails userDetails;
-                        Authentication authentication;
-                        try {
-                                userDetails = customUserDetailsService.loadUserByUsername(user.getUsername());
-                                authentication = new UsernamePasswordAuthenticationToken(
-                                                userDetails, null, userDetails.getAuthorities());
-
-                                log.info("[TOKEN] UserDetails 로드 성공 - username: {}, authorities: {}",
-                                                user.getUsername(), userDetails.getAuthorities());
-                        } catch (Exception e) {
-                                log.error("[TOKEN] UserDetails 로드 실패 - username: {}, error: {}",
-                                                user.getUsername(), e.getMessage());
-                                refreshTokenRedisRepository.deleteByToken(cleanRefreshToken);
-                                throw new BusinessException(ErrorCode.USER_NOT_FOUND);
-                        }
-
-                        // 10. 새 액세스 토큰 생성
-                        String newAccessToken;
-                        try {
-                                newAccessToken = jwtTokenProvider.createAccessToken(authentication);
-                                if (newAccessToken == null || newAccessToken.trim().isEmpty()) {
-                                        log.error("[TOKEN] 새 액세스 토큰 생성 실패 - username: {}", user.getUsername());
-                                        throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-                                }
-                                log.info("[TOKEN] 새 액세스 토큰 생성 성공 - username: {}", user.getUsername());
-                        } catch (Exception e) {
-                                log.error("[TOKEN] 액세스 토큰 생성 중 오류 - username: {}, error: {}",
-                                                user.getUsername(), e.getMessage());
+                        String newAccessToken = jwtTokenProvider.createAccessToken(authentication);
+                        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getUsername());
+                        if (newAccessToken == null || newAccessToken.trim().isEmpty()
+                                        || newRefreshToken == null || newRefreshToken.trim().isEmpty()) {
+                                log.error("[TOKEN] 새 토큰 생성 실패 - username: {}", user.getUsername());
                                 throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
                         }
+                        LocalDateTime newRefreshExpiresAt = jwtTokenProvider.getExpirationDateFromToken(newRefreshToken);
 
-                        // 11. 새 리프레시 토큰 생성 (Refresh Token Rotation)
-                        String newRefreshToken;
-                        LocalDateTime newRefreshExpiresAt;
-                        try {
-                                newRefreshToken = jwtTokenProvider.createRefreshToken(user.getUsername());
-                                if (newRefreshToken == null || newRefreshToken.trim().isEmpty()) {
-                                        log.error("[TOKEN] 새 리프레시 토큰 생성 실패 - username: {}", user.getUsername());
-                                        throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-                                }
-
-                                newRefreshExpiresAt = jwtTokenProvider.getExpirationDateFromToken(newRefreshToken);
-                                log.info("[TOKEN] 새 리프레시 토큰 생성 성공 - username: {}", user.getUsername());
-                        } catch (Exception e) {
-                                log.error("[TOKEN] 리프레시 토큰 생성 중 오류 - username: {}, error: {}",
-                                                user.getUsername(), e.getMessage());
-                                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-                        }
+                        RefreshTokenRedis newTokenObj = RefreshTokenRedis.builder()
+                                        .token(newRefreshToken)
+                                        .username(user.getUsername())
+                                        .expiresAt(newRefreshExpiresAt)
+                                        .revoked(false)
+                                        .build();
 
-                        // 12. 기존 토큰 무효화 및 새 토큰 저장 (트랜잭션 처리)
-                        try {
-                                // 기존 토큰 삭제
-                                refreshTokenRedisRepository.deleteByToken(cleanRefreshToken);
-                                log.info("[TOKEN] 기존 리프레시 토큰 삭제 완료");
-
-                                // 새 리프레시 토큰 저장
-                                RefreshTokenRedis newTokenObj = RefreshTokenRedis.builder()
-                                                .token(newRefreshToken)
-                                                .username(user.getUsername())
-                                                .expiresAt(newRefreshExpiresAt)
-                                                .revoked(false)
-                                                .build();
-
-                                long ttlSeconds = jwtTokenProvider.getRefreshTokenValidityInMilliseconds() / 1000;
-                                refreshTokenRedisRepository.save(newTokenObj, ttlSeconds);
-                                log.info("[TOKEN] 새 리프레시 토큰 저장 완료");
-
-                        } catch (Exception e) {
-                                log.error("[TOKEN] 토큰 교체 중 Redis 오류 - username: {}, error: {}",
-                                                user.getUsername(), e.getMessage());
-
-                                // Redis 실패 시 복구 시도
-                                try {
-                                        log.warn("[TOKEN] Redis 저장 실패, 복구 시도");
-                                        RefreshTokenRedis newTokenObj = RefreshTokenRedis.builder()
-                                                        .token(newRefreshToken)
-                                                        .username(user.getUsername())
-                                                        .expiresAt(newRefreshExpiresAt)
-                                                        .revoked(false)
-                                                        .build();
-                                        long ttlSeconds = jwtTokenProvider.getRefreshTokenValidityInMilliseconds()
-                                                        / 1000;
-                                        refreshTokenRedisRepository.save(newTokenObj, ttlSeconds);
-                                        log.info("[TOKEN] Redis 저장 복구 성공");
-                                } catch (Exception retryError) {
-                                        log.error("[TOKEN] Redis 저장 복구도 실패: {}", retryError.getMessage());
-                                        // 그래도 새 토큰은 반환하여 클라이언트 사용성 확보
-                                }
+                        // 5. 기존 토큰 검증/소비 + 새 토큰 저장 (원자적)
+                        long ttlSeconds = jwtTokenProvider.getRefreshTokenValidityInMilliseconds() / 1000;
+                        RotationResult rotation = refreshTokenRedisRepository.rotate(
+                                        cleanRefreshToken, newTokenObj, ttlSeconds, refreshReuseGraceMillis);
+
+                        switch (rotation) {
+                                case ROTATED:
+                                        break;
+                                case REUSED:
+                                        log.warn("[TOKEN] 이미 사용된 리프레시 토큰 재사용 감지 - 모든 토큰 무효화: username: {}",
+                                                        user.getUsername());
+                                        refreshTokenRedisRepository.deleteAllByUsername(user.getUsername());
+                                        throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+                                case MISMATCH:
+                                case REVOKED:
+                                        log.warn("[TOKEN] 사용할 수 없는 리프레시 토큰 - username: {}, result: {}",
+                                                        user.getUsername(), rotation);
+                                        refreshTokenRedisRepository.deleteByToken(cleanRefreshToken);
+                                        throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+                                case CONCURRENT:
+                                case NOT_FOUND:
+                                default:
+                                        log.warn("[TOKEN] 리프레시 토큰이 Redis에 존재하지 않음 - username: {}, result: {}",
+                                                        user.getUsername(), rotation);
+                                        throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
                         }
 
-                        // 13. 응답 DTO 생성
+                        // 6. 응답 DTO 생성
                         LocalDateTime now = LocalDateTime.now(clock);
                         LocalDateTime accessTokenExpiresAt = now
                                         .plusSeconds(jwtTokenProvider.getAccessTokenValidityInMilliseconds() / 1000);
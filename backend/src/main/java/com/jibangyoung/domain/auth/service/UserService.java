@@ -11,8 +11,10 @@ import com.jibangyoung.domain.auth.dto.UserInfoDto;
 import com.jibangyoung.domain.auth.entity.User;
 import com.jibangyoung.domain.auth.entity.UserRole;
 import com.jibangyoung.domain.auth.repository.UserRepository;
+import com.jibangyoung.domain.community.support.AuthorNicknameResolver;
 import com.jibangyoung.global.exception.BusinessException;
 import com.jibangyoung.global.exception.ErrorCode;
+import com.jibangyoung.global.security.UserDetailsCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthorNicknameResolver authorNicknameResolver;
+    private final UserDetailsCache userDetailsCache;
 
     // 회원 생성 (회원가입)
     public User createUser(SignupRequestDto signupRequest) {
@@ -66,6 +70,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         user.updateProfile(nickname, phone, profileImageUrl);
+        authorNicknameResolver.evict(userId); // 게시글 목록 닉네임 캐시 무효화
         return UserDto.from(user);
     }
 
@@ -73,12 +78,14 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         user.deactivate();
+        userDetailsCache.evictByUserId(userId); // 인증 캐시 무효화
     }
 
     public void activateUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         user.activate();
+        userDetailsCache.evictByUserId(userId); // 인증 캐시 무효화
     }
 
     @Transactional(readOnly = true)
@@ -1,7 +1,9 @@
 package com.jibangyoung.domain.auth.support;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -9,6 +11,10 @@ import java.util.concurrent.TimeUnit;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,8 +33,50 @@ public class RefreshTokenRedisRepository {
 
     private static final String PREFIX = "refresh_token:";
     private static final String USER_PREFIX = "user_tokens:"; // 사용자별 토큰 목록 관리
+    private static final String USED_PREFIX = "refresh_token_used:"; // 교체로 소비된 토큰 (재사용 탐지용)
+    private static final long USER_SET_EXTRA_TTL_SECONDS = 300;
+
+    /**
+     * 리프레시 토큰 교체 결과
+     * - ROTATED: 교체 성공
+     * - NOT_FOUND: 저장소에 없음 (만료/로그아웃)
+     * - CONCURRENT: 유예 시간 내 동일 토큰 재요청 (다중 탭 동시 재발급)
+     * - REUSED: 유예 시간 이후 소비된 토큰 재사용 → 탈취 의심
+     * - MISMATCH: 저장된 사용자명 불일치/손상된 값
+     * - REVOKED: 무효화된 토큰
+     */
+    public enum RotationResult {
+        ROTATED, NOT_FOUND, CONCURRENT, REUSED, MISMATCH, REVOKED
+    }
+
+    /**
+     * 원자적 토큰 교체 스크립트 (1 round trip)
+     * KEYS: 1=기존 토큰 키, 2=새 토큰 키, 3=사용자 토큰 Set, 4=기존 토큰 소비 표시 키
+     * ARGV: 1=username, 2=기존 토큰, 3=새 토큰, 4=새 토큰 값(JSON), 5=TTL(초), 6=현재시각(ms), 7=재사용 유예(ms)
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local raw = redis.call('GET', KEYS[1]) " +
+                    "if not raw then " +
+                    "  local consumedAt = redis.call('GET', KEYS[4]) " +
+                    "  if not consumedAt then return 'NOT_FOUND' end " +
+                    "  if tonumber(ARGV[6]) - tonumber(consumedAt) <= tonumber(ARGV[7]) then return 'CONCURRENT' end " +
+                    "  return 'REUSED' " +
+                    "end " +
+                    "local ok, stored = pcall(cjson.decode, raw) " +
+                    "if not ok or type(stored) ~= 'table' or stored['username'] ~= ARGV[1] then return 'MISMATCH' end " +
+                    "if stored['revoked'] == true then return 'REVOKED' end " +
+                    "local ttl = redis.call('PTTL', KEYS[1]) " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "redis.call('SREM', KEYS[3], ARGV[2]) " +
+                    "if ttl > 0 then redis.call('SET', KEYS[4], ARGV[6], 'PX', ttl) end " +
+                    "redis.call('SET', KEYS[2], ARGV[4], 'EX', ARGV[5]) " +
+                    "redis.call('SADD', KEYS[3], ARGV[3]) " +
+                    "redis.call('EXPIRE', KEYS[3], tonumber(ARGV[5]) + " + USER_SET_EXTRA_TTL_SECONDS + ") " +
+                    "return 'ROTATED'",
+            String.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper; // ← 추가: 다양한 직렬화 타입을 안전 변환
 
     /** 직렬화 타입에 상관없이 RefreshTokenRedis로 변환 */
@@ -87,7 +135,7 @@ public class RefreshTokenRedisRepository {
             try {
                 redisTemplate.opsForSet().add(userTokensKey, token.getToken());
                 // 사용자 토큰 목록도 TTL 적용 (조금 더 길게)
-                redisTemplate.expire(userTokensKey, ttlSeconds + 300, TimeUnit.SECONDS);
+                redisTemplate.expire(userTokensKey, ttlSeconds + USER_SET_EXTRA_TTL_SECONDS, TimeUnit.SECONDS);
             } catch (Exception userTokenError) {
                 log.warn("[REDIS] 사용자 토큰 목록 관리 실패 (기본 저장은 성공) - username: {}, error: {}",
                         token.getUsername(), userTokenError.getMessage());
@@ -101,6 +149,37 @@ public class RefreshTokenRedisRepository {
         }
     }
 
+    /**
+     * ✅ 리프레시 토큰 원자적 교체 - 검증 + 기존 토큰 소비 + 새 토큰 저장 + 사용자 Set 갱신을 Lua 1회로 처리
+     * - 만료는 키 TTL(= 토큰 만료시각)로 판단
+     * - 소비된 토큰은 남은 수명 동안 소비 시각을 기록해 재사용을 탐지
+     */
+    public RotationResult rotate(String oldToken, RefreshTokenRedis newToken, long ttlSeconds, long reuseGraceMillis) {
+        // 기존 save()와 동일한 직렬화 형식으로 저장 (findByToken 호환)
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        String newValue = new String(valueSerializer.serialize(newToken), StandardCharsets.UTF_8);
+
+        List<String> keys = List.of(
+                PREFIX + oldToken,
+                PREFIX + newToken.getToken(),
+                USER_PREFIX + newToken.getUsername(),
+                USED_PREFIX + oldToken);
+
+        String result = stringRedisTemplate.execute(ROTATE_SCRIPT, keys,
+                newToken.getUsername(),
+                oldToken,
+                newToken.getToken(),
+                newValue,
+                String.valueOf(ttlSeconds),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(reuseGraceMillis));
+
+        RotationResult rotation = result != null ? RotationResult.valueOf(result) : RotationResult.NOT_FOUND;
+        log.debug("[REDIS] 토큰 교체 결과 - username: {}, result: {}", newToken.getUsername(), rotation);
+        return rotation;
+    }
+
     /**
      * ✅ 수정된 findByToken 메서드 - 예외 처리 & 타입 변환 강화
      */
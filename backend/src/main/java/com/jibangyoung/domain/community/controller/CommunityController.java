@@ -34,6 +34,7 @@ import com.jibangyoung.domain.community.service.PresignedUrlService;
 import com.jibangyoung.domain.community.service.ReportService;
 import com.jibangyoung.global.annotation.UserActivityLogging;
 import com.jibangyoung.global.common.ApiResponse;
+import com.jibangyoung.global.common.CursorPage;
 import com.jibangyoung.global.security.CustomUserPrincipal;
 
 import jakarta.validation.Valid;
@@ -73,6 +74,15 @@ public class CommunityController {
         return communityService.getPopularPostsPage(page, size);
     }
 
+    // 최신 인기글 - 커서 페이지
+    @GetMapping("/popular/cursor")
+    @UserActivityLogging(actionType = "POPULAR_POSTS_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "인기글 목록 조회 (커서)")
+    public CursorPage<PostListDto> getPopularPostsCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return communityService.getPopularPostsCursor(cursor, CursorPage.clampSize(size));
+    }
+
     // 지역 게시판
     @GetMapping("/region/{regionCode}")
     @UserActivityLogging(actionType = "REGION_POSTS_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "지역별 게시글 목록 조회")
@@ -86,6 +96,30 @@ public class CommunityController {
         return communityService.getPostsByRegion(regionCode, page, size, category, search, searchType);
     }
 
+    // 지역 게시판 - 커서 페이지 (cursor는 이전 응답의 nextCursor, 첫 페이지는 생략)
+    @GetMapping("/region/{regionCode}/cursor")
+    @UserActivityLogging(actionType = "REGION_POSTS_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "지역별 게시글 목록 조회 (커서)")
+    public CursorPage<PostListDto> getPostsByRegionCursor(
+            @PathVariable String regionCode,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return communityService.getPostsByRegionCursor(regionCode, category, cursor, CursorPage.clampSize(size));
+    }
+
+    // 게시글 검색 (제목+내용, 지역/카테고리 필터, sort = relevance | recent)
+    @GetMapping("/search")
+    @UserActivityLogging(actionType = "POST_SEARCH", priority = UserActivityLogging.Priority.NORMAL, description = "게시글 검색")
+    public Page<PostListDto> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long regionId,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return communityService.searchPosts(keyword, regionId, category, sort, page, size);
+    }
+
     // 게시글 상세
     @GetMapping("/post/{postId}")
     @UserActivityLogging(actionType = "POST_DETAIL_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "게시글 상세 조회")
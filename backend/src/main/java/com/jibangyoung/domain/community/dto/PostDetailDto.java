@@ -60,6 +60,11 @@ public class PostDetailDto {
     }
 
     public static PostDetailDto fromWithNickname(Posts post, String nickname) {
+        return fromWithNickname(post, nickname, post.getViews());
+    }
+
+    // views: DB 값 + 아직 반영되지 않은 조회수
+    public static PostDetailDto fromWithNickname(Posts post, String nickname, int views) {
         return PostDetailDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
@@ -71,7 +76,7 @@ public class PostDetailDto {
                 .regionId(post.getRegionId())
                 .regionName(RegionSidoMapper.getRegionName(post.getRegionId()))
                 .likes(post.getLikes())
-                .views(post.getViews())
+                .views(views)
                 .isNotice(post.isNotice())
                 .isMentorOnly(post.isMentorOnly())
                 .isDeleted(post.isDeleted())
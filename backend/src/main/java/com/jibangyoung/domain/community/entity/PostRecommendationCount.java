@@ -0,0 +1,36 @@
+package com.jibangyoung.domain.community.entity;
+
+import java.util.List;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시글 추천 유형별 카운터 (post_recommendations GROUP BY 대체)
+// - 값 변경은 PostRecommendationCountRepository의 원자적 증감 쿼리로만 수행
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(PostRecommendationCountId.class)
+@Table(name = "post_recommendation_counts")
+public class PostRecommendationCount {
+
+    // 추천 유형 (게시글당 1개만 선택 가능)
+    public static final List<String> RECOMMENDATION_TYPES = List.of("쏠쏠정보", "흥미진진", "공감백배", "분석탁월", "후속강추");
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "recommendation_type", length = 20)
+    private String recommendationType;
+
+    @Column(name = "recommend_count", nullable = false)
+    private long count;
+}
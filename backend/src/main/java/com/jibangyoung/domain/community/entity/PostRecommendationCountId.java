@@ -0,0 +1,19 @@
+package com.jibangyoung.domain.community.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode // 복합키에서 필수
+public class PostRecommendationCountId implements Serializable {
+    private Long postId;
+    private String recommendationType;
+}
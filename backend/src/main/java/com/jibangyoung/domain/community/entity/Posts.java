@@ -12,6 +12,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -26,8 +27,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "posts")
-@SQLDelete(sql = "UPDATE posts SET is_deleted = true WHERE id = ? AND version = ?")
+@Table(name = "posts", indexes = {
+        // 지역 게시판 키셋 페이지 (region_id, is_deleted 등치 + created_at, id 범위)
+        @Index(name = "idx_posts_region_created", columnList = "region_id, is_deleted, created_at, id"),
+        @Index(name = "idx_posts_region_category_created", columnList = "region_id, category, is_deleted, created_at, id"),
+        // 검색 색인 주기 동기화 (updated_at 범위, 삭제 포함)
+        @Index(name = "idx_posts_updated", columnList = "updated_at, id")
+})
+// 서비스 삭제는 softDelete()로 처리 (updated_at을 @PreUpdate와 같은 JVM 시계로 기록), 아래 SQL은 delete() 호출 시 물리 삭제 방지용
+@SQLDelete(sql = "UPDATE posts SET is_deleted = true, updated_at = NOW() WHERE id = ? AND version = ?")
 @SQLRestriction("is_deleted = false") // 조회 시 항상 is_deleted = false 조건 자동 추가
 public class Posts {
 
@@ -63,10 +71,12 @@ public class Posts {
     private String tag;
 
     // 게시글 메타 정보
-    @Column(name = "likes", nullable = false)
+    // 추천 수는 PostRepository의 원자적 UPDATE로만 증감
+    @Column(name = "likes", nullable = false, updatable = false)
     private int likes;
 
-    @Column(name = "views", nullable = false)
+    // 조회수는 PostViewCountFlushScheduler의 UPDATE로만 증가 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "views", nullable = false, updatable = false)
     private int views;
 
     // 상태 정보
@@ -102,18 +112,9 @@ public class Posts {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void increaseViews() {
-        this.views += 1;
-    }
-
-    public void incrementLikes() {
-        this.likes += 1;
-    }
-
-    public void decrementLikes() {
-        if (this.likes > 0) {
-            this.likes -= 1;
-        }
+    // 논리 삭제 (@PreUpdate가 updated_at 갱신 → 검색 색인 동기화 대상)
+    public void softDelete() {
+        this.isDeleted = true;
     }
 
     // 내부 enum으로 카테고리 정의
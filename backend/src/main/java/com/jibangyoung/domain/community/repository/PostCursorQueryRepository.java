@@ -0,0 +1,60 @@
+package com.jibangyoung.domain.community.repository;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.jibangyoung.domain.community.entity.Posts;
+import com.jibangyoung.domain.community.entity.QPosts;
+import com.jibangyoung.global.common.SeekCursor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시판 키셋(seek) 페이지 조회 - OFFSET/COUNT 없이 (created_at, id) 이후 limit건
+ * - idx_posts_region_created / idx_posts_region_category_created 인덱스 범위 스캔
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCursorQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 지역 게시판 (category = null 이면 전체, minLikes = null 이면 추천 수 조건 없음)
+    public List<Posts> findRegionBoardPage(long regionId, Posts.PostCategory category, Integer minLikes,
+            SeekCursor cursor, int limit) {
+        QPosts p = QPosts.posts;
+        return queryFactory
+                .selectFrom(p)
+                .where(p.regionId.eq(regionId),
+                        category != null ? p.category.eq(category) : null,
+                        minLikes != null ? p.likes.goe(minLikes) : null,
+                        after(p, cursor))
+                .orderBy(p.createdAt.desc(), p.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 전체 추천글 (id 내림차순)
+    public List<Posts> findPopularPage(int minLikes, SeekCursor cursor, int limit) {
+        QPosts p = QPosts.posts;
+        return queryFactory
+                .selectFrom(p)
+                .where(p.likes.goe(minLikes),
+                        cursor != null ? p.id.lt(cursor.id()) : null)
+                .orderBy(p.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // (created_at, id) < (cursor.createdAt, cursor.id)
+    private BooleanExpression after(QPosts p, SeekCursor cursor) {
+        if (cursor == null || cursor.createdAt() == null) {
+            return null;
+        }
+        return p.createdAt.lt(cursor.createdAt())
+                .or(p.createdAt.eq(cursor.createdAt()).and(p.id.lt(cursor.id())));
+    }
+}
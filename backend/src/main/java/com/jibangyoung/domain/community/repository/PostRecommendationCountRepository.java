@@ -0,0 +1,40 @@
+package com.jibangyoung.domain.community.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jibangyoung.domain.community.entity.PostRecommendationCount;
+import com.jibangyoung.domain.community.entity.PostRecommendationCountId;
+
+public interface PostRecommendationCountRepository
+        extends JpaRepository<PostRecommendationCount, PostRecommendationCountId> {
+
+    List<PostRecommendationCount> findByPostId(Long postId);
+
+    // 추천 유형 카운트 +1 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO post_recommendation_counts (post_id, recommendation_type, recommend_count) " +
+            "VALUES (:postId, :type, 1) " +
+            "ON DUPLICATE KEY UPDATE recommend_count = recommend_count + 1", nativeQuery = true)
+    void increment(@Param("postId") Long postId, @Param("type") String recommendationType);
+
+    // 추천 유형 카운트 -1 (0 미만 방지)
+    @Modifying
+    @Query("UPDATE PostRecommendationCount c SET c.count = CASE WHEN c.count > 0 THEN c.count - 1 ELSE 0 END " +
+            "WHERE c.postId = :postId AND c.recommendationType = :type")
+    void decrement(@Param("postId") Long postId, @Param("type") String recommendationType);
+
+    // post_recommendations 기준으로 카운터 재계산 (최초 적재/보정용)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO post_recommendation_counts (post_id, recommendation_type, recommend_count) " +
+            "SELECT pr.post_id, pr.recommendation_type, COUNT(*) FROM post_recommendations pr " +
+            "GROUP BY pr.post_id, pr.recommendation_type " +
+            "ON DUPLICATE KEY UPDATE recommend_count = VALUES(recommend_count)", nativeQuery = true)
+    int rebuildAll();
+}
@@ -2,11 +2,11 @@ package com.jibangyoung.domain.community.repository;
 
 import com.jibangyoung.domain.community.entity.PostRecommendation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 public interface PostRecommendationRepository extends JpaRepository<PostRecommendation, Long> {
@@ -15,4 +15,25 @@ public interface PostRecommendationRepository extends JpaRepository<PostRecommen
     // 게시글의 각 추천 유형별 개수 조회
     @Query("SELECT pr.recommendationType, COUNT(pr) FROM PostRecommendation pr WHERE pr.post.id = :postId GROUP BY pr.recommendationType")
     List<Object[]> countRecommendationsByPostIdGroupByType(@Param("postId") Long postId);
+
+    // 신규 추천 - (user_id, post_id) 유니크 제약으로 중복 방지, 삽입 성공 시 1 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_recommendations (user_id, post_id, recommendation_type) " +
+            "VALUES (:userId, :postId, :type)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId,
+            @Param("type") String recommendationType);
+
+    // 추천 취소 - 현재 유형이 일치할 때만 삭제
+    @Modifying
+    @Query("DELETE FROM PostRecommendation pr WHERE pr.user.id = :userId AND pr.post.id = :postId " +
+            "AND pr.recommendationType = :type")
+    int deleteIfType(@Param("userId") Long userId, @Param("postId") Long postId,
+            @Param("type") String recommendationType);
+
+    // 추천 유형 변경 - 현재 유형이 일치할 때만 변경
+    @Modifying
+    @Query("UPDATE PostRecommendation pr SET pr.recommendationType = :newType " +
+            "WHERE pr.user.id = :userId AND pr.post.id = :postId AND pr.recommendationType = :oldType")
+    int updateTypeIfType(@Param("userId") Long userId, @Param("postId") Long postId,
+            @Param("oldType") String oldType, @Param("newType") String newType);
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,22 +17,35 @@ public interface PostRepository extends JpaRepository<Posts, Long> {
     // 최근 after 동안 생성된 게시글 중 좋아요 Top10 조회
     List<Posts> findTop10ByCreatedAtAfterOrderByLikesDesc(LocalDateTime after);
 
+    // 게시판 목록은 COUNT 없이 List로 조회하고 전체 건수는 PostBoardCountCache 사용
+    // 깊은 페이지는 PostCursorQueryRepository(키셋) 사용
+
     // 전체 게시판에서 추천수 이상 글 목록
-    Page<Posts> findByLikesGreaterThanEqualOrderByIdDesc(int i, Pageable pageable);
+    List<Posts> findByLikesGreaterThanEqualOrderByIdDesc(int i, Pageable pageable);
 
     // 최근 regionCode 게시판
-    Page<Posts> findByRegionIdOrderByCreatedAtDesc(long regionId, Pageable pageable);
+    List<Posts> findByRegionIdOrderByCreatedAtDescIdDesc(long regionId, Pageable pageable);
 
     // 최근 regionCode 추천 수 이상 글 목록
-    Page<Posts> findByRegionIdAndLikesGreaterThanEqualOrderByCreatedAtDesc(Long regionId, int likes, Pageable pageable);
+    List<Posts> findByRegionIdAndLikesGreaterThanEqualOrderByCreatedAtDescIdDesc(Long regionId, int likes,
+            Pageable pageable);
 
     // Category 추천수 이상 글 목록
     List<Posts> findTop10ByCategoryOrderByLikesDesc(Posts.PostCategory postCategory);
 
     // 지역 및 카테고리별 게시글 조회
-    Page<Posts> findByRegionIdAndCategoryOrderByCreatedAtDesc(Long regionId, Posts.PostCategory category,
+    List<Posts> findByRegionIdAndCategoryOrderByCreatedAtDescIdDesc(Long regionId, Posts.PostCategory category,
             Pageable pageable);
 
+    // 게시판 전체 건수 (PostBoardCountCache)
+    long countByRegionId(long regionId);
+
+    long countByRegionIdAndCategory(long regionId, Posts.PostCategory category);
+
+    long countByRegionIdAndLikesGreaterThanEqual(long regionId, int likes);
+
+    long countByLikesGreaterThanEqual(int likes);
+
     // 지역 및 제목으로 게시글 검색
     Page<Posts> findByRegionIdAndTitleContainingOrderByCreatedAtDesc(Long regionId, String title, Pageable pageable);
 
@@ -60,4 +74,33 @@ public interface PostRepository extends JpaRepository<Posts, Long> {
             @Param("nickname") String nickname,
             Pageable pageable);
 
-}
\ No newline at end of file
+    // 게시글 검색 - 검색 색인 미사용/장애 시 대체 (제목+내용 LIKE, regionId/category는 null이면 전체)
+    @Query("SELECT p FROM Posts p WHERE (:regionId IS NULL OR p.regionId = :regionId) " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (p.title LIKE CONCAT('%', :keyword, '%') OR p.content LIKE CONCAT('%', :keyword, '%')) " +
+            "ORDER BY p.createdAt DESC")
+    Page<Posts> searchByKeyword(@Param("regionId") Long regionId,
+            @Param("category") Posts.PostCategory category,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    // 검색 색인 재구축용 id 순 조회
+    List<Posts> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    // 검색 색인 동기화용 - since 이후 변경된 게시글 (native라 삭제된 글도 포함, id 순 keyset)
+    @Query(value = "SELECT * FROM posts WHERE updated_at >= :since AND id > :afterId ORDER BY id LIMIT :limit",
+           nativeQuery = true)
+    List<Posts> findChangedSinceIncludingDeleted(@Param("since") LocalDateTime since,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit);
+
+    // 추천 수 원자적 증감 (엔티티 로딩/버전 증가 없음)
+    @Modifying
+    @Query("UPDATE Posts p SET p.likes = p.likes + 1 WHERE p.id = :postId")
+    void incrementLikes(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Posts p SET p.likes = CASE WHEN p.likes > 0 THEN p.likes - 1 ELSE 0 END WHERE p.id = :postId")
+    void decrementLikes(@Param("postId") Long postId);
+
+}
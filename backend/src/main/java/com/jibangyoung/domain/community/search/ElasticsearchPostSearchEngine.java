@@ -0,0 +1,208 @@
+package com.jibangyoung.domain.community.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🔎 Elasticsearch 게시글 색인 (여러 노드가 하나의 색인 공유)
+ * - 색인이 없으면 nori 분석기(analysis-nori 플러그인 필요)로 생성
+ * - 공유 색인이므로 watermark는 저장하지 않음 (재기동 시 최근 변경분만 재동기화)
+ */
+@Component
+@ConditionalOnProperty(name = "search.post.engine", havingValue = "elasticsearch")
+@Slf4j
+public class ElasticsearchPostSearchEngine implements PostSearchEngine {
+
+    private static final String ANALYZER = "korean";
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    @Value("${search.post.elasticsearch.uris:http://localhost:9200}")
+    private String uris;
+
+    @Value("${search.post.elasticsearch.index:posts}")
+    private String indexName;
+
+    private RestClient restClient;
+    private ElasticsearchClient client;
+
+    @PostConstruct
+    public void open() throws IOException {
+        HttpHost[] hosts = Arrays.stream(uris.split(","))
+                .map(String::trim)
+                .map(HttpHost::create)
+                .toArray(HttpHost[]::new);
+        restClient = RestClient.builder(hosts).build();
+        client = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+
+        if (!client.indices().exists(e -> e.index(indexName)).value()) {
+            client.indices().create(c -> c
+                    .index(indexName)
+                    .settings(s -> s.analysis(a -> a.analyzer(ANALYZER, an -> an.custom(cu -> cu
+                            .tokenizer("nori_tokenizer")
+                            .filter("nori_part_of_speech", "lowercase")))))
+                    .mappings(m -> m
+                            .properties("id", p -> p.long_(l -> l))
+                            .properties("regionId", p -> p.long_(l -> l))
+                            .properties("category", p -> p.keyword(k -> k))
+                            .properties("title", p -> p.text(t -> t.analyzer(ANALYZER)))
+                            .properties("content", p -> p.text(t -> t.analyzer(ANALYZER)))
+                            .properties("createdAt", p -> p.long_(l -> l))));
+            log.info("🔎 Elasticsearch 게시글 색인 생성: {}", indexName);
+        }
+    }
+
+    @Override
+    public void upsert(List<PostSearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        for (PostSearchDocument document : documents) {
+            bulk.operations(op -> op.index(i -> i
+                    .index(indexName)
+                    .id(String.valueOf(document.id()))
+                    .document(document)));
+        }
+        executeBulk(bulk);
+    }
+
+    @Override
+    public void delete(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        for (Long postId : postIds) {
+            bulk.operations(op -> op.delete(d -> d.index(indexName).id(String.valueOf(postId))));
+        }
+        executeBulk(bulk);
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            client.deleteByQuery(d -> d.index(indexName).query(q -> q.matchAll(m -> m)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public PostSearchResult search(PostSearchQuery query) {
+        if (query.offset() >= MAX_RESULT_WINDOW) {
+            return PostSearchResult.EMPTY;
+        }
+        List<String> fields = switch (query.field()) {
+            case TITLE -> List.of("title");
+            case CONTENT -> List.of("content");
+            case ALL -> List.of("title^2", "content");
+        };
+
+        try {
+            SearchResponse<Void> response = client.search(s -> {
+                s.index(indexName)
+                        .from(query.offset())
+                        .size(query.size())
+                        .trackTotalHits(t -> t.enabled(true))
+                        .source(src -> src.fetch(false))
+                        .query(q -> q.bool(b -> {
+                            b.must(m -> m.multiMatch(mm -> mm
+                                    .query(query.keyword())
+                                    .fields(fields)
+                                    .operator(Operator.And)));
+                            if (query.regionId() != null) {
+                                b.filter(f -> f.term(t -> t.field("regionId").value(query.regionId())));
+                            }
+                            if (query.category() != null) {
+                                b.filter(f -> f.term(t -> t.field("category").value(query.category())));
+                            }
+                            return b;
+                        }));
+                if (query.sort() == PostSearchQuery.Sort.RELEVANCE) {
+                    s.sort(so -> so.score(sc -> sc.order(SortOrder.Desc)));
+                }
+                s.sort(so -> so.field(f -> f.field("createdAt").order(SortOrder.Desc)));
+                return s;
+            }, Void.class);
+
+            List<Long> ids = new ArrayList<>(response.hits().hits().size());
+            for (Hit<Void> hit : response.hits().hits()) {
+                ids.add(Long.parseLong(hit.id()));
+            }
+            long total = response.hits().total() != null ? response.hits().total().value() : ids.size();
+            return new PostSearchResult(ids, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long documentCount() {
+        try {
+            return client.count(c -> c.index(indexName)).count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void commit(Instant watermark) {
+        // 색인 요청마다 클러스터에 반영되므로 별도 커밋 없음
+    }
+
+    @Override
+    public Optional<Instant> committedWatermark() {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            restClient.close();
+        } catch (IOException e) {
+            log.warn("🔎 Elasticsearch 클라이언트 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private void executeBulk(BulkRequest.Builder bulk) {
+        try {
+            BulkResponse response = client.bulk(bulk.build());
+            if (response.errors()) {
+                long failed = response.items().stream().filter(item -> item.error() != null).count();
+                log.warn("🔎 Elasticsearch 일괄 색인 일부 실패: {}/{}", failed, response.items().size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.jibangyoung.domain.community.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🔎 노드 로컬 Lucene 게시글 색인 (search.post.engine=lucene 으로 명시해야 사용)
+ * - 한국어 형태소 분석(nori, 복합명사는 원형+분해형 모두 색인)
+ * - 변경은 NRT(near-real-time) 갱신으로 즉시 검색 반영, commit 시 watermark를 커밋 데이터에 기록
+ * - 인스턴스마다 별도 절대 경로 필요 (search.post.lucene.path, 같은 경로를 공유하면 IndexWriter 잠금 실패)
+ */
+@Component
+@ConditionalOnProperty(name = "search.post.engine", havingValue = "lucene")
+@Slf4j
+public class LucenePostSearchEngine implements PostSearchEngine {
+
+    private static final String F_ID = "id";
+    private static final String F_REGION = "regionId";
+    private static final String F_CATEGORY = "category";
+    private static final String F_TITLE = "title";
+    private static final String F_CONTENT = "content";
+    private static final String F_CREATED_AT = "createdAt";
+    private static final String WATERMARK_KEY = "watermark";
+
+    // 제목 일치 가중치 (ALL 검색 시)
+    private static final float TITLE_BOOST = 2.0f;
+    // 깊은 페이지 조회 상한
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    // 작업 디렉터리 기준 상대 경로는 허용하지 않음 (같은 호스트의 다른 인스턴스와 충돌 방지)
+    @Value("${search.post.lucene.path:}")
+    private String indexPath;
+
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile Instant committedWatermark;
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (indexPath == null || indexPath.isBlank() || !Path.of(indexPath).isAbsolute()) {
+            throw new IllegalStateException(
+                    "search.post.engine=lucene 사용 시 search.post.lucene.path에 인스턴스별 절대 경로를 지정해야 합니다: " + indexPath);
+        }
+        Path path = Path.of(indexPath);
+        Files.createDirectories(path);
+        analyzer = new KoreanAnalyzer(null, KoreanTokenizer.DecompoundMode.MIXED,
+                KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+        directory = FSDirectory.open(path);
+        if (DirectoryReader.indexExists(directory)) {
+            String watermark = SegmentInfos.readLatestCommit(directory).getUserData().get(WATERMARK_KEY);
+            committedWatermark = watermark != null ? Instant.parse(watermark) : null;
+        }
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        log.info("🔎 Lucene 게시글 색인 열기: path={}, docs={}, watermark={}",
+                path.toAbsolutePath(), documentCount(), committedWatermark);
+    }
+
+    @Override
+    public void upsert(List<PostSearchDocument> documents) {
+        try {
+            for (PostSearchDocument document : documents) {
+                writer.updateDocument(new Term(F_ID, String.valueOf(document.id())), toLuceneDocument(document));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(Collection<Long> postIds) {
+        try {
+            Term[] terms = postIds.stream()
+                    .map(id -> new Term(F_ID, String.valueOf(id)))
+                    .toArray(Term[]::new);
+            writer.deleteDocuments(terms);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public PostSearchResult search(PostSearchQuery query) {
+        Query keywordQuery = keywordQuery(query);
+        if (keywordQuery == null) {
+            return PostSearchResult.EMPTY; // 분석 후 남는 토큰이 없음 (조사/기호만 입력)
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(keywordQuery, BooleanClause.Occur.MUST);
+        if (query.regionId() != null) {
+            builder.add(new TermQuery(new Term(F_REGION, String.valueOf(query.regionId()))), BooleanClause.Occur.FILTER);
+        }
+        if (query.category() != null) {
+            builder.add(new TermQuery(new Term(F_CATEGORY, query.category())), BooleanClause.Occur.FILTER);
+        }
+        Query luceneQuery = builder.build();
+
+        SortField recent = new SortField(F_CREATED_AT, SortField.Type.LONG, true);
+        Sort sort = query.sort() == PostSearchQuery.Sort.RECENT
+                ? new Sort(recent)
+                : new Sort(SortField.FIELD_SCORE, recent);
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int total = searcher.count(luceneQuery);
+                int from = query.offset();
+                if (from >= total || from >= MAX_RESULT_WINDOW) {
+                    return new PostSearchResult(List.of(), total);
+                }
+                TopDocs topDocs = searcher.search(luceneQuery, Math.min(from + query.size(), MAX_RESULT_WINDOW), sort);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(query.size());
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = from; i < hits.length; i++) {
+                    ids.add(Long.parseLong(storedFields.document(hits[i].doc).get(F_ID)));
+                }
+                return new PostSearchResult(ids, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long documentCount() {
+        return writer.getDocStats().numDocs;
+    }
+
+    @Override
+    public void commit(Instant watermark) {
+        try {
+            writer.setLiveCommitData(Map.of(WATERMARK_KEY, watermark.toString()).entrySet());
+            writer.commit();
+            committedWatermark = watermark;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Instant> committedWatermark() {
+        return Optional.ofNullable(committedWatermark);
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            searcherManager.close();
+            writer.close(); // 종료 시 커밋 (watermark는 마지막 동기화 시점 유지 → 재기동 후 그 이후 변경 재반영)
+            directory.close();
+            analyzer.close();
+        } catch (IOException e) {
+            log.warn("🔎 Lucene 색인 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    private Document toLuceneDocument(PostSearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(F_ID, String.valueOf(source.id()), Field.Store.YES));
+        document.add(new StringField(F_REGION, String.valueOf(source.regionId()), Field.Store.NO));
+        document.add(new StringField(F_CATEGORY, source.category(), Field.Store.NO));
+        document.add(new TextField(F_TITLE, source.title() != null ? source.title() : "", Field.Store.NO));
+        document.add(new TextField(F_CONTENT, source.content() != null ? source.content() : "", Field.Store.NO));
+        document.add(new NumericDocValuesField(F_CREATED_AT, source.createdAt()));
+        return document;
+    }
+
+    // 검색어를 형태소 분석 후 모든 토큰 필수(AND)로 결합
+    private Query keywordQuery(PostSearchQuery query) {
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        Query title = queryBuilder.createBooleanQuery(F_TITLE, query.keyword(), BooleanClause.Occur.MUST);
+        Query content = queryBuilder.createBooleanQuery(F_CONTENT, query.keyword(), BooleanClause.Occur.MUST);
+        return switch (query.field()) {
+            case TITLE -> title;
+            case CONTENT -> content;
+            case ALL -> {
+                if (title == null || content == null) {
+                    yield title != null ? title : content;
+                }
+                yield new BooleanQuery.Builder()
+                        .add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                        .add(content, BooleanClause.Occur.SHOULD)
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.jibangyoung.domain.community.search;
+
+/**
+ * 게시글 작성/수정/삭제 이벤트 (커밋 후 PostSearchIndexer가 색인에 반영)
+ */
+public record PostChangedEvent(long postId) {
+}
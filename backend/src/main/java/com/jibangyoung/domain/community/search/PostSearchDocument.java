@@ -0,0 +1,33 @@
+package com.jibangyoung.domain.community.search;
+
+import java.time.ZoneId;
+
+import org.jsoup.Jsoup;
+
+import com.jibangyoung.domain.community.entity.Posts;
+
+/**
+ * 검색 색인 문서 - 본문은 HTML 태그를 제거한 텍스트만 색인
+ */
+public record PostSearchDocument(
+        long id,
+        long regionId,
+        String category,
+        String title,
+        String content,
+        long createdAt) {
+
+    public static PostSearchDocument from(Posts post) {
+        String text = post.getContent() != null ? Jsoup.parse(post.getContent()).text() : "";
+        long createdAt = post.getCreatedAt() != null
+                ? post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        return new PostSearchDocument(
+                post.getId(),
+                post.getRegionId(),
+                post.getCategory().name(),
+                post.getTitle(),
+                text,
+                createdAt);
+    }
+}
@@ -0,0 +1,37 @@
+package com.jibangyoung.domain.community.search;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 검색 엔진
+ * - search.post.engine=database (기본, 색인 없이 LIKE 검색) / lucene (노드 로컬 디스크, 절대 경로 필수) / elasticsearch (클러스터)
+ */
+public interface PostSearchEngine {
+
+    void upsert(List<PostSearchDocument> documents);
+
+    void delete(Collection<Long> postIds);
+
+    void deleteAll();
+
+    PostSearchResult search(PostSearchQuery query);
+
+    long documentCount();
+
+    /**
+     * watermark 시점까지의 변경이 반영되었음을 기록 (재시작 후 이 시점부터 이어서 동기화)
+     */
+    void commit(Instant watermark);
+
+    Optional<Instant> committedWatermark();
+
+    /**
+     * 여러 노드가 같은 색인을 공유하는지 (true면 재구축/동기화는 한 노드만 실행)
+     */
+    default boolean isShared() {
+        return false;
+    }
+}
@@ -0,0 +1,186 @@
+package com.jibangyoung.domain.community.search;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jibangyoung.domain.community.entity.Posts;
+import com.jibangyoung.domain.community.repository.PostRepository;
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🔎 게시글 검색 색인 반영
+ * - 기동 시: 색인이 비었거나 watermark가 없으면 전체 재구축, 아니면 watermark 이후 변경분만 반영
+ * - 작성/수정/삭제: 커밋 후 PostChangedEvent로 즉시 반영 (searchIndexExecutor, 단일 스레드)
+ * - 주기 동기화: updated_at 기준 변경분(삭제 포함) 반영 → 다른 노드/관리자 화면에서의 변경, 유실 이벤트 보정
+ * - 준비 전에는 검색 요청이 DB 검색으로 대체됨 (isReady)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndexer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ObjectProvider<PostSearchEngine> engineProvider;
+    private final PostRepository postRepository;
+    private final ScheduledJobRunner jobRunner;
+
+    // 긴 트랜잭션이 동기화 시작 이후 커밋되는 경우를 위한 겹침 구간
+    @Value("${search.post.sync-overlap-ms:60000}")
+    private long syncOverlapMs;
+
+    // watermark를 저장하지 않는 엔진(공유 색인)의 기동 시 재동기화 구간
+    @Value("${search.post.initial-catchup-hours:24}")
+    private long initialCatchupHours;
+
+    private volatile boolean ready;
+    private volatile Instant lastSyncedAt;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async("searchIndexExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        PostSearchEngine engine = engineProvider.getIfAvailable();
+        if (engine == null) {
+            log.info("🔎 게시글 검색 색인 미사용 (search.post.engine=database)");
+            return;
+        }
+        try {
+            Optional<Instant> watermark = engine.committedWatermark();
+            if (engine.documentCount() == 0 || (watermark.isEmpty() && !engine.isShared())) {
+                // 공유 색인을 다른 노드가 재구축 중이면 건너뛰고 주기 동기화에 맡김
+                runExclusive(engine, "post-search-rebuild", Duration.ofHours(1), () -> rebuild(engine));
+            } else {
+                // 주기 동기화와 같은 겹침 구간 적용 (watermark 이전에 기록되고 이후에 커밋된 행 포함)
+                Instant since = watermark.map(committed -> committed.minusMillis(syncOverlapMs))
+                        .orElseGet(() -> Instant.now().minus(Duration.ofHours(initialCatchupHours)));
+                syncFrom(engine, since);
+            }
+            ready = true;
+        } catch (RuntimeException e) {
+            log.error("🔎 게시글 검색 색인 초기화 실패 → DB 검색으로 대체", e);
+        }
+    }
+
+    @Async("searchIndexExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        PostSearchEngine engine = engineProvider.getIfAvailable();
+        if (engine == null || !ready) {
+            return; // 준비 전 변경은 초기화/주기 동기화에서 반영
+        }
+        try {
+            postRepository.findById(event.postId()).ifPresentOrElse(
+                    post -> engine.upsert(List.of(PostSearchDocument.from(post))),
+                    () -> engine.delete(List.of(event.postId())));
+        } catch (RuntimeException e) {
+            log.warn("🔎 게시글 색인 반영 실패 (다음 동기화에서 재시도): postId={}, error={}",
+                    event.postId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${search.post.sync-ms:60000}", fixedDelayString = "${search.post.sync-ms:60000}")
+    public void scheduledSync() {
+        PostSearchEngine engine = engineProvider.getIfAvailable();
+        if (engine == null || !ready) {
+            return;
+        }
+        runExclusive(engine, "post-search-sync", Duration.ofMinutes(5), () -> {
+            Instant since = lastSyncedAt != null
+                    ? lastSyncedAt.minusMillis(syncOverlapMs)
+                    : Instant.now().minus(Duration.ofHours(initialCatchupHours));
+            syncFrom(engine, since);
+        });
+    }
+
+    // 전체 재구축 (id 순 keyset 페이지)
+    private void rebuild(PostSearchEngine engine) {
+        Instant start = Instant.now();
+        engine.deleteAll();
+        long lastId = 0;
+        int total = 0;
+        while (true) {
+            List<Posts> posts = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BATCH_SIZE));
+            if (posts.isEmpty()) {
+                break;
+            }
+            engine.upsert(posts.stream().map(PostSearchDocument::from).toList());
+            lastId = posts.get(posts.size() - 1).getId();
+            total += posts.size();
+        }
+        engine.commit(start);
+        lastSyncedAt = start;
+        log.info("🔎 게시글 검색 색인 재구축 완료: docs={}, {}ms", total, Duration.between(start, Instant.now()).toMillis());
+    }
+
+    // since 이후 변경된 게시글(삭제 포함) 반영 후 커밋
+    private void syncFrom(PostSearchEngine engine, Instant since) {
+        Instant start = Instant.now();
+        LocalDateTime from = LocalDateTime.ofInstant(since, ZoneId.systemDefault());
+        long lastId = 0;
+        int changed = 0;
+        while (true) {
+            List<Posts> posts = postRepository.findChangedSinceIncludingDeleted(from, lastId, BATCH_SIZE);
+            if (posts.isEmpty()) {
+                break;
+            }
+            apply(engine, posts);
+            lastId = posts.get(posts.size() - 1).getId();
+            changed += posts.size();
+        }
+        engine.commit(start);
+        lastSyncedAt = start;
+        if (changed > 0) {
+            log.debug("🔎 게시글 검색 색인 동기화: changed={}, since={}", changed, since);
+        }
+    }
+
+    private void apply(PostSearchEngine engine, List<Posts> posts) {
+        List<PostSearchDocument> upserts = new ArrayList<>();
+        List<Long> deletes = new ArrayList<>();
+        for (Posts post : posts) {
+            if (post.isDeleted()) {
+                deletes.add(post.getId());
+            } else {
+                upserts.add(PostSearchDocument.from(post));
+            }
+        }
+        if (!upserts.isEmpty()) {
+            engine.upsert(upserts);
+        }
+        if (!deletes.isEmpty()) {
+            engine.delete(deletes);
+        }
+    }
+
+    // 공유 색인은 한 노드만, 노드 로컬 색인은 노드마다 실행
+    private void runExclusive(PostSearchEngine engine, String jobName, Duration lockAtMostFor, Runnable task) {
+        if (engine.isShared()) {
+            jobRunner.run(jobName, ScheduledJobRunner.Mode.LOCKED, lockAtMostFor, Duration.ZERO, task);
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jibangyoung.domain.community.search;
+
+/**
+ * 게시글 검색 조건 (regionId, category는 null이면 전체)
+ */
+public record PostSearchQuery(
+        String keyword,
+        Field field,
+        Long regionId,
+        String category,
+        Sort sort,
+        int page,
+        int size) {
+
+    public enum Field {
+        TITLE, CONTENT, ALL
+    }
+
+    public enum Sort {
+        RELEVANCE, RECENT
+    }
+
+    public int offset() {
+        return page * size;
+    }
+}
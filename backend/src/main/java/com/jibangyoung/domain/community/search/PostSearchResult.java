@@ -0,0 +1,11 @@
+package com.jibangyoung.domain.community.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 - 현재 페이지의 게시글 ID(정렬 순서 유지)와 전체 건수
+ */
+public record PostSearchResult(List<Long> postIds, long total) {
+
+    public static final PostSearchResult EMPTY = new PostSearchResult(List.of(), 0);
+}
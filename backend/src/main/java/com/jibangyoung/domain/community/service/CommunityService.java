@@ -1,27 +1,33 @@
 package com.jibangyoung.domain.community.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.OptimisticLockException;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.jibangyoung.domain.auth.entity.User;
 import com.jibangyoung.domain.auth.repository.UserRepository; // UserRepository 추가
 import com.jibangyoung.domain.community.dto.CommentRequestDto;
@@ -32,16 +38,27 @@ import com.jibangyoung.domain.community.dto.PostListDto;
 import com.jibangyoung.domain.community.dto.PostUpdateRequestDto;
 import com.jibangyoung.domain.community.dto.RegionResponseDto;
 import com.jibangyoung.domain.community.entity.PostRecommendation;
+import com.jibangyoung.domain.community.entity.PostRecommendationCount;
 import com.jibangyoung.domain.community.entity.Posts;
+import com.jibangyoung.domain.community.repository.PostRecommendationCountRepository;
 import com.jibangyoung.domain.community.repository.PostRecommendationRepository;
+import com.jibangyoung.domain.community.repository.PostCursorQueryRepository;
 import com.jibangyoung.domain.community.repository.PostRepository;
+import com.jibangyoung.domain.community.search.PostChangedEvent;
+import com.jibangyoung.domain.community.search.PostSearchQuery;
+import com.jibangyoung.domain.community.support.AuthorNicknameResolver;
+import com.jibangyoung.domain.community.support.PostBoardCountCache;
+import com.jibangyoung.domain.community.support.PostViewCountBuffer;
 import com.jibangyoung.domain.community.support.S3ImageManager;
 import com.jibangyoung.domain.mypage.entity.Comment;
 import com.jibangyoung.domain.mypage.entity.UserActivityEvent;
 import com.jibangyoung.domain.mypage.repository.CommentRepository;
 import com.jibangyoung.domain.mypage.repository.UserActivityEventRepository;
-import com.jibangyoung.domain.policy.entity.Region;
-import com.jibangyoung.domain.policy.repository.RegionRepository;
+import com.jibangyoung.domain.policy.support.RegionCatalog;
+import com.jibangyoung.global.cache.TwoLevelCache;
+import com.jibangyoung.global.cache.TwoLevelCacheFactory;
+import com.jibangyoung.global.common.CursorPage;
+import com.jibangyoung.global.common.SeekCursor;
 import com.jibangyoung.global.exception.BusinessException;
 import com.jibangyoung.global.exception.ErrorCode;
 
@@ -51,14 +68,45 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommunityService {
     private final PostRepository postRepository;
-    private final RegionRepository regionRepository;
+    private final RegionCatalog regionCatalog;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PostRecommendationRepository postRecommendationRepository;
+    private final PostRecommendationCountRepository postRecommendationCountRepository;
     private final UserActivityEventRepository userActivityEventRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
     private final S3ImageManager s3ImageManager;
+    private final AuthorNicknameResolver authorNicknameResolver;
+    private final PostViewCountBuffer viewCountBuffer;
+    private final TwoLevelCacheFactory cacheFactory;
+    private final PostSearchService postSearchService;
+    private final PostCursorQueryRepository postCursorQueryRepository;
+    private final PostBoardCountCache boardCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // getAllRegionsBoard 결과 (RegionCatalog 버전 단위 메모이제이션)
+    private volatile RegionBoardSnapshot regionBoardSnapshot;
+
+    // 인기글/인기 후기 TOP 10 캐시 (키 = 기간별 목록)
+    private static final String POPULAR_POST_CACHE = "community:popular";
+    private static final String TODAY_TOP10_KEY = "top10TodayPosts";
+    private static final String WEEKLY_TOP10_KEY = "top10WeeklyPosts";
+    private static final String MONTHLY_TOP10_KEY = "top10MonthlyPosts";
+    private static final String REVIEW_TOP10_KEY = "top10ReviewPosts";
+
+    private TwoLevelCache<List<PostListDto>> popularPostCache;
+
+    // 추천글 기준 추천 수
+    private static final int POPULAR_MIN_LIKES = 10;
+
+    @PostConstruct
+    public void initCache() {
+        // 스케줄러가 5분마다 선갱신, 장애 시 1시간까지 이전 값 제공
+        popularPostCache = cacheFactory.builder(POPULAR_POST_CACHE, new TypeReference<List<PostListDto>>() {
+        })
+                .ttl(Duration.ofMinutes(10))
+                .staleTtl(Duration.ofHours(1))
+                .build();
+    }
 
     private void logActivity(Long userId, Integer regionId, String actionType, Long refId, Long parentRefId, Integer scoreDelta) {
         try {
@@ -76,70 +124,44 @@ public class CommunityService {
         }
     }
 
+    // 추천/취소/유형 변경 - 조건부 DML + 원자적 카운터 증감 (낙관적 락 재시도 없음)
     @Transactional
     public void recommendPost(Long postId, Long userId, String recommendationType) {
-        int retryCount = 3;
-        for (int i = 0; i < retryCount; i++) {
-            try {
-                performRecommendPost(postId, userId, recommendationType);
-                return; // 성공 시 메서드 종료
-            } catch (OptimisticLockException e) {
-                if (i == retryCount - 1) {
-                    throw new RuntimeException("추천 처리 중 오류가 발생했습니다. 다시 시도해주세요.", e);
-                }
-                // 잠시 대기 후 재시도
-                try {
-                    Thread.sleep(50); // 50ms 대기
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("추천 처리가 중단되었습니다.", ie);
-                }
-            }
+        if (!PostRecommendationCount.RECOMMENDATION_TYPES.contains(recommendationType)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
-    }
-
-    private void performRecommendPost(Long postId, Long userId, String recommendationType) {
-        Posts post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 사용자가 이미 이 게시글을 추천했는지 확인 (5개 중 1개만 가능)
         Optional<PostRecommendation> existingRecommendation = postRecommendationRepository.findByUserIdAndPostId(userId, postId);
-        if (existingRecommendation.isPresent()) {
-            // 기존 추천이 있으면 타입만 변경 (5개 중 1개만 선택 가능)
-            PostRecommendation recommendation = existingRecommendation.get();
-            String oldType = recommendation.getRecommendationType();
-            
+        if (existingRecommendation.isEmpty()) {
+            // 새로운 추천 저장 - 동시 요청은 유니크 제약으로 한 건만 반영
+            if (postRecommendationRepository.insertIfAbsent(userId, postId, recommendationType) == 1) {
+                postRecommendationCountRepository.increment(postId, recommendationType);
+                postRepository.incrementLikes(postId);
+            }
+            return;
+        }
+
+        String oldType = existingRecommendation.get().getRecommendationType();
+        if (oldType.equals(recommendationType)) {
             // 같은 타입이면 추천 취소
-            if (oldType.equals(recommendationType)) {
-                postRecommendationRepository.delete(recommendation);
-                post.decrementLikes();
-            } else {
-                // 다른 타입이면 변경 (좋아요 수는 유지)
-                PostRecommendation updatedRecommendation = PostRecommendation.builder()
-                        .id(recommendation.getId())
-                        .user(user)
-                        .post(post)
-                        .recommendationType(recommendationType)
-                        .build();
-                postRecommendationRepository.save(updatedRecommendation);
+            if (postRecommendationRepository.deleteIfType(userId, postId, oldType) == 1) {
+                postRecommendationCountRepository.decrement(postId, oldType);
+                postRepository.decrementLikes(postId);
             }
         } else {
-            // 새로운 추천 저장
-            PostRecommendation recommendation = PostRecommendation.builder()
-                    .user(user)
-                    .post(post)
-                    .recommendationType(recommendationType)
-                    .build();
-            postRecommendationRepository.save(recommendation);
-            
-            // 게시글 좋아요 수 증가
-            post.incrementLikes();
+            // 다른 타입이면 변경 (좋아요 수는 유지)
+            if (postRecommendationRepository.updateTypeIfType(userId, postId, oldType, recommendationType) == 1) {
+                postRecommendationCountRepository.decrement(postId, oldType);
+                postRecommendationCountRepository.increment(postId, recommendationType);
+            }
         }
-        
-        postRepository.save(post); // 변경된 likes 수를 저장
     }
 
     public String getUserRecommendationType(Long postId, Long userId) {
@@ -150,91 +172,107 @@ public class CommunityService {
     // 지역 코드
     // 지역 시도
     // 지역 군구 - (없으면 시도)
-    @Transactional
+    // RegionCatalog 스냅샷 버전이 같으면 이전 결과 재사용
     public List<RegionResponseDto> getAllRegionsBoard() {
-        List<Region> regions = regionRepository.findAllByOrderByRegionCode();
+        long version = regionCatalog.version();
+        RegionBoardSnapshot cached = regionBoardSnapshot;
+        if (cached != null && cached.version() == version) {
+            return cached.regions();
+        }
 
         Map<String, Map<String, RegionResponseDto>> regionMap = new LinkedHashMap<>();
 
         // 시도 , 군구1 + 군구2 데이터 통합
         // 시도 : 경기도
         // 군구 : 수원시 팔달구
-        for (Region region : regions) {
-            if (region.getRegionCode() == 99999) {
+        for (RegionCatalog.RegionEntry region : regionCatalog.entries()) {
+            if (region.code() == RegionCatalog.NATIONAL_CODE) {
                 continue;
             }
-            String sido = region.getSido();
-            String guGun1 = region.getGuGun1();
+            String sido = region.sido();
+            String guGun1 = region.guGun1();
 
             String finalGuGun = (guGun1 == null || guGun1.trim().isEmpty()) ? sido : guGun1;
-            finalGuGun += (region.getGuGun2() == null || region.getGuGun2().trim().isEmpty()) ? ""
-                    : " " + region.getGuGun2();
+            finalGuGun += (region.guGun2() == null || region.guGun2().trim().isEmpty()) ? ""
+                    : " " + region.guGun2();
 
             regionMap.putIfAbsent(sido, new HashMap<>());
             Map<String, RegionResponseDto> guGunMap = regionMap.get(sido);
 
             RegionResponseDto dto = RegionResponseDto.builder()
-                    .regionCode(region.getRegionCode())
+                    .regionCode(region.code())
                     .sido(sido)
                     .guGun(finalGuGun)
                     .build();
             guGunMap.put(finalGuGun, dto);
         }
 
-        return regionMap.values().stream()
+        List<RegionResponseDto> regions = regionMap.values().stream()
                 .flatMap(guGunMap -> guGunMap.values().stream())
                 .sorted(Comparator.comparing(RegionResponseDto::getRegionCode))
-                .collect(Collectors.toList());
+                .toList();
+        regionBoardSnapshot = new RegionBoardSnapshot(version, regions);
+        return regions;
+    }
+
+    private record RegionBoardSnapshot(long version, List<RegionResponseDto> regions) {
     }
 
     // 카테고리가 정착후기인 게시글 중,
     // 추천 수 기준 상위 10개를 내림차 순 조회.
     @Transactional
     public List<PostListDto> getTopReviews() {
-        return postRepository
-                .findTop10ByCategoryOrderByLikesDesc(Posts.PostCategory.REVIEW)
-                .stream()
-                .map(this::convertToPostListDtoWithNickname)
-                .collect(Collectors.toList());
+        return toPostListDtos(postRepository.findTop10ByCategoryOrderByLikesDesc(Posts.PostCategory.REVIEW));
     }
 
     // 최근 since 시점 이후 작성된 게시글 중,
     // 추천 수 기준 상위 10개를 내림차 순 조회.
     @Transactional
     public List<PostListDto> getRecentTop10(LocalDateTime since) {
-        return postRepository.findTop10ByCreatedAtAfterOrderByLikesDesc(since).stream()
-                .map(this::convertToPostListDtoWithNickname)
-                .collect(Collectors.toList());
+        return toPostListDtos(postRepository.findTop10ByCreatedAtAfterOrderByLikesDesc(since));
     }
 
     @Transactional
     public List<PostListDto> getCachedTop10ByPeriod(String period) {
         String key = switch (period.toLowerCase()) {
-            case "week" -> "top10WeeklyPosts";
-            case "month" -> "top10MonthlyPosts";
-            default -> "top10TodayPosts"; // 기본값
+            case "week" -> WEEKLY_TOP10_KEY;
+            case "month" -> MONTHLY_TOP10_KEY;
+            default -> TODAY_TOP10_KEY; // 기본값
         };
-        return getCachedPostList(key);
+        return popularPostCache.get(key, popularPostLoader(key));
     }
 
-    // Redis에 저장된 게시글 리스트를 가져와 PostListDto 리스트로 변환
-    private List<PostListDto> getCachedPostList(String cacheKey) {
-        Object raw = redisTemplate.opsForValue().get(cacheKey);
-        if (raw == null) {
-            return Collections.emptyList();
+    // 인기글/인기 후기 캐시 선갱신 (PostCacheScheduler)
+    public void refreshPopularPostCaches() {
+        for (String key : List.of(TODAY_TOP10_KEY, WEEKLY_TOP10_KEY, MONTHLY_TOP10_KEY, REVIEW_TOP10_KEY)) {
+            popularPostCache.refresh(key, popularPostLoader(key));
         }
-        @SuppressWarnings("unchecked")
-        List<Object> rawList = (List<Object>) raw;
-        return rawList.stream()
-                .map(item -> objectMapper.convertValue(item, PostListDto.class))
-                .collect(Collectors.toList());
+    }
+
+    // 캐시 키별 DB 조회 (기간은 로드 시점 기준)
+    private Supplier<List<PostListDto>> popularPostLoader(String key) {
+        return switch (key) {
+            case WEEKLY_TOP10_KEY -> () -> getRecentTop10(LocalDateTime.now().minusWeeks(1));
+            case MONTHLY_TOP10_KEY -> () -> getRecentTop10(LocalDateTime.now().minusMonths(1));
+            case REVIEW_TOP10_KEY -> this::getTopReviews;
+            default -> () -> getRecentTop10(LocalDateTime.now().minusDays(1));
+        };
     }
 
     @Transactional
     public Page<PostListDto> getPopularPostsPage(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<Posts> postPage = postRepository.findByLikesGreaterThanEqualOrderByIdDesc(10, pageable);
-        return postPage.map(this::convertToPostListDtoWithNickname);
+        List<Posts> posts = postRepository.findByLikesGreaterThanEqualOrderByIdDesc(POPULAR_MIN_LIKES, pageable);
+        return toPostListDtoPage(new PageImpl<>(posts, pageable, boardCountCache.countPopular(POPULAR_MIN_LIKES)));
+    }
+
+    // 전체 추천글 - 커서(키셋) 페이지
+    @Transactional(readOnly = true)
+    public CursorPage<PostListDto> getPopularPostsCursor(String cursor, int size) {
+        List<Posts> fetched = postCursorQueryRepository.findPopularPage(POPULAR_MIN_LIKES, SeekCursor.decodeIdOnly(cursor),
+                size + 1);
+        return CursorPage.of(fetched, size, post -> new SeekCursor(null, post.getId()), this::toPostListDtos,
+                boardCountCache.countPopular(POPULAR_MIN_LIKES));
     }
 
     @Transactional
@@ -250,111 +288,150 @@ public class CommunityService {
             // 검색어가 있는 경우
             switch (searchType) {
                 case "title":
-                    postPage = postRepository.findByRegionIdAndTitleContainingOrderByCreatedAtDesc(regionId, search,
-                            pageable);
+                    // 검색 색인 우선, 미사용/장애 시 LIKE 검색
+                    postPage = searchIndexed(search, PostSearchQuery.Field.TITLE, regionId, null,
+                            PostSearchQuery.Sort.RECENT, pageable)
+                            .orElseGet(() -> postRepository.findByRegionIdAndTitleContainingOrderByCreatedAtDesc(
+                                    regionId, search, pageable));
                     break;
                 case "content":
-                    postPage = postRepository.findByRegionIdAndContentContainingOrderByCreatedAtDesc(regionId, search,
-                            pageable);
+                    postPage = searchIndexed(search, PostSearchQuery.Field.CONTENT, regionId, null,
+                            PostSearchQuery.Sort.RECENT, pageable)
+                            .orElseGet(() -> postRepository.findByRegionIdAndContentContainingOrderByCreatedAtDesc(
+                                    regionId, search, pageable));
                     break;
                 case "author":
                     postPage = postRepository.findByRegionIdAndAuthorNicknameContaining(regionId, search, pageable);
                     break;
                 default:
-                    postPage = postRepository.findByRegionIdOrderByCreatedAtDesc(regionId, pageable);
+                    postPage = new PageImpl<>(postRepository.findByRegionIdOrderByCreatedAtDescIdDesc(regionId, pageable),
+                            pageable, boardCountCache.countByRegion(regionId));
                     break;
             }
         } else if (category == null || category.equals("all")) {
-            postPage = postRepository.findByRegionIdOrderByCreatedAtDesc(regionId, pageable);
+            // 목록은 COUNT 없이 조회, 전체 건수는 캐시
+            postPage = new PageImpl<>(postRepository.findByRegionIdOrderByCreatedAtDescIdDesc(regionId, pageable),
+                    pageable, boardCountCache.countByRegion(regionId));
         } else if (category.equals("popular")) {
             // 인기글은 지역별로 필터링하면서 좋아요 수 기준으로 정렬
-            postPage = postRepository.findByRegionIdAndLikesGreaterThanEqualOrderByCreatedAtDesc(regionId, 10,
-                    pageable);
+            postPage = new PageImpl<>(postRepository.findByRegionIdAndLikesGreaterThanEqualOrderByCreatedAtDescIdDesc(
+                    regionId, POPULAR_MIN_LIKES, pageable),
+                    pageable, boardCountCache.countPopularByRegion(regionId, POPULAR_MIN_LIKES));
         } else {
             // 특정 카테고리 필터링
             Posts.PostCategory postCategory = Posts.PostCategory.valueOf(category.toUpperCase());
-            postPage = postRepository.findByRegionIdAndCategoryOrderByCreatedAtDesc(regionId, postCategory, pageable);
+            postPage = new PageImpl<>(postRepository.findByRegionIdAndCategoryOrderByCreatedAtDescIdDesc(
+                    regionId, postCategory, pageable),
+                    pageable, boardCountCache.countByRegionAndCategory(regionId, postCategory));
         }
-        return postPage.map(this::convertToPostListDtoWithNickname);
+        return toPostListDtoPage(postPage);
     }
 
-    private PostListDto convertToPostListDtoWithNickname(Posts post) {
-        User author = userRepository.findById(post.getUserId()).orElse(null);
-        String nickname = "알 수 없음";
-        if (author != null) {
-            nickname = (author.getNickname() != null && !author.getNickname().trim().isEmpty()) 
-                ? author.getNickname() 
-                : author.getUsername();
+    // 지역 게시판 - 커서(키셋) 페이지 (category: all | popular | FREE/QUESTION/REVIEW/NOTICE)
+    // 깊은 페이지도 OFFSET 없이 인덱스 범위 스캔, 전체 건수는 캐시된 추정치
+    @Transactional(readOnly = true)
+    public CursorPage<PostListDto> getPostsByRegionCursor(String regionCode, String category, String cursor, int size) {
+        long regionId = Long.parseLong(regionCode);
+        SeekCursor seek = SeekCursor.decodeCreatedAtAndId(cursor);
+
+        List<Posts> fetched;
+        long total;
+        if (category == null || category.equals("all")) {
+            fetched = postCursorQueryRepository.findRegionBoardPage(regionId, null, null, seek, size + 1);
+            total = boardCountCache.countByRegion(regionId);
+        } else if (category.equals("popular")) {
+            fetched = postCursorQueryRepository.findRegionBoardPage(regionId, null, POPULAR_MIN_LIKES, seek, size + 1);
+            total = boardCountCache.countPopularByRegion(regionId, POPULAR_MIN_LIKES);
+        } else {
+            Posts.PostCategory postCategory = Posts.PostCategory.valueOf(category.toUpperCase());
+            fetched = postCursorQueryRepository.findRegionBoardPage(regionId, postCategory, null, seek, size + 1);
+            total = boardCountCache.countByRegionAndCategory(regionId, postCategory);
         }
-        return PostListDto.fromWithNickname(post, nickname);
+        return CursorPage.of(fetched, size, post -> new SeekCursor(post.getCreatedAt(), post.getId()),
+                this::toPostListDtos, total);
+    }
+
+    // 게시글 검색 (제목+내용, 지역/카테고리 필터, 정확도순/최신순)
+    @Transactional(readOnly = true)
+    public Page<PostListDto> searchPosts(String keyword, Long regionId, String category, String sort, int page,
+            int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Page.empty(pageable);
+        }
+        String trimmed = keyword.trim();
+        Posts.PostCategory postCategory = (category == null || category.equals("all"))
+                ? null
+                : Posts.PostCategory.valueOf(category.toUpperCase());
+        PostSearchQuery.Sort order = "recent".equalsIgnoreCase(sort)
+                ? PostSearchQuery.Sort.RECENT
+                : PostSearchQuery.Sort.RELEVANCE;
+
+        Page<Posts> postPage = searchIndexed(trimmed, PostSearchQuery.Field.ALL, regionId, postCategory, order, pageable)
+                .orElseGet(() -> postRepository.searchByKeyword(regionId, postCategory, trimmed, pageable));
+        return toPostListDtoPage(postPage);
+    }
+
+    // 검색 색인으로 현재 페이지 ID 조회 후 게시글 일괄 로딩 (색인 순서 유지)
+    // 색인 미사용/준비 전/장애 시 empty
+    private Optional<Page<Posts>> searchIndexed(String keyword, PostSearchQuery.Field field, Long regionId,
+            Posts.PostCategory category, PostSearchQuery.Sort sort, Pageable pageable) {
+        PostSearchQuery query = new PostSearchQuery(keyword.trim(), field, regionId,
+                category != null ? category.name() : null, sort, pageable.getPageNumber(), pageable.getPageSize());
+        return postSearchService.search(query).map(result -> {
+            Map<Long, Posts> postsById = postRepository.findAllById(result.postIds()).stream()
+                    .collect(Collectors.toMap(Posts::getId, Function.identity()));
+            List<Posts> ordered = result.postIds().stream()
+                    .map(postsById::get)
+                    .filter(Objects::nonNull) // 색인 반영 전에 삭제된 글 제외
+                    .collect(Collectors.toList());
+            return new PageImpl<>(ordered, pageable, result.total());
+        });
+    }
+
+    // 목록 변환 - 작성자 닉네임은 페이지 단위로 한 번에 조회
+    private List<PostListDto> toPostListDtos(List<Posts> posts) {
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(
+                posts.stream().map(Posts::getUserId).collect(Collectors.toSet()));
+        return posts.stream()
+                .map(post -> PostListDto.fromWithNickname(post,
+                        nicknames.getOrDefault(post.getUserId(), AuthorNicknameResolver.UNKNOWN_NICKNAME)))
+                .collect(Collectors.toList());
+    }
+
+    private Page<PostListDto> toPostListDtoPage(Page<Posts> postPage) {
+        Map<Long, String> nicknames = authorNicknameResolver.resolve(
+                postPage.getContent().stream().map(Posts::getUserId).collect(Collectors.toSet()));
+        return postPage.map(post -> PostListDto.fromWithNickname(post,
+                nicknames.getOrDefault(post.getUserId(), AuthorNicknameResolver.UNKNOWN_NICKNAME)));
     }
 
     @Transactional(readOnly = true)
     public PostDetailDto getPostDetail(Long postId) {
         Posts post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
-        
-        
-        // 조회수 증가는 별도 트랜잭션에서 처리
+
+        // 조회수는 버퍼에 누적 후 주기적으로 DB 반영 (PostViewCountFlushScheduler)
         increaseViewCount(postId);
-        
+
         // 작성자 정보 조회
-        User author = userRepository.findById(post.getUserId()).orElse(null);
-        String nickname = "알 수 없음";
-        if (author != null) {
-            nickname = (author.getNickname() != null && !author.getNickname().trim().isEmpty()) 
-                ? author.getNickname() 
-                : author.getUsername();
-        }
-        
-        return PostDetailDto.fromWithNickname(post, nickname);
+        String nickname = authorNicknameResolver.resolve(post.getUserId());
+
+        // 아직 반영되지 않은 조회수까지 포함해 응답 (이전 응답보다 작아지지 않음)
+        int views = (int) viewCountBuffer.displayedViews(postId, post.getViews());
+        return PostDetailDto.fromWithNickname(post, nickname, views);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void increaseViewCount(Long postId) {
-        try {
-            Posts post = postRepository.findById(postId).orElse(null);
-            if (post != null) {
-                post.increaseViews();
-                postRepository.save(post);
-            }
-        } catch (OptimisticLockException e) {
-            // 조회수 증가 실패 시 무시 (조회수는 정확성보다 성능이 중요)
-            // 로그만 남기고 예외는 전파하지 않음
-        }
+        viewCountBuffer.increment(postId);
     }
 
     @Transactional
     public Long write(PostCreateRequestDto request) {
         String content = request.getContent();
 
-        // 본문에서 사용된 temp 이미지 key 추출
-        List<String> usedTempKeys = s3ImageManager.extractUsedTempImageKeys(content);
-
-        // 모든 temp/ 이미지 key 조회
-        List<String> allTempKeys = s3ImageManager.getAllTempImageKeys();
-
-        // 사용된 temp 이미지 post-images/로 복사
-        Map<String, String> urlMapping = new HashMap<>();
-        for (String tempKey : usedTempKeys) {
-            String newKey = tempKey.replace("temp/", "post-images/");
-            s3ImageManager.copyObject(tempKey, newKey);
-            s3ImageManager.deleteObject(tempKey);
-
-            String oldUrl = s3ImageManager.getPublicUrl(tempKey);
-            String newUrl = s3ImageManager.getPublicUrl(newKey);
-            urlMapping.put(oldUrl, newUrl);
-        }
-
-        // 4. content temp 이미지 URL, post-images/ URL로 변경
-        for (Map.Entry<String, String> entry : urlMapping.entrySet()) {
-            content = content.replace(entry.getKey(), entry.getValue());
-        }
-
-        // 사용되지 않은 temp 이미지 삭제
-        allTempKeys.stream()
-                .filter(key -> !usedTempKeys.contains(key))
-                .forEach(s3ImageManager::deleteObject);
+        // 사용된 temp 이미지 post-images/로 병렬 복사 + URL 치환 (temp 원본은 커밋 후 일괄 삭제)
+        content = promoteTempImages(content);
 
         // 썸네일 재추출 (post-images로 치환된 content 기준)
         String thumbnailUrl = Optional.ofNullable(
@@ -364,6 +441,7 @@ public class CommunityService {
         // 게시글 저장
         Posts post = request.toEntity(thumbnailUrl, content);
         Posts savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
         
         // 활동 로그 기록
         logActivity(savedPost.getUserId(), (int) savedPost.getRegionId(), "POST", savedPost.getId(), null, 18);
@@ -371,6 +449,39 @@ public class CommunityService {
         return savedPost.getId();
     }
 
+    /**
+     * 본문 temp/ 이미지를 post-images/로 병렬 복사하고 URL 치환
+     * - 커밋 시 temp 원본을, 롤백 시 복사본을 DeleteObjects 1회로 정리
+     * - 사용되지 않은 temp 이미지는 TempImageSweeper가 업로드 후 일정 시간이 지나면 정리
+     */
+    private String promoteTempImages(String content) {
+        List<String> usedTempKeys = s3ImageManager.extractUsedTempImageKeys(content);
+        if (usedTempKeys.isEmpty()) {
+            return content;
+        }
+
+        Map<String, String> promoted = s3ImageManager.promoteTempImages(usedTempKeys);
+        for (Map.Entry<String, String> entry : promoted.entrySet()) {
+            content = content.replace(
+                    s3ImageManager.getPublicUrl(entry.getKey()),
+                    s3ImageManager.getPublicUrl(entry.getValue()));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    s3ImageManager.deleteObjectsAsync(status == STATUS_COMMITTED
+                            ? promoted.keySet()
+                            : promoted.values());
+                }
+            });
+        } else {
+            s3ImageManager.deleteObjectsAsync(promoted.keySet());
+        }
+        return content;
+    }
+
     // 게시글 수정
     @Transactional
     public void updatePost(Long postId, Long userId, PostUpdateRequestDto request, boolean isAdmin) {
@@ -406,33 +517,8 @@ public class CommunityService {
 
         String content = request.getContent();
 
-        // 본문에서 사용된 temp 이미지 key 추출
-        List<String> usedTempKeys = s3ImageManager.extractUsedTempImageKeys(content);
-
-        // 모든 temp/ 이미지 key 조회
-        List<String> allTempKeys = s3ImageManager.getAllTempImageKeys();
-
-        // 사용된 temp 이미지 post-images/로 복사
-        Map<String, String> urlMapping = new HashMap<>();
-        for (String tempKey : usedTempKeys) {
-            String newKey = tempKey.replace("temp/", "post-images/");
-            s3ImageManager.copyObject(tempKey, newKey);
-            s3ImageManager.deleteObject(tempKey);
-
-            String oldUrl = s3ImageManager.getPublicUrl(tempKey);
-            String newUrl = s3ImageManager.getPublicUrl(newKey);
-            urlMapping.put(oldUrl, newUrl);
-        }
-
-        // content temp 이미지 URL, post-images/ URL로 변경
-        for (Map.Entry<String, String> entry : urlMapping.entrySet()) {
-            content = content.replace(entry.getKey(), entry.getValue());
-        }
-
-        // 사용되지 않은 temp 이미지 삭제
-        allTempKeys.stream()
-                .filter(key -> !usedTempKeys.contains(key))
-                .forEach(s3ImageManager::deleteObject);
+        // 사용된 temp 이미지 post-images/로 병렬 복사 + URL 치환 (temp 원본은 커밋 후 일괄 삭제)
+        content = promoteTempImages(content);
 
         // 썸네일 재추출 (post-images로 치환된 content 기준)
         String thumbnailUrl = Optional.ofNullable(
@@ -451,6 +537,7 @@ public class CommunityService {
         
         // 명시적으로 저장
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     @Transactional
@@ -466,60 +553,42 @@ public class CommunityService {
         // 활동 로그 기록 (삭제 전에 기록)
         logActivity(userId, (int) post.getRegionId(), "POST", postId, null, -18);
         
-        postRepository.delete(post);
+        post.softDelete();
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     @Transactional
     public Page<PostListDto> getPostsByRegionPopular(String regionCode, int page, int size) {
         int pageIndex = page - 1; // PageRequest는 0-based
         Pageable pageable = PageRequest.of(pageIndex, size);
-        Page<Posts> postPage = postRepository
-                .findByRegionIdAndLikesGreaterThanEqualOrderByCreatedAtDesc(Long.valueOf(regionCode), 10, pageable);
-        return postPage.map(this::convertToPostListDtoWithNickname);
+        long regionId = Long.parseLong(regionCode);
+        List<Posts> posts = postRepository.findByRegionIdAndLikesGreaterThanEqualOrderByCreatedAtDescIdDesc(
+                regionId, POPULAR_MIN_LIKES, pageable);
+        return toPostListDtoPage(new PageImpl<>(posts, pageable,
+                boardCountCache.countPopularByRegion(regionId, POPULAR_MIN_LIKES)));
     }
 
     // 인기 후기
     @Transactional
     public List<PostListDto> getTopReviewPosts() {
-        String redisKey = "top10ReviewPosts";
-
-        // 1️⃣ Redis 캐시에서 바로 조회
-        Object raw = redisTemplate.opsForValue().get(redisKey);
-        if (raw == null) {
-            return Collections.emptyList(); // 캐시 없으면 빈 리스트 반환
-        }
-
-        @SuppressWarnings("unchecked")
-        List<Object> rawList = (List<Object>) raw;
-        return rawList.stream()
-                .map(item -> objectMapper.convertValue(item, PostListDto.class))
-                .collect(Collectors.toList());
+        return popularPostCache.get(REVIEW_TOP10_KEY, popularPostLoader(REVIEW_TOP10_KEY));
     }
 
     @Transactional(readOnly = true)
     public List<PostListDto> getNotices() {
-        return postRepository.findTop2ByIsNoticeTrueOrderByCreatedAtDesc()
-                .stream()
-                .map(this::convertToPostListDtoWithNickname)
-                .collect(Collectors.toList());
+        return toPostListDtos(postRepository.findTop2ByIsNoticeTrueOrderByCreatedAtDesc());
     }
 
     // 지역별 공지사항 조회 (갯수 제한 없음)
     @Transactional(readOnly = true)
     public List<PostListDto> getNoticesByRegion(Long regionId) {
-        return postRepository.findByRegionIdAndIsNoticeTrueOrderByCreatedAtDesc(regionId)
-                .stream()
-                .map(this::convertToPostListDtoWithNickname)
-                .collect(Collectors.toList());
+        return toPostListDtos(postRepository.findByRegionIdAndIsNoticeTrueOrderByCreatedAtDesc(regionId));
     }
 
     // 지역별 인기글 조회
     @Transactional(readOnly = true)
     public List<PostListDto> getPopularPostsByRegion(Long regionId) {
-        return postRepository.findTop10ByRegionIdOrderByLikesDesc(regionId)
-                .stream()
-                .map(this::convertToPostListDtoWithNickname)
-                .collect(Collectors.toList());
+        return toPostListDtos(postRepository.findTop10ByRegionIdOrderByLikesDesc(regionId));
     }
 
     // 댓글 관련 로직 추가
@@ -605,27 +674,19 @@ public class CommunityService {
         commentRepository.delete(comment);
     }
 
-    // 게시글의 각 추천 유형별 개수 조회
+    // 게시글의 각 추천 유형별 개수 조회 (카운터 테이블 PK 조회)
     @Transactional(readOnly = true)
     public Map<String, Long> getRecommendationCounts(Long postId) {
-        List<Object[]> results = postRecommendationRepository.countRecommendationsByPostIdGroupByType(postId);
-        
         Map<String, Long> counts = new HashMap<>();
-        
+
         // 모든 추천 유형에 대해 기본값 0 설정
-        counts.put("쏠쏠정보", 0L);
-        counts.put("흥미진진", 0L);
-        counts.put("공감백배", 0L);
-        counts.put("분석탁월", 0L);
-        counts.put("후속강추", 0L);
-        
+        PostRecommendationCount.RECOMMENDATION_TYPES.forEach(type -> counts.put(type, 0L));
+
         // 실제 데이터로 업데이트
-        for (Object[] result : results) {
-            String recommendationType = (String) result[0];
-            Long count = (Long) result[1];
-            counts.put(recommendationType, count);
+        for (PostRecommendationCount count : postRecommendationCountRepository.findByPostId(postId)) {
+            counts.put(count.getRecommendationType(), count.getCount());
         }
-        
+
         return counts;
     }
 }
\ No newline at end of file
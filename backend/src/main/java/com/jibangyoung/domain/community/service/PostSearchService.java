@@ -0,0 +1,37 @@
+package com.jibangyoung.domain.community.service;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import com.jibangyoung.domain.community.search.PostSearchEngine;
+import com.jibangyoung.domain.community.search.PostSearchIndexer;
+import com.jibangyoung.domain.community.search.PostSearchQuery;
+import com.jibangyoung.domain.community.search.PostSearchResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 검색 색인 조회 - 색인 미사용/준비 전/장애 시 empty (호출 측에서 DB 검색으로 대체)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private final ObjectProvider<PostSearchEngine> engineProvider;
+    private final PostSearchIndexer indexer;
+
+    public Optional<PostSearchResult> search(PostSearchQuery query) {
+        PostSearchEngine engine = engineProvider.getIfAvailable();
+        if (engine == null || !indexer.isReady()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(engine.search(query));
+        } catch (RuntimeException e) {
+            log.warn("게시글 검색 색인 조회 실패 → DB 검색으로 대체: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
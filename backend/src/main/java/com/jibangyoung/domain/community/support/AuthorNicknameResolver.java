@@ -0,0 +1,102 @@
+package com.jibangyoung.domain.community.support;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.jibangyoung.domain.auth.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 게시글 목록의 작성자 닉네임을 한 번에 조회 (N+1 방지)
+// 닉네임 변경 시 evict() 호출 필요
+@Component
+@RequiredArgsConstructor
+public class AuthorNicknameResolver {
+
+    public static final String UNKNOWN_NICKNAME = "알 수 없음";
+
+    private static final long MAX_CACHE_SIZE = 10_000;
+    private static final long CACHE_TTL_MINUTES = 10;
+
+    private final UserRepository userRepository;
+
+    private final Cache<Long, String> nicknameCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHE_SIZE)
+            .expireAfterWrite(CACHE_TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    // userId 목록 -> 닉네임 맵 (캐시 미스분만 IN 쿼리 1회)
+    public Map<Long, String> resolve(Collection<Long> userIds) {
+        Map<Long, String> result = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+
+        for (Long userId : userIds) {
+            if (userId == null || result.containsKey(userId)) {
+                continue;
+            }
+            String cached = nicknameCache.getIfPresent(userId);
+            if (cached != null) {
+                result.put(userId, cached);
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<Object[]> rows = userRepository.findNicknamesByIdIn(misses);
+            for (Object[] row : rows) {
+                Long userId = (Long) row[0];
+                String nickname = displayName((String) row[1], (String) row[2]);
+                nicknameCache.put(userId, nickname);
+                result.put(userId, nickname);
+            }
+            // 탈퇴 등으로 존재하지 않는 사용자는 캐시하지 않음
+            misses.stream()
+                    .filter(userId -> !result.containsKey(userId))
+                    .forEach(userId -> result.put(userId, UNKNOWN_NICKNAME));
+        }
+        return result;
+    }
+
+    public String resolve(Long userId) {
+        if (userId == null) {
+            return UNKNOWN_NICKNAME;
+        }
+        return resolve(List.of(userId)).getOrDefault(userId, UNKNOWN_NICKNAME);
+    }
+
+    // 닉네임 변경 시 호출 - 트랜잭션 안이면 커밋 이후에 제거 (커밋 전 재적재 방지)
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        nicknameCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    nicknameCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    // 닉네임이 비어 있으면 username으로 대체 (기존 규칙 유지)
+    private String displayName(String nickname, String username) {
+        if (nickname != null && !nickname.trim().isEmpty()) {
+            return nickname;
+        }
+        return username != null ? username : UNKNOWN_NICKNAME;
+    }
+}
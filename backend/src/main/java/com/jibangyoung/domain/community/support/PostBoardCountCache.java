@@ -0,0 +1,58 @@
+package com.jibangyoung.domain.community.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.jibangyoung.domain.community.entity.Posts;
+import com.jibangyoung.domain.community.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 게시판 전체 건수 캐시 (지역/카테고리별) - 페이지 요청마다 COUNT(*)를 실행하지 않음
+// TTL 동안은 추정치 (작성/삭제 직후 최대 1분 차이)
+@Component
+@RequiredArgsConstructor
+public class PostBoardCountCache {
+
+    private static final long MAX_CACHE_SIZE = 10_000;
+    private static final long CACHE_TTL_SECONDS = 60;
+
+    private final PostRepository postRepository;
+
+    private final Cache<String, Long> counts = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHE_SIZE)
+            .expireAfterWrite(CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    public long countByRegion(long regionId) {
+        return get("region:" + regionId, () -> postRepository.countByRegionId(regionId));
+    }
+
+    public long countByRegionAndCategory(long regionId, Posts.PostCategory category) {
+        return get("region:" + regionId + ":" + category.name(),
+                () -> postRepository.countByRegionIdAndCategory(regionId, category));
+    }
+
+    public long countPopularByRegion(long regionId, int minLikes) {
+        return get("region:" + regionId + ":likes>=" + minLikes,
+                () -> postRepository.countByRegionIdAndLikesGreaterThanEqual(regionId, minLikes));
+    }
+
+    public long countPopular(int minLikes) {
+        return get("likes>=" + minLikes, () -> postRepository.countByLikesGreaterThanEqual(minLikes));
+    }
+
+    private long get(String key, LongSupplier loader) {
+        Long cached = counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long count = loader.getAsLong();
+        counts.put(key, count);
+        return count;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jibangyoung.domain.community.support;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.domain.community.repository.PostRecommendationCountRepository;
+import com.jibangyoung.domain.community.repository.PostRecommendationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 카운터 최초 적재
+ * - post_recommendation_counts 가 비어 있고 기존 추천 데이터가 있으면 한 번 재계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostRecommendationCountInitializer implements ApplicationRunner {
+
+    private final PostRecommendationCountRepository postRecommendationCountRepository;
+    private final PostRecommendationRepository postRecommendationRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (postRecommendationCountRepository.count() > 0 || postRecommendationRepository.count() == 0) {
+                return;
+            }
+            int rows = postRecommendationCountRepository.rebuildAll();
+            log.info("추천 카운터 초기 적재 완료: rows={}", rows);
+        } catch (Exception e) {
+            // 적재 실패는 기동에 영향 주지 않음 (카운트 조회만 0으로 보임)
+            log.warn("추천 카운터 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+}
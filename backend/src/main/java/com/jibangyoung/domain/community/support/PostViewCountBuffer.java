@@ -0,0 +1,84 @@
+package com.jibangyoung.domain.community.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+// 게시글 조회수 write-behind 버퍼
+// - 조회 시 DB 대신 메모리(LongAdder)에 누적, PostViewCountFlushScheduler가 주기적으로 DB 반영
+// - flushed 값은 플러셔만 갱신 (flushViewCounts 직렬화)
+// - 증가/유휴 항목 제거는 같은 키의 compute 안에서 수행 → 제거된 카운터에 증가가 쌓여 유실되지 않음
+// - 응답 조회수는 게시글별 최고값(high-water mark)과 비교해 단조 증가 보장
+//   (DB 조회 ↔ UPDATE/markFlushed 순서가 엇갈려 DB + pending이 일시적으로 줄어도 이전 응답보다 작게 보이지 않음)
+@Component
+public class PostViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, ViewCounter> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        counters.compute(postId, (id, counter) -> {
+            ViewCounter target = counter != null ? counter : new ViewCounter();
+            target.total.increment();
+            return target;
+        });
+    }
+
+    // 응답용 조회수 = max(이전 응답 값, DB 값 + 미반영 증가분)
+    public long displayedViews(Long postId, long dbViews) {
+        long[] shown = { dbViews };
+        counters.computeIfPresent(postId, (id, counter) -> {
+            shown[0] = counter.show(dbViews);
+            return counter;
+        });
+        return shown[0];
+    }
+
+    // postId -> 반영할 증가분 스냅샷 (DB 반영 성공 후 markFlushed 호출)
+    public Map<Long, Long> snapshot() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long postId : counters.keySet()) {
+            counters.computeIfPresent(postId, (id, counter) -> {
+                long delta = counter.pending();
+                if (delta > 0) {
+                    deltas.put(id, delta);
+                    return counter;
+                }
+                // 한 주기 동안 조회가 없던 게시글은 정리 (증가와 원자적으로)
+                return null;
+            });
+        }
+        return deltas;
+    }
+
+    public void markFlushed(Map<Long, Long> deltas) {
+        deltas.forEach((postId, delta) -> {
+            ViewCounter counter = counters.get(postId);
+            if (counter != null) {
+                counter.flushed += delta;
+            }
+        });
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    private static class ViewCounter {
+        private final LongAdder total = new LongAdder();
+        private volatile long flushed;
+        // 마지막으로 응답한 조회수 (같은 키의 compute 안에서만 변경)
+        private long lastShown;
+
+        private long pending() {
+            return total.sum() - flushed;
+        }
+
+        private long show(long dbViews) {
+            lastShown = Math.max(lastShown, dbViews + pending());
+            return lastShown;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.jibangyoung.domain.community.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회수 버퍼 → DB 반영 스케줄러
+ * - 주기마다 UPDATE posts SET views = views + ? 한 번의 배치로 반영 (version 증가 없음)
+ * - 실패 시 버퍼를 유지하고 다음 주기에 재시도
+ * - 스냅샷 → UPDATE → markFlushed를 한 단계로 직렬화 (종료 시 반영과 주기 반영이 겹쳐 중복 반영되지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCountFlushScheduler {
+
+    private static final String UPDATE_VIEWS_SQL = "UPDATE posts SET views = views + ? WHERE id = ?";
+
+    private final PostViewCountBuffer viewCountBuffer;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 10초마다 조회수 반영
+    @Scheduled(fixedDelay = 10 * 1000)
+    public synchronized void flushViewCounts() {
+        Map<Long, Long> deltas = viewCountBuffer.snapshot();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[] { delta, postId }));
+
+        try {
+            long startTime = System.currentTimeMillis();
+            jdbcTemplate.batchUpdate(UPDATE_VIEWS_SQL, batchArgs);
+            viewCountBuffer.markFlushed(deltas);
+            log.debug("조회수 반영 완료: posts={}, elapsed={}ms", deltas.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도: posts={}, error={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
@@ -1,25 +1,45 @@
 package com.jibangyoung.domain.community.support;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class S3ImageManager {
 
+    public static final String TEMP_PREFIX = "temp/";
+    private static final String POST_IMAGE_PREFIX = "post-images/";
+
+    // DeleteObjects 1회 요청 최대 키 수 (S3 제한)
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // 게시글 1건의 이미지 복사 전체 대기 한도
+    @Value("${cloud.aws.s3.copy-timeout-ms:10000}")
+    private long copyTimeoutMs;
+
     private static final Pattern IMG_TAG_PATTERN = Pattern.compile("<img[^>]+src=\"([^\"]+)\"");
 
     // 본문에서 temp/ 이미지를 사용한 URL 추출
@@ -49,42 +69,126 @@ public class S3ImageManager {
         return null;
     }
 
-    // 현재 S3의 temp/ 경로에 존재하는 모든 객체 키 조회
-    public List<String> getAllTempImageKeys() {
+    // temp/ 경로에서 cutoff 이전에 업로드된 객체 키 조회 (전체 페이지 순회)
+    public List<String> listTempImageKeysOlderThan(Instant cutoff) {
         ListObjectsV2Request request = ListObjectsV2Request.builder()
                 .bucket(bucket)
-                .prefix("temp/")
+                .prefix(TEMP_PREFIX)
                 .build();
 
-        ListObjectsV2Response response = s3Client.listObjectsV2(request);
-
-        return response.contents().stream()
+        return s3Client.listObjectsV2Paginator(request).contents().stream()
+                .filter(object -> object.lastModified() != null && object.lastModified().isBefore(cutoff))
                 .map(S3Object::key)
                 .collect(Collectors.toList());
     }
 
-    // 지정된 key의 S3 객체 삭제
-    public void deleteObject(String key) {
-        DeleteObjectRequest request = DeleteObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .build();
+    /**
+     * temp/ 이미지들을 post-images/로 병렬 복사 (비동기 클라이언트, 전체 완료까지 대기)
+     * - 소요 시간은 이미지 수가 아니라 가장 느린 복사 1건에 비례
+     * - 원본 temp 객체는 삭제하지 않음 (호출 측에서 커밋 후 deleteObjectsAsync)
+     * - 실패/시간 초과 시 미완료 복사는 취소하고 이미 생성된 post-images/ 객체는 비동기 삭제
+     * @return tempKey -> 복사된 post-images/ key
+     */
+    public Map<String, String> promoteTempImages(Collection<String> tempKeys) {
+        Map<String, String> promoted = new LinkedHashMap<>();
+        for (String tempKey : tempKeys) {
+            promoted.putIfAbsent(tempKey, tempKey.replace(TEMP_PREFIX, POST_IMAGE_PREFIX));
+        }
+        if (promoted.isEmpty()) {
+            return promoted;
+        }
 
-        s3Client.deleteObject(request);
+        CompletableFuture<?>[] copies = promoted.entrySet().stream()
+                .map(entry -> s3AsyncClient.copyObject(CopyObjectRequest.builder()
+                        .sourceBucket(bucket)
+                        .sourceKey(entry.getKey())
+                        .destinationBucket(bucket)
+                        .destinationKey(entry.getValue())
+                        .build()))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(copies).get(copyTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // allOf는 모든 복사가 끝난 뒤에 실패로 완료됨 → 성공한 복사본만 정리
+            discardCopies(promoted, copies);
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            discardCopies(promoted, copies);
+            throw new IllegalStateException("이미지 복사 시간이 초과되었습니다. (" + promoted.size() + "건)", e);
+        } catch (InterruptedException e) {
+            discardCopies(promoted, copies);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 복사가 중단되었습니다.", e);
+        }
+        return promoted;
     }
 
-    // temp/ -> post-images/로 복사
-    public void copyObject(String sourceKey, String targetKey) {
-        CopyObjectRequest copyRequest = CopyObjectRequest.builder()
-                .sourceBucket(bucket)
-                .sourceKey(sourceKey)
-                .destinationBucket(bucket)
-                .destinationKey(targetKey)
-                .build();
+    // 승격 실패 시 미완료 복사 취소 + 복사됐을 수 있는 post-images/ 객체 삭제 (실패한 복사는 대상 없음)
+    private void discardCopies(Map<String, String> promoted, CompletableFuture<?>[] copies) {
+        List<String> targetKeys = new ArrayList<>();
+        int i = 0;
+        for (String targetKey : promoted.values()) {
+            CompletableFuture<?> copy = copies[i++];
+            // 취소된 요청도 서버 측에서는 이미 반영됐을 수 있어 삭제 대상에 포함
+            boolean cancelled = copy.cancel(true);
+            if (cancelled || !copy.isCompletedExceptionally()) {
+                targetKeys.add(targetKey);
+            }
+        }
+        if (!targetKeys.isEmpty()) {
+            log.warn("이미지 승격 실패로 복사본 정리: {}/{}", targetKeys.size(), promoted.size());
+            deleteObjectsAsync(targetKeys);
+        }
+    }
+
+    // 여러 객체를 DeleteObjects 배치로 비동기 삭제 (실패는 로그만, temp 잔여분은 TempImageSweeper가 정리)
+    public CompletableFuture<Void> deleteObjectsAsync(Collection<String> keys) {
+        List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<CompletableFuture<?>> batches = new ArrayList<>();
+        for (int from = 0; from < distinctKeys.size(); from += DELETE_BATCH_SIZE) {
+            List<String> batch = distinctKeys.subList(from, Math.min(from + DELETE_BATCH_SIZE, distinctKeys.size()));
+            batches.add(s3AsyncClient.deleteObjects(deleteObjectsRequest(batch))
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            log.warn("S3 일괄 삭제 실패: keys={}, error={}", batch.size(), error.getMessage());
+                        } else if (response.hasErrors()) {
+                            log.warn("S3 일괄 삭제 일부 실패: {}/{}", response.errors().size(), batch.size());
+                        }
+                    }));
+        }
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new));
+    }
+
+    // 여러 객체를 DeleteObjects 배치로 동기 삭제, 삭제된 수 반환 (스케줄러용)
+    public int deleteObjects(Collection<String> keys) {
+        List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        int deleted = 0;
+        for (int from = 0; from < distinctKeys.size(); from += DELETE_BATCH_SIZE) {
+            List<String> batch = distinctKeys.subList(from, Math.min(from + DELETE_BATCH_SIZE, distinctKeys.size()));
+            DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest(batch));
+            deleted += batch.size() - response.errors().size(); // quiet 모드: 실패 키만 응답
+            if (response.hasErrors()) {
+                log.warn("S3 일괄 삭제 일부 실패: {}/{}", response.errors().size(), batch.size());
+            }
+        }
+        return deleted;
+    }
 
-        s3Client.copyObject(copyRequest);
+    private DeleteObjectsRequest deleteObjectsRequest(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .collect(Collectors.toList());
+        return DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build();
     }
 
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
 
     public String getPublicUrl(String key) {
         return "https://" + bucket + ".s3.ap-northeast-2.amazonaws.com/" + key;
@@ -0,0 +1,44 @@
+package com.jibangyoung.domain.community.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글에 사용되지 않은 temp/ 이미지 정리
+// 업로드 후 maxAgeHours가 지난 객체만 삭제 (작성 중인 다른 사용자의 업로드는 건드리지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TempImageSweeper {
+
+    private final S3ImageManager s3ImageManager;
+    private final ScheduledJobRunner jobRunner;
+
+    @Value("${community.temp-image.max-age-hours:24}")
+    private long maxAgeHours;
+
+    @Scheduled(cron = "${community.temp-image.sweep-cron:0 15 * * * *}") // 매시 15분
+    public void sweep() {
+        jobRunner.run("s3-temp-image-sweep", ScheduledJobRunner.Mode.LOCKED,
+                Duration.ofMinutes(30), Duration.ofMinutes(1), this::sweepExpired);
+    }
+
+    private void sweepExpired() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(maxAgeHours));
+        List<String> expiredKeys = s3ImageManager.listTempImageKeysOlderThan(cutoff);
+        if (expiredKeys.isEmpty()) {
+            return;
+        }
+        int deleted = s3ImageManager.deleteObjects(expiredKeys);
+        log.info("temp 이미지 정리 완료: expired={}, deleted={}, cutoff={}", expiredKeys.size(), deleted, cutoff);
+    }
+}
@@ -23,7 +23,7 @@ public class PolicyHotController {
 
     private final PolicyHotRankService service;
 
-    @Operation(summary = "정책 인기 TOP 10 (캐싱 기반)")
+    @Operation(summary = "정책 인기 TOP 10 (Redis 리더보드)")
     @GetMapping("/top10")
     @UserActivityLogging(actionType = "POLICY_HOT_TOP10_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "정책 인기 TOP 10 조회")
     public ResponseEntity<List<PolicyHotRankDto>> getPolicyHotTop10() {
@@ -23,11 +23,11 @@ public class RegionFavoriteRankController {
 
     private final RegionFavoriteRankService service;
 
-    @Operation(summary = "정책 찜 수 기준 인기 지역 TOP 10 조회 (Redis 캐시)")
+    @Operation(summary = "정책 찜 수 기준 인기 지역 TOP 10 조회 (Redis 리더보드)")
     @GetMapping("/top10")
     @UserActivityLogging(actionType = "REGION_FAVORITE_TOP10_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "인기 지역 TOP 10 조회")
     public ResponseEntity<List<RegionFavoriteRankDto>> getTop10RegionFavorites() {
-        List<RegionFavoriteRankDto> ranks = service.getTop10FromCache();
+        List<RegionFavoriteRankDto> ranks = service.getTop10RegionFavorites();
         return ResponseEntity.ok(ranks);
     }
 }
\ No newline at end of file
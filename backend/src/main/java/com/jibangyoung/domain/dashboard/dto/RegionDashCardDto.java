@@ -4,9 +4,11 @@ package com.jibangyoung.domain.dashboard.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 @AllArgsConstructor
 public class RegionDashCardDto {
     private final Integer regionCode;
@@ -1,10 +1,12 @@
 // domain/dashboard/repository/PolicyHotRankRepository.java
 package com.jibangyoung.domain.dashboard.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.jibangyoung.domain.policy.entity.Policy;
 
@@ -18,10 +20,29 @@ public interface PolicyHotRankRepository extends JpaRepository<Policy, Integer>
                     r.sido AS region,
                     CAST(p.favorites AS CHAR) AS value
                 FROM policies p
-                JOIN region r ON p.zip_cd = CAST(r.region_code AS CHAR)
+                JOIN region r ON r.region_code = p.region_code
                 WHERE p.favorites > 0
                 ORDER BY p.favorites DESC
                 LIMIT 10
             """, nativeQuery = true)
     List<Object[]> findPolicyHotTop10Native();
+
+    // 리더보드 재구성용: 찜 1 이상 정책 행 전체 (NO, 정책명, 시도, 찜 수)
+    @Query(value = """
+                SELECT p.NO, p.plcy_nm, r.sido, p.favorites
+                FROM policies p
+                JOIN region r ON r.region_code = p.region_code
+                WHERE p.favorites > 0
+            """, nativeQuery = true)
+    List<Object[]> findAllFavoritedPolicyRowsNative();
+
+    // 찜 변경 반영용: 같은 plcy_no를 공유하는 모든 행 (NO, 정책명, 지역코드, 시도, 구군1, 구군2, 기준 NO)
+    @Query(value = """
+                SELECT p.NO, p.plcy_nm, r.region_code, r.sido, r.gu_gun_1, r.gu_gun_2, s.NO
+                FROM policies s
+                JOIN policies p ON p.plcy_no = s.plcy_no
+                JOIN region r ON r.region_code = p.region_code
+                WHERE s.NO IN (:policyIds)
+            """, nativeQuery = true)
+    List<Object[]> findSiblingRowsByPolicyIdsNative(@Param("policyIds") Collection<Long> policyIds);
 }
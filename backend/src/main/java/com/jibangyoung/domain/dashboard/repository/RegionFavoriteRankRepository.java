@@ -9,7 +9,7 @@ import com.jibangyoung.domain.policy.entity.Policy;
 
 /**
  * [Repository] 정책 찜 수 기준 인기 지역 TOP N (Native Query)
- * - zip_cd(String) <-> region_code(Integer) 타입이 다를 때 ONLY 네이티브 쿼리 사용
+ * - policies.region_code(정수, 인덱스)로 region과 조인 (zip_cd 문자열 변환 조인 없음)
  * - 시도, 구군 단위로 랭킹을 내려면 gu_gun_1, gu_gun_2도 group by에 포함
  */
 public interface RegionFavoriteRankRepository extends JpaRepository<Policy, Integer> {
@@ -22,11 +22,24 @@ public interface RegionFavoriteRankRepository extends JpaRepository<Policy, Inte
                     r.gu_gun_2 AS guGun2,
                     SUM(p.favorites) AS favoriteCount
                 FROM policies p
-                JOIN region r ON p.zip_cd = CAST(r.region_code AS CHAR)
+                JOIN region r ON r.region_code = p.region_code
                 GROUP BY r.region_code, r.sido, r.gu_gun_1, r.gu_gun_2
                 ORDER BY favoriteCount DESC
                 LIMIT 10
             """, nativeQuery = true)
     List<Object[]> findTopRegionByFavoritesNative();
 
+    // 리더보드 재구성용: 정책이 있는 모든 지역의 찜 합계 (정렬/LIMIT 없음)
+    @Query(value = """
+                SELECT
+                    r.region_code,
+                    r.sido,
+                    r.gu_gun_1,
+                    r.gu_gun_2,
+                    SUM(p.favorites)
+                FROM policies p
+                JOIN region r ON r.region_code = p.region_code
+                GROUP BY r.region_code, r.sido, r.gu_gun_1, r.gu_gun_2
+            """, nativeQuery = true)
+    List<Object[]> findAllRegionFavoriteSumsNative();
 }
@@ -0,0 +1,56 @@
+package com.jibangyoung.domain.dashboard.service;
+
+import java.time.Duration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.domain.dashboard.support.FavoriteLeaderboard;
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * [Scheduler] 정책/지역 찜 리더보드 재구성
+ * - 평소에는 찜 추가/해제 시 증분 반영, 이 작업은 누락·중복(드리프트) 보정용 전체 재집계
+ * - 기동 직후 1회 실행 후 dashboard.leaderboard.reconcile-ms 주기 (기본 30분)
+ * - 리더 노드만 실행 (ZSET은 Redis 공유이므로 노드 수와 무관하게 1회)
+ * - 조회 요청은 재구성하지 않고 DB로 대체 → 리더보드가 비어 있으면(Redis 초기화 등) 짧은 주기로 확인해 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteLeaderboardReconcileScheduler {
+
+    private final FavoriteLeaderboard leaderboard;
+    private final ScheduledJobRunner jobRunner;
+
+    @Scheduled(initialDelayString = "${dashboard.leaderboard.initial-delay-ms:10000}", fixedDelayString = "${dashboard.leaderboard.reconcile-ms:1800000}")
+    public void reconcileLeaderboards() {
+        jobRunner.run("favorite-leaderboard-reconcile", ScheduledJobRunner.Mode.LEADER,
+                Duration.ofMinutes(10), Duration.ofMinutes(1), () -> {
+                    if (!leaderboard.reconcile()) {
+                        log.debug("리더보드 재구성이 이미 진행 중이어서 건너뜁니다.");
+                    }
+                });
+    }
+
+    @Scheduled(initialDelayString = "${dashboard.leaderboard.ready-check-ms:60000}", fixedDelayString = "${dashboard.leaderboard.ready-check-ms:60000}")
+    public void reconcileIfCold() {
+        try {
+            if (leaderboard.isReady()) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("리더보드 상태 확인 실패: {}", e.getMessage());
+            return;
+        }
+        jobRunner.run("favorite-leaderboard-reconcile", ScheduledJobRunner.Mode.LEADER,
+                Duration.ofMinutes(10), Duration.ofMinutes(1), () -> {
+                    if (!leaderboard.isReady() && !leaderboard.reconcile()) {
+                        log.debug("리더보드 재구성이 이미 진행 중이어서 건너뜁니다.");
+                    }
+                });
+    }
+}
@@ -7,15 +7,16 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jibangyoung.domain.dashboard.dto.MonthlyHotPostDto;
 import com.jibangyoung.domain.dashboard.entity.MonthlyHotPostProjection;
 import com.jibangyoung.domain.dashboard.repository.MonthlyHotPostRepository;
+import com.jibangyoung.global.cache.TwoLevelCache;
+import com.jibangyoung.global.cache.TwoLevelCacheFactory;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -23,31 +24,32 @@ import lombok.RequiredArgsConstructor;
 public class MonthlyHotPostService {
 
     private final MonthlyHotPostRepository repository;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final TwoLevelCacheFactory cacheFactory;
 
     private static final String CACHE_KEY = "dashboard:monthly-hot:top10";
     private static final Duration CACHE_TTL = Duration.ofMinutes(10);
 
+    private TwoLevelCache<List<MonthlyHotPostDto>> cache;
+
+    @PostConstruct
+    public void initCache() {
+        cache = cacheFactory.builder(CACHE_KEY, new TypeReference<List<MonthlyHotPostDto>>() {
+        })
+                .ttl(CACHE_TTL)
+                .build();
+    }
+
+    // 캐시 (L1 → Redis → DB, 동시 미스는 한 번만 조회)
     public List<MonthlyHotPostDto> getMonthlyHotTop10() {
-        // 1. 캐시 확인
-        String cached = redisTemplate.opsForValue().get(CACHE_KEY);
-        if (cached != null) {
-            try {
-                return objectMapper.readValue(
-                        cached,
-                        new TypeReference<List<MonthlyHotPostDto>>() {
-                        });
-            } catch (Exception e) {
-                // 캐시 파싱 실패 무시
-            }
-        }
+        return cache.get(this::loadMonthlyHotTop10);
+    }
 
-        // 2. DB에서 조회 (한 달 전 ~ 현재)
+    private List<MonthlyHotPostDto> loadMonthlyHotTop10() {
+        // 1. DB에서 조회 (한 달 전 ~ 현재)
         LocalDateTime since = LocalDateTime.now().minusMonths(1);
         List<MonthlyHotPostProjection> rows = repository.findMonthlyHotTop10Native(since);
 
-        // 3. DTO 변환 + 순위 부여
+        // 2. DTO 변환 + 순위 부여
         List<MonthlyHotPostDto> result = new ArrayList<>();
         int idx = 1;
         for (MonthlyHotPostProjection row : rows) {
@@ -61,16 +63,6 @@ public class MonthlyHotPostService {
                     row.getRegionId(),
                     row.getRegionName()));
         }
-
-        // 4. 캐싱
-        try {
-            redisTemplate.opsForValue().set(
-                    CACHE_KEY,
-                    objectMapper.writeValueAsString(result),
-                    CACHE_TTL);
-        } catch (Exception e) {
-        }
-
         return result;
     }
 }
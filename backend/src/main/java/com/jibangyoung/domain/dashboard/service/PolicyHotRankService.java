@@ -1,28 +1,47 @@
-// domain/dashboard/service/PolicyHotRankService.java
 package com.jibangyoung.domain.dashboard.service;
 
 import java.time.Duration;
 import java.util.List;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.jibangyoung.domain.dashboard.dto.PolicyHotRankDto;
 import com.jibangyoung.domain.dashboard.repository.PolicyHotRankRepository;
+import com.jibangyoung.domain.dashboard.support.FavoriteLeaderboard;
+import com.jibangyoung.global.cache.TwoLevelCache;
+import com.jibangyoung.global.cache.TwoLevelCacheFactory;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PolicyHotRankService {
 
+    private static final int TOP_N = 10;
+
     private final PolicyHotRankRepository repository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final FavoriteLeaderboard leaderboard;
+    private final TwoLevelCacheFactory cacheFactory;
+
+    // 원본(리더보드)이 Redis이므로 L1만 사용, 짧은 TTL
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(15);
+
+    private TwoLevelCache<List<PolicyHotRankDto>> cache;
 
-    private static final String CACHE_KEY = "policyhot:top10";
-    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    @PostConstruct
+    public void initCache() {
+        cache = cacheFactory.builder("dashboard:policyhot:top10", new TypeReference<List<PolicyHotRankDto>>() {
+        })
+                .ttl(LOCAL_TTL)
+                .localOnly()
+                .build();
+    }
 
-    // DB → TOP 10 반환
+    // DB → TOP 10 반환 (리더보드 사용 불가 시 fallback)
     public List<PolicyHotRankDto> getPolicyHotTop10() {
         List<Object[]> raw = repository.findPolicyHotTop10Native();
         return raw.stream()
@@ -35,37 +54,21 @@ public class PolicyHotRankService {
                 .toList();
     }
 
-    // 캐시 저장 (JSON 직렬화)
-    public void cachePolicyHotTop10() {
-        List<PolicyHotRankDto> top10 = getPolicyHotTop10();
-        redisTemplate.opsForValue().set(CACHE_KEY, top10, CACHE_TTL);
+    // L1 캐시 → 리더보드(ZSET) 조회 + DB fallback
+    public List<PolicyHotRankDto> getTop10FromCache() {
+        return cache.get(this::loadTop10);
     }
 
-    // 캐시 + DB fallback (역직렬화 안전)
-    @SuppressWarnings("unchecked")
-    public List<PolicyHotRankDto> getTop10FromCache() {
-        Object cached = redisTemplate.opsForValue().get(CACHE_KEY);
-        if (cached instanceof List<?> list && !list.isEmpty()) {
-            if (list.get(0) instanceof PolicyHotRankDto) {
-                return (List<PolicyHotRankDto>) list;
-            } else if (list.get(0) instanceof java.util.Map map) {
-                // ⭐ Map → DTO 변환 (id 필드 주의)
-                return list.stream()
-                        .map(item -> {
-                            var m = (java.util.Map<?, ?>) item;
-                            return new PolicyHotRankDto(
-                                    String.valueOf(m.get("no")),
-                                    Integer.parseInt(String.valueOf(m.get("id"))),
-                                    String.valueOf(m.get("name")),
-                                    String.valueOf(m.get("region")),
-                                    String.valueOf(m.get("value")));
-                        })
-                        .toList();
+    private List<PolicyHotRankDto> loadTop10() {
+        try {
+            // 재구성은 FavoriteLeaderboardReconcileScheduler 담당 (요청 스레드에서 전체 재구성하지 않음)
+            if (leaderboard.isReady()) {
+                return leaderboard.topPolicies(TOP_N);
             }
+        } catch (Exception e) {
+            log.warn("정책 인기 리더보드 조회 실패. DB에서 직접 조회합니다. error={}", e.getMessage());
         }
-        // 캐시 미스 or 역직렬화 실패 → DB fresh
-        List<PolicyHotRankDto> fresh = getPolicyHotTop10();
-        redisTemplate.opsForValue().set(CACHE_KEY, fresh, CACHE_TTL);
-        return fresh;
+        // 재구성 전/진행 중 or Redis 장애 → DB fresh
+        return getPolicyHotTop10();
     }
 }
@@ -1,33 +1,59 @@
 // dashboard/service/RegionDashService.java
 package com.jibangyoung.domain.dashboard.service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.jibangyoung.domain.dashboard.dto.RegionDashCardDto;
 import com.jibangyoung.domain.dashboard.dto.RegionDashTabDto;
 import com.jibangyoung.domain.dashboard.entity.RegionDashEntity;
 import com.jibangyoung.domain.dashboard.repository.RegionDashRepository;
+import com.jibangyoung.global.cache.TwoLevelCache;
+import com.jibangyoung.global.cache.TwoLevelCacheFactory;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class RegionDashService {
     private final RegionDashRepository regionDashRepository;
+    private final TwoLevelCacheFactory cacheFactory;
+
+    // 지역 목록은 거의 바뀌지 않으므로 TTL을 길게
+    private static final Duration CACHE_TTL = Duration.ofHours(1);
+
+    private TwoLevelCache<List<String>> sidoTabsCache;
+    private TwoLevelCache<RegionDashTabDto> tabCardsCache;
+
+    @PostConstruct
+    public void initCache() {
+        sidoTabsCache = cacheFactory.builder("dashboard:regiondash:sidoTabs", new TypeReference<List<String>>() {
+        })
+                .ttl(CACHE_TTL)
+                .build();
+        tabCardsCache = cacheFactory.builder("dashboard:regiondash:tabCards", new TypeReference<RegionDashTabDto>() {
+        })
+                .ttl(CACHE_TTL)
+                .l1MaxSize(50)
+                .build();
+    }
 
     // [캐싱] 전체 시도 리스트 (슬라이더/탭)
-    @Cacheable(value = "dashboard:regiondash:sidoTabs", unless = "#result == null || #result.isEmpty()")
     public List<String> getSidoTabs() {
-        return regionDashRepository.findAllSidoDistinct();
+        return sidoTabsCache.get(regionDashRepository::findAllSidoDistinct);
     }
 
     // [캐싱] 특정 시도에 대한 구/군 리스트 (카드)
-    @Cacheable(value = "dashboard:regiondash:tabCards", key = "#sido", unless = "#result == null")
     public RegionDashTabDto getRegionTab(String sido) {
+        return tabCardsCache.get(sido, () -> loadRegionTab(sido));
+    }
+
+    private RegionDashTabDto loadRegionTab(String sido) {
         List<RegionDashEntity> entities = regionDashRepository.findBySidoOrderByGuGun1Asc(sido);
         List<RegionDashCardDto> cards = entities.stream()
                 .map(e -> RegionDashCardDto.builder()
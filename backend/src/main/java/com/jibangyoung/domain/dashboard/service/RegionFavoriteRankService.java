@@ -3,12 +3,16 @@ package com.jibangyoung.domain.dashboard.service;
 import java.time.Duration;
 import java.util.List;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.jibangyoung.domain.dashboard.dto.RegionFavoriteRankDto;
 import com.jibangyoung.domain.dashboard.repository.RegionFavoriteRankRepository;
+import com.jibangyoung.domain.dashboard.support.FavoriteLeaderboard;
+import com.jibangyoung.global.cache.TwoLevelCache;
+import com.jibangyoung.global.cache.TwoLevelCacheFactory;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,31 +21,47 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RegionFavoriteRankService {
 
+    private static final int TOP_N = 10;
+
     private final RegionFavoriteRankRepository repository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final FavoriteLeaderboard leaderboard;
+    private final TwoLevelCacheFactory cacheFactory;
+
+    // 원본(리더보드)이 Redis이므로 L1만 사용, 짧은 TTL
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(15);
 
-    private static final String REDIS_KEY = "top10:region:favorites";
-    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    private TwoLevelCache<List<RegionFavoriteRankDto>> cache;
+
+    @PostConstruct
+    public void initCache() {
+        cache = cacheFactory.builder("dashboard:region-favorite:top10", new TypeReference<List<RegionFavoriteRankDto>>() {
+        })
+                .ttl(LOCAL_TTL)
+                .localOnly()
+                .build();
+    }
 
     /**
-     * TOP 10 지역 조회 (캐시 우선, 실패시 DB 직접 조회)
+     * TOP 10 지역 조회 (L1 캐시 → 리더보드 → 실패시 DB 직접 조회, 동시 미스는 한 번만 조회)
      */
     public List<RegionFavoriteRankDto> getTop10RegionFavorites() {
+        return cache.get(this::loadTop10RegionFavorites);
+    }
+
+    private List<RegionFavoriteRankDto> loadTop10RegionFavorites() {
         try {
-            // 1. 캐시에서 먼저 조회 시도
-            List<RegionFavoriteRankDto> cachedData = getTop10FromCache();
-            if (cachedData != null && !cachedData.isEmpty()) {
-                log.debug("캐시에서 TOP 10 지역 데이터 반환: {} 건", cachedData.size());
-                return cachedData;
+            List<RegionFavoriteRankDto> ranked = getTop10FromCache();
+            if (ranked != null && !ranked.isEmpty()) {
+                log.debug("리더보드에서 TOP 10 지역 데이터 반환: {} 건", ranked.size());
+                return ranked;
             }
 
-            log.warn("캐시에서 데이터를 찾을 수 없음. DB에서 직접 조회합니다.");
+            log.warn("리더보드에서 데이터를 찾을 수 없음. DB에서 직접 조회합니다.");
 
         } catch (Exception e) {
-            log.error("캐시 조회 중 오류 발생. DB에서 직접 조회합니다.", e);
+            log.error("리더보드 조회 중 오류 발생. DB에서 직접 조회합니다.", e);
         }
 
-        // 2. 캐시 실패시 DB에서 직접 조회
         return getTop10RegionFavoritesFromDB();
     }
 
@@ -61,17 +81,8 @@ public class RegionFavoriteRankService {
                     ))
                     .toList();
 
-            List<RegionFavoriteRankDto> result = all.size() > 10 ? all.subList(0, 10) : all;
+            List<RegionFavoriteRankDto> result = all.size() > TOP_N ? all.subList(0, TOP_N) : all;
             log.info("DB에서 TOP 10 지역 데이터 조회 완료: {} 건", result.size());
-
-            // DB 조회 후 캐시에 저장 시도
-            try {
-                redisTemplate.opsForValue().set(REDIS_KEY, result, CACHE_TTL);
-                log.debug("DB 조회 결과를 캐시에 저장했습니다.");
-            } catch (Exception e) {
-                log.warn("캐시 저장 중 오류 발생했지만 DB 데이터는 정상 반환됩니다.", e);
-            }
-
             return result;
 
         } catch (Exception e) {
@@ -81,30 +92,16 @@ public class RegionFavoriteRankService {
     }
 
     /**
-     * 캐시 갱신 (스케줄러용)
+     * 리더보드(ZSET)에서 조회 - 재구성 전/진행 중이면 null (재구성은 FavoriteLeaderboardReconcileScheduler 담당)
      */
-    public void cacheTop10RegionFavorites() {
-        try {
-            List<RegionFavoriteRankDto> top10 = getTop10RegionFavoritesFromDB();
-            redisTemplate.opsForValue().set(REDIS_KEY, top10, CACHE_TTL);
-            log.info("TOP 10 지역 캐시 갱신 완료: {} 건", top10.size());
-
-        } catch (Exception e) {
-            log.error("캐시 갱신 중 오류 발생", e);
-            // 예외를 다시 던지지 않아 스케줄러가 계속 실행되도록 함
-        }
-    }
-
-    /**
-     * 캐시에서 조회
-     */
-    @SuppressWarnings("unchecked")
     public List<RegionFavoriteRankDto> getTop10FromCache() {
         try {
-            return (List<RegionFavoriteRankDto>) redisTemplate.opsForValue().get(REDIS_KEY);
+            if (leaderboard.isReady()) {
+                return leaderboard.topRegions(TOP_N);
+            }
         } catch (Exception e) {
-            log.warn("Redis 캐시 조회 중 오류 발생", e);
-            return null;
+            log.warn("Redis 리더보드 조회 중 오류 발생", e);
         }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,339 @@
+package com.jibangyoung.domain.dashboard.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jibangyoung.domain.dashboard.dto.PolicyHotRankDto;
+import com.jibangyoung.domain.dashboard.dto.RegionFavoriteRankDto;
+import com.jibangyoung.domain.dashboard.repository.PolicyHotRankRepository;
+import com.jibangyoung.domain.dashboard.repository.RegionFavoriteRankRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🏆 정책/지역 찜 수 리더보드 (Redis Sorted Set, 증분 유지)
+ * - 정책 ZSET: member=정책 행 NO, score=찜 수 (0 이하가 되면 제거 → TOP 10의 favorites > 0 조건과 동일)
+ * - 지역 ZSET: member=region_code, score=해당 지역 정책 행들의 찜 합계
+ * - 찜 추가/해제 시 같은 plcy_no 행 전체에 ZINCRBY (커밋 이후 반영), 조회는 ZREVRANGE + 메타 HMGET
+ * - 재구성(reconcile) 전에는 증분을 반영하지 않음 → 누락/중복은 다음 재구성에서 보정
+ * - 키는 같은 해시 태그를 사용해 Lua 스크립트가 클러스터에서도 한 슬롯에서 실행되도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FavoriteLeaderboard {
+
+    private static final String KEY_PREFIX = "leaderboard:{favorites}:";
+    static final String POLICY_KEY = KEY_PREFIX + "policy";
+    static final String POLICY_META_KEY = KEY_PREFIX + "policy:meta";
+    static final String REGION_KEY = KEY_PREFIX + "region";
+    static final String REGION_META_KEY = KEY_PREFIX + "region:meta";
+    static final String READY_KEY = KEY_PREFIX + "ready";
+
+    // 메타 필드 구분자 (정책명/지역명에 나오지 않는 단위 구분 문자)
+    private static final String META_SEPARATOR = "\u001F";
+    private static final int RECONCILE_WRITE_CHUNK = 500;
+
+    /**
+     * 증분 반영: 재구성 완료 표시(KEYS[3])가 있을 때만 적용
+     * ARGV[1]=정책 증분 개수 n, 이후 (member, delta) n쌍은 정책 ZSET, 나머지 쌍은 지역 ZSET
+     * 정책 점수가 0 이하면 제거, 지역 점수는 0 미만으로 내려가지 않도록 보정
+     */
+    private static final DefaultRedisScript<Long> APPLY_DELTA_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 0 then
+                return 0
+            end
+            local policyPairs = tonumber(ARGV[1])
+            local last = 1 + policyPairs * 2
+            for i = 2, #ARGV, 2 do
+                local member = ARGV[i]
+                if i <= last then
+                    local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], member))
+                    if score <= 0 then
+                        redis.call('ZREM', KEYS[1], member)
+                    end
+                else
+                    local score = tonumber(redis.call('ZINCRBY', KEYS[2], ARGV[i + 1], member))
+                    if score < 0 then
+                        redis.call('ZADD', KEYS[2], 0, member)
+                    end
+                end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 재구성 교체: (임시 키, 실제 키) 쌍을 RENAME으로 원자 교체 후 완료 표시 설정
+     */
+    private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS - 1, 2 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('RENAME', KEYS[i], KEYS[i + 1])
+                else
+                    redis.call('DEL', KEYS[i + 1])
+                end
+            end
+            redis.call('SET', KEYS[#KEYS], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PolicyHotRankRepository policyHotRankRepository;
+    private final RegionFavoriteRankRepository regionFavoriteRankRepository;
+
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    // 통계
+    private final AtomicLong appliedEventCount = new AtomicLong();
+    private final AtomicLong applyFailureCount = new AtomicLong();
+    private final AtomicLong reconcileCount = new AtomicLong();
+
+    // ===== 증분 반영 =====
+
+    /**
+     * 찜 추가/해제 정책 NO 목록을 받아 커밋 이후 리더보드에 반영 (트랜잭션 안에서 호출)
+     * - 찜 수 변경은 같은 plcy_no의 모든 행에 적용되므로 형제 행을 한 번에 조회해 증분 계산
+     */
+    public void recordChanges(Collection<Long> addedPolicyIds, Collection<Long> removedPolicyIds) {
+        if (addedPolicyIds.isEmpty() && removedPolicyIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> deltaByPolicyId = new HashMap<>();
+        addedPolicyIds.forEach(id -> deltaByPolicyId.merge(id, 1, Integer::sum));
+        removedPolicyIds.forEach(id -> deltaByPolicyId.merge(id, -1, Integer::sum));
+
+        List<Object[]> rows = policyHotRankRepository.findSiblingRowsByPolicyIdsNative(deltaByPolicyId.keySet());
+        Map<String, Long> policyDeltas = new LinkedHashMap<>();
+        Map<String, Long> regionDeltas = new LinkedHashMap<>();
+        Map<String, String> policyMeta = new HashMap<>();
+        Map<String, String> regionMeta = new HashMap<>();
+        for (Object[] row : rows) {
+            int delta = deltaByPolicyId.getOrDefault(((Number) row[6]).longValue(), 0);
+            if (delta == 0) {
+                continue;
+            }
+            String policyMember = String.valueOf(((Number) row[0]).intValue());
+            String regionMember = String.valueOf(((Number) row[2]).intValue());
+            policyDeltas.merge(policyMember, (long) delta, Long::sum);
+            regionDeltas.merge(regionMember, (long) delta, Long::sum);
+            policyMeta.put(policyMember, joinMeta((String) row[1], (String) row[3]));
+            regionMeta.put(regionMember, joinMeta((String) row[3], (String) row[4], (String) row[5]));
+        }
+        if (policyDeltas.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> applyDeltas(policyDeltas, regionDeltas, policyMeta, regionMeta));
+    }
+
+    private void applyDeltas(Map<String, Long> policyDeltas, Map<String, Long> regionDeltas,
+            Map<String, String> policyMeta, Map<String, String> regionMeta) {
+        try {
+            // 메타를 먼저 기록 → ZSET에 새로 올라온 정책도 바로 이름/지역 표시 가능
+            stringRedisTemplate.opsForHash().putAll(POLICY_META_KEY, policyMeta);
+            stringRedisTemplate.opsForHash().putAll(REGION_META_KEY, regionMeta);
+
+            List<String> args = new ArrayList<>(1 + (policyDeltas.size() + regionDeltas.size()) * 2);
+            args.add(String.valueOf(policyDeltas.size()));
+            policyDeltas.forEach((member, delta) -> {
+                args.add(member);
+                args.add(String.valueOf(delta));
+            });
+            regionDeltas.forEach((member, delta) -> {
+                args.add(member);
+                args.add(String.valueOf(delta));
+            });
+            stringRedisTemplate.execute(APPLY_DELTA_SCRIPT, List.of(POLICY_KEY, REGION_KEY, READY_KEY),
+                    args.toArray());
+            appliedEventCount.incrementAndGet();
+        } catch (Exception e) {
+            // 실패분은 다음 재구성에서 보정
+            applyFailureCount.incrementAndGet();
+            log.warn("🏆 리더보드 증분 반영 실패: policies={}, error={}", policyDeltas.size(), e.getMessage());
+        }
+    }
+
+    // ===== 조회 =====
+
+    public boolean isReady() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY));
+    }
+
+    public List<PolicyHotRankDto> topPolicies(int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(POLICY_KEY, 0, limit - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<Object> members = new ArrayList<>(tuples.size());
+        tuples.forEach(tuple -> members.add(tuple.getValue()));
+        List<Object> metas = stringRedisTemplate.opsForHash().multiGet(POLICY_META_KEY, members);
+
+        List<PolicyHotRankDto> result = new ArrayList<>(tuples.size());
+        int index = 0;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            String[] meta = splitMeta(metas.get(index++), 2);
+            long favorites = tuple.getScore() == null ? 0 : tuple.getScore().longValue();
+            result.add(new PolicyHotRankDto(
+                    String.format("%02d", result.size() + 1),
+                    Integer.valueOf(tuple.getValue()),
+                    meta[0],
+                    meta[1],
+                    String.valueOf(favorites)));
+        }
+        return result;
+    }
+
+    public List<RegionFavoriteRankDto> topRegions(int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(REGION_KEY, 0, limit - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<Object> members = new ArrayList<>(tuples.size());
+        tuples.forEach(tuple -> members.add(tuple.getValue()));
+        List<Object> metas = stringRedisTemplate.opsForHash().multiGet(REGION_META_KEY, members);
+
+        List<RegionFavoriteRankDto> result = new ArrayList<>(tuples.size());
+        int index = 0;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            String[] meta = splitMeta(metas.get(index++), 3);
+            long favorites = tuple.getScore() == null ? 0 : tuple.getScore().longValue();
+            result.add(new RegionFavoriteRankDto(
+                    Integer.valueOf(tuple.getValue()),
+                    meta[0],
+                    meta[1],
+                    meta[2],
+                    favorites));
+        }
+        return result;
+    }
+
+    // ===== 재구성 =====
+
+    /**
+     * DB 전체 집계로 리더보드를 다시 만들어 원자 교체 (드리프트 보정)
+     * - 임시 키에 채운 뒤 RENAME → 조회 중에도 빈 랭킹이 보이지 않음
+     * - 다른 스레드가 재구성 중이면 false 반환
+     */
+    public boolean reconcile() {
+        if (!reconcileLock.tryLock()) {
+            return false;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            String suffix = ":tmp:" + UUID.randomUUID();
+            String tmpPolicy = POLICY_KEY + suffix;
+            String tmpPolicyMeta = POLICY_META_KEY + suffix;
+            String tmpRegion = REGION_KEY + suffix;
+            String tmpRegionMeta = REGION_META_KEY + suffix;
+
+            int policyCount = 0;
+            List<Object[]> policyRows = policyHotRankRepository.findAllFavoritedPolicyRowsNative();
+            for (int from = 0; from < policyRows.size(); from += RECONCILE_WRITE_CHUNK) {
+                List<Object[]> chunk = policyRows.subList(from, Math.min(from + RECONCILE_WRITE_CHUNK, policyRows.size()));
+                Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+                Map<String, String> meta = new HashMap<>();
+                for (Object[] row : chunk) {
+                    String member = String.valueOf(((Number) row[0]).intValue());
+                    tuples.add(ZSetOperations.TypedTuple.of(member, ((Number) row[3]).doubleValue()));
+                    meta.put(member, joinMeta((String) row[1], (String) row[2]));
+                }
+                stringRedisTemplate.opsForZSet().add(tmpPolicy, tuples);
+                stringRedisTemplate.opsForHash().putAll(tmpPolicyMeta, meta);
+                policyCount += chunk.size();
+            }
+
+            int regionCount = 0;
+            List<Object[]> regionRows = regionFavoriteRankRepository.findAllRegionFavoriteSumsNative();
+            for (int from = 0; from < regionRows.size(); from += RECONCILE_WRITE_CHUNK) {
+                List<Object[]> chunk = regionRows.subList(from, Math.min(from + RECONCILE_WRITE_CHUNK, regionRows.size()));
+                Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+                Map<String, String> meta = new HashMap<>();
+                for (Object[] row : chunk) {
+                    String member = String.valueOf(((Number) row[0]).intValue());
+                    double favorites = row[4] == null ? 0 : ((Number) row[4]).doubleValue();
+                    tuples.add(ZSetOperations.TypedTuple.of(member, favorites));
+                    meta.put(member, joinMeta((String) row[1], (String) row[2], (String) row[3]));
+                }
+                stringRedisTemplate.opsForZSet().add(tmpRegion, tuples);
+                stringRedisTemplate.opsForHash().putAll(tmpRegionMeta, meta);
+                regionCount += chunk.size();
+            }
+
+            stringRedisTemplate.execute(SWAP_SCRIPT,
+                    List.of(tmpPolicy, POLICY_KEY, tmpPolicyMeta, POLICY_META_KEY,
+                            tmpRegion, REGION_KEY, tmpRegionMeta, REGION_META_KEY, READY_KEY),
+                    String.valueOf(System.currentTimeMillis()));
+            reconcileCount.incrementAndGet();
+            log.info("🏆 리더보드 재구성 완료: policies={}, regions={}, {}ms",
+                    policyCount, regionCount, System.currentTimeMillis() - start);
+            return true;
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("appliedEvents", appliedEventCount.get());
+        stats.put("applyFailures", applyFailureCount.get());
+        stats.put("reconciles", reconcileCount.get());
+        return stats;
+    }
+
+    // ===== 내부 유틸 =====
+
+    private static String joinMeta(String... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(META_SEPARATOR);
+            }
+            sb.append(values[i] == null ? "" : values[i]);
+        }
+        return sb.toString();
+    }
+
+    // 빈 문자열은 null로 복원 (DB 컬럼 NULL과 동일하게 응답)
+    private static String[] splitMeta(Object meta, int size) {
+        String[] result = new String[size];
+        if (meta == null) {
+            return result;
+        }
+        String[] parts = meta.toString().split(META_SEPARATOR, -1);
+        for (int i = 0; i < size && i < parts.length; i++) {
+            result[i] = parts[i].isEmpty() ? null : parts[i];
+        }
+        return result;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
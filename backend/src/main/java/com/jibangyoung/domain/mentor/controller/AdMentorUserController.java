@@ -31,6 +31,7 @@ import com.jibangyoung.domain.mentor.service.MentorApplicationService;
 import com.jibangyoung.domain.mentor.service.MentorNoticeService;
 import com.jibangyoung.global.annotation.UserActivityLogging;
 import com.jibangyoung.global.common.ApiResponse;
+import com.jibangyoung.global.common.CursorPage;
 import com.jibangyoung.global.security.CustomUserPrincipal;
 
 import jakarta.validation.Valid;
@@ -226,6 +227,32 @@ public class AdMentorUserController {
         return ResponseEntity.ok(ApiResponse.success(notices));
     }
 
+    // 공지사항 목록 - 커서 페이지 (cursor는 이전 응답의 nextCursor, 첫 페이지는 생략)
+    @GetMapping("/notices/cursor")
+    @PreAuthorize("hasAnyRole('MENTOR_A', 'MENTOR_B', 'MENTOR_C', 'ADMIN')")
+    @UserActivityLogging(actionType = "MENTOR_NOTICES_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "멘토 공지사항 목록 조회 (커서)")
+    public ResponseEntity<ApiResponse<CursorPage<MentorNoticeDto>>> getMentorNoticesCursor(
+            @RequestParam(required = false) Long regionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String keyword,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
+
+        boolean isAdmin = userPrincipal.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
+
+        List<Long> mentorRegionIds = null;
+        if (!isAdmin) {
+            mentorRegionIds = adMentorUserRepository.findRegionIdByUserId(userPrincipal.getId());
+            if (mentorRegionIds == null || mentorRegionIds.isEmpty()) {
+                return ResponseEntity.ok(ApiResponse.success(new CursorPage<>(List.of(), null, false, null)));
+            }
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+                mentorNoticeService.getNoticesCursor(regionId, mentorRegionIds, keyword, cursor,
+                        CursorPage.clampSize(size))));
+    }
+
     @GetMapping("/notices/{noticeId}")
     @PreAuthorize("hasAnyRole('MENTOR_A', 'MENTOR_B', 'MENTOR_C', 'ADMIN')")
     @UserActivityLogging(actionType = "MENTOR_NOTICE_DETAIL_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "멘토 공지사항 상세 조회")
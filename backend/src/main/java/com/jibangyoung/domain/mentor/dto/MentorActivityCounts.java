@@ -0,0 +1,18 @@
+package com.jibangyoung.domain.mentor.dto;
+
+/**
+ * 멘토 1명의 활동 집계 (게시글/공지/댓글 수 + 신고 처리 결과별 건수)
+ */
+public record MentorActivityCounts(
+        long postCount,
+        long noticeCount,
+        long commentCount,
+        long approvedCount,
+        long ignoredCount,
+        long invalidCount,
+        long pendingCount,
+        long rejectedCount,
+        long requestedCount) {
+
+    public static final MentorActivityCounts EMPTY = new MentorActivityCounts(0, 0, 0, 0, 0, 0, 0, 0, 0);
+}
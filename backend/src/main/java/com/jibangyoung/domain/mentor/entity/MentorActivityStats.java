@@ -0,0 +1,60 @@
+package com.jibangyoung.domain.mentor.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멘토별 활동 집계 (멘토 활동로그 목록 조회용 스냅샷)
+ * - MentorActivityStatsRefresher가 주기적으로 전체 재집계해 UPSERT
+ * - 쓰기는 JDBC 일괄 UPSERT만 사용 (엔티티는 조회 전용)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mentor_activity_stats", indexes = {
+        @Index(name = "idx_mentor_stats_refreshed", columnList = "refreshed_at")
+})
+public class MentorActivityStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "post_count", nullable = false)
+    private int postCount;
+
+    @Column(name = "notice_count", nullable = false)
+    private int noticeCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
+    @Column(name = "approved_count", nullable = false)
+    private int approvedCount;
+
+    @Column(name = "ignored_count", nullable = false)
+    private int ignoredCount;
+
+    @Column(name = "invalid_count", nullable = false)
+    private int invalidCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private int rejectedCount;
+
+    @Column(name = "requested_count", nullable = false)
+    private int requestedCount;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
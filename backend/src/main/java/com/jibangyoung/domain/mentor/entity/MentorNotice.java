@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "mentor_notices")
+@Table(name = "mentor_notices", indexes = {
+        // 공지 목록 키셋 페이지 (created_at, id 내림차순)
+        @Index(name = "idx_mentor_notices_region_created", columnList = "region_id, created_at, id"),
+        @Index(name = "idx_mentor_notices_created", columnList = "created_at, id")
+})
 public class MentorNotice {
 
     @Id
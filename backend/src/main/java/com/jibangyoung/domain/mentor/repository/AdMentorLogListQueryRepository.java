@@ -1,6 +1,7 @@
 package com.jibangyoung.domain.mentor.repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,254 +11,236 @@ import org.springframework.stereotype.Repository;
 
 import com.jibangyoung.domain.auth.entity.QUser;
 import com.jibangyoung.domain.auth.entity.UserRole;
-import com.jibangyoung.domain.community.entity.Posts;
 import com.jibangyoung.domain.community.entity.Posts.PostCategory;
 import com.jibangyoung.domain.community.entity.QPosts;
 import com.jibangyoung.domain.mentor.dto.AdMentorLogListDTO;
+import com.jibangyoung.domain.mentor.dto.MentorActivityCounts;
+import com.jibangyoung.domain.mentor.entity.QMentorActivityStats;
 import com.jibangyoung.domain.mentor.entity.QMentorTest;
 import com.jibangyoung.domain.mypage.entity.QComment;
 import com.jibangyoung.domain.mypage.entity.QReport;
 import com.jibangyoung.domain.mypage.entity.ReviewResultCode;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 멘토 활동로그 목록 통계
+ * - 실시간: 멘토 1회 + 게시글(공지 포함) 1회 + 댓글 1회 + 신고(처리 결과 6종) 1회 = 4회 조회
+ *   (조건부 집계 SUM(CASE ...)로 상태별 반복 조회 제거)
+ * - 스냅샷: mentor_activity_stats LEFT JOIN 1회 조회
+ */
 @Repository
 @RequiredArgsConstructor
 public class AdMentorLogListQueryRepository {
 
+    // IN 절 최대 크기 (멘토 수가 많아도 쿼리 길이 제한)
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
     private final JPAQueryFactory queryFactory;
+
     // ADMIN
     public List<AdMentorLogListDTO> findMentorLogListAllRegions() {
+        return findMentorLogList(null);
+    }
+
+    // Mentor
+    public List<AdMentorLogListDTO> findMentorLogListByRegionIds(List<Long> regionIds) {
+        return findMentorLogList(QMentorTest.mentorTest.regionId.in(regionIds));
+    }
+
+    /**
+     * 스냅샷 테이블 기반 조회 (regionIds가 null이면 전체 지역)
+     */
+    public List<AdMentorLogListDTO> findMentorLogListFromStats(List<Long> regionIds) {
         QMentorTest m = QMentorTest.mentorTest;
         QUser u = QUser.user;
-        QPosts p = QPosts.posts;
-        QComment c = QComment.comment;
-        QReport r = QReport.report;
+        QMentorActivityStats s = QMentorActivityStats.mentorActivityStats;
 
-        List<Tuple> mentors = queryFactory
-                .select(
-                        m.userId,
-                        u.nickname,
-                        u.role,
-                        m.regionId
-                )
+        List<Tuple> rows = queryFactory
+                .select(m.userId, u.nickname, u.role, m.regionId,
+                        s.postCount, s.noticeCount, s.commentCount,
+                        s.approvedCount, s.ignoredCount, s.invalidCount,
+                        s.pendingCount, s.rejectedCount, s.requestedCount)
                 .from(m)
                 .join(u).on(m.userId.eq(u.id))
+                .leftJoin(s).on(s.userId.eq(m.userId))
+                .where(regionIds != null ? m.regionId.in(regionIds) : null)
                 .fetch();
 
-        List<Long> userIds = mentors.stream()
-                .map(row -> row.get(m.userId))
-                .collect(Collectors.toList());
-
-        if (userIds.isEmpty()) {
-            return List.of();
-        }
-
-        Map<Long, Long> postCountMap = queryFactory
-                .select(p.userId, p.count())
-                .from(p)
-                .where(p.userId.in(userIds))
-                .groupBy(p.userId)
-                .fetch()
-                .stream().collect(Collectors.toMap(
-                        tuple -> tuple.get(p.userId),
-                        tuple -> tuple.get(p.count())
-                ));
-
-        Map<Long, Long> noticeCountMap = queryFactory
-                .select(p.userId, p.count())
-                .from(p)
-                .where(
-                        p.userId.in(userIds),
-                        p.category.eq(Posts.PostCategory.NOTICE)
-                )
-                .groupBy(p.userId)
-                .fetch()
-                .stream().collect(Collectors.toMap(
-                        tuple -> tuple.get(p.userId),
-                        tuple -> tuple.get(p.count())
-                ));
-
-        Map<Long, Long> commentCountMap = queryFactory
-                .select(c.user.id, c.count())
-                .from(c)
-                .where(c.user.id.in(userIds))
-                .groupBy(c.user.id)
-                .fetch()
-                .stream().collect(Collectors.toMap(
-                        tuple -> tuple.get(c.user.id),
-                        tuple -> tuple.get(c.count())
-                ));
-
-        Map<String, Map<Long, Long>> reportStatusCountMap = new HashMap<>();
-        List<String> statusList = List.of("APPROVED", "IGNORED", "INVALID", "PENDING", "REJECTED", "REQUESTED");
-        for (String status : statusList) {
-            Map<Long, Long> map = queryFactory
-                    .select(r.reviewedBy, r.count())
-                    .from(r)
-                    .where(
-                            r.reviewedBy.in(userIds),
-                            r.reviewResultCode.eq(ReviewResultCode.valueOf(status))
-                    )
-                    .groupBy(r.reviewedBy)
-                    .fetch()
-                    .stream().collect(Collectors.toMap(
-                            tuple -> tuple.get(r.reviewedBy),
-                            tuple -> tuple.get(r.count())
-                    ));
-            reportStatusCountMap.put(status, map);
+        List<AdMentorLogListDTO> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            MentorActivityCounts counts = new MentorActivityCounts(
+                    orZero(row.get(s.postCount)),
+                    orZero(row.get(s.noticeCount)),
+                    orZero(row.get(s.commentCount)),
+                    orZero(row.get(s.approvedCount)),
+                    orZero(row.get(s.ignoredCount)),
+                    orZero(row.get(s.invalidCount)),
+                    orZero(row.get(s.pendingCount)),
+                    orZero(row.get(s.rejectedCount)),
+                    orZero(row.get(s.requestedCount)));
+            result.add(toDto(row, m, u, counts));
         }
+        return result;
+    }
 
-        List<AdMentorLogListDTO> result = new ArrayList<>();
-        for (Tuple row : mentors) {
-            Long userId = row.get(m.userId);
-            String nickname = row.get(u.nickname);
-
-            UserRole userRole = row.get(u.role) != null ? (UserRole) row.get(u.role) : null;
-            String role = userRole != null ? userRole.name() : null;
-            String roleDescription = userRole != null ? userRole.getDescription() : null;
-
-            Long regionId = row.get(m.regionId);
+    /**
+     * 전체 멘토 userId (스냅샷 재집계 대상)
+     */
+    public List<Long> findAllMentorUserIds() {
+        QMentorTest m = QMentorTest.mentorTest;
+        return queryFactory
+                .select(m.userId)
+                .distinct()
+                .from(m)
+                .where(m.userId.isNotNull())
+                .fetch();
+    }
 
-            result.add(
-                    AdMentorLogListDTO.builder()
-                            .userId(userId)
-                            .nickname(nickname)
-                            .role(role)
-                            .roleDescription(roleDescription)
-                            .regionId(regionId)
-                            .postCount(postCountMap.getOrDefault(userId, 0L).intValue())
-                            .noticeCount(noticeCountMap.getOrDefault(userId, 0L).intValue())
-                            .commentCount(commentCountMap.getOrDefault(userId, 0L).intValue())
-                            .approvedCount(reportStatusCountMap.get("APPROVED").getOrDefault(userId, 0L).intValue())
-                            .ignoredCount(reportStatusCountMap.get("IGNORED").getOrDefault(userId, 0L).intValue())
-                            .invalidCount(reportStatusCountMap.get("INVALID").getOrDefault(userId, 0L).intValue())
-                            .pendingCount(reportStatusCountMap.get("PENDING").getOrDefault(userId, 0L).intValue())
-                            .rejectedCount(reportStatusCountMap.get("REJECTED").getOrDefault(userId, 0L).intValue())
-                            .requestedCount(reportStatusCountMap.get("REQUESTED").getOrDefault(userId, 0L).intValue())
-                            .build()
-            );
+    /**
+     * userId별 활동 집계 - 청크당 3회 조회 (게시글/댓글/신고 각각 GROUP BY + 조건부 집계)
+     */
+    public Map<Long, MentorActivityCounts> aggregateActivity(Collection<Long> userIds) {
+        Map<Long, long[]> counters = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+            aggregatePosts(chunk, counters);
+            aggregateComments(chunk, counters);
+            aggregateReports(chunk, counters);
         }
-        return result;
+        return counters.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> {
+                    long[] c = e.getValue();
+                    return new MentorActivityCounts(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8]);
+                }));
     }
 
-    // Mentor
-    public List<AdMentorLogListDTO> findMentorLogListByRegionIds(List<Long> regionIds) {
+    // ===== 내부 =====
+
+    private List<AdMentorLogListDTO> findMentorLogList(BooleanExpression regionFilter) {
         QMentorTest m = QMentorTest.mentorTest;
         QUser u = QUser.user;
-        QPosts p = QPosts.posts;
-        QComment c = QComment.comment;
-        QReport r = QReport.report;
 
         // 1. Mentor-User 조인(집계 대상 추출)
         List<Tuple> mentors = queryFactory
-                .select(
-                        m.userId,
-                        u.nickname,
-                        u.role,
-                        m.regionId
-                )
+                .select(m.userId, u.nickname, u.role, m.regionId)
                 .from(m)
                 .join(u).on(m.userId.eq(u.id))
-                .where(m.regionId.in(regionIds))
+                .where(regionFilter)
                 .fetch();
 
-        List<Long> userIds = mentors.stream()
+        if (mentors.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 게시글/댓글/신고 집계 (중복 userId 제거 후 1회씩)
+        Map<Long, MentorActivityCounts> countsByUser = aggregateActivity(mentors.stream()
                 .map(row -> row.get(m.userId))
-                .collect(Collectors.toList());
+                .collect(Collectors.toSet()));
 
-        // 2. postCount, noticeCount
-        Map<Long, Long> postCountMap = queryFactory
-                .select(p.userId, p.count())
-                .from(p)
-                .where(p.userId.in(userIds))
-                .groupBy(p.userId)
-                .fetch()
-                .stream().collect(Collectors.toMap(
-                        tuple -> tuple.get(p.userId),
-                        tuple -> tuple.get(p.count())
-                ));
+        // 3. DTO 조립
+        List<AdMentorLogListDTO> result = new ArrayList<>(mentors.size());
+        for (Tuple row : mentors) {
+            MentorActivityCounts counts = countsByUser.getOrDefault(row.get(m.userId), MentorActivityCounts.EMPTY);
+            result.add(toDto(row, m, u, counts));
+        }
+        return result;
+    }
+
+    // postCount, noticeCount
+    private void aggregatePosts(List<Long> userIds, Map<Long, long[]> counters) {
+        QPosts p = QPosts.posts;
+        NumberExpression<Long> noticeCount = new CaseBuilder()
+                .when(p.category.eq(PostCategory.NOTICE)).then(1L)
+                .otherwise(0L)
+                .sum();
 
-        Map<Long, Long> noticeCountMap = queryFactory
-                .select(p.userId, p.count())
+        for (Tuple row : queryFactory
+                .select(p.userId, p.count(), noticeCount)
                 .from(p)
-                .where(
-                        p.userId.in(userIds),
-                        p.category.eq(PostCategory.NOTICE)
-                )
+                .where(p.userId.in(userIds))
                 .groupBy(p.userId)
-                .fetch()
-                .stream().collect(Collectors.toMap(
-                        tuple -> tuple.get(p.userId),
-                        tuple -> tuple.get(p.count())
-                ));
+                .fetch()) {
+            long[] c = counters.computeIfAbsent(row.get(p.userId), id -> new long[9]);
+            c[0] = orZero(row.get(p.count()));
+            c[1] = orZero(row.get(noticeCount));
+        }
+    }
 
-        // 3. commentCount
-        Map<Long, Long> commentCountMap = queryFactory
+    // commentCount
+    private void aggregateComments(List<Long> userIds, Map<Long, long[]> counters) {
+        QComment c = QComment.comment;
+        for (Tuple row : queryFactory
                 .select(c.user.id, c.count())
                 .from(c)
                 .where(c.user.id.in(userIds))
                 .groupBy(c.user.id)
-                .fetch()
-                .stream().collect(Collectors.toMap(
-                        tuple -> tuple.get(c.user.id),
-                        tuple -> tuple.get(c.count())
-                ));
-
-        // 4. Report status별 count (동일한 방식으로)
-        Map<String, Map<Long, Long>> reportStatusCountMap = new HashMap<>();
-        List<String> statusList = List.of("APPROVED", "IGNORED", "INVALID", "PENDING", "REJECTED", "REQUESTED");
-        for (String status : statusList) {
-            Map<Long, Long> map = queryFactory
-                    .select(r.reviewedBy, r.count())
-                    .from(r)
-                    .where(
-                        r.reviewedBy.in(userIds),
-                        r.reviewResultCode.eq(ReviewResultCode.valueOf(status))
-                    )
-                    .groupBy(r.reviewedBy)
-                    .fetch()
-                    .stream().collect(Collectors.toMap(
-                            tuple -> tuple.get(r.reviewedBy),
-                            tuple -> tuple.get(r.count())
-                    ));
-            reportStatusCountMap.put(status, map);
+                .fetch()) {
+            counters.computeIfAbsent(row.get(c.user.id), id -> new long[9])[2] = orZero(row.get(c.count()));
         }
+    }
 
-        // 5. DTO 조립 (for문)
-        List<AdMentorLogListDTO> result = new ArrayList<>();
-        for (Tuple row : mentors) {
-            Long userId = row.get(m.userId);
-            String nickname = row.get(u.nickname);
+    // 신고 처리 결과별 건수 (reviewedBy 기준, 상태 6종을 한 번에)
+    private void aggregateReports(List<Long> userIds, Map<Long, long[]> counters) {
+        QReport r = QReport.report;
+        NumberExpression<Long> approved = countWhen(r, ReviewResultCode.APPROVED);
+        NumberExpression<Long> ignored = countWhen(r, ReviewResultCode.IGNORED);
+        NumberExpression<Long> invalid = countWhen(r, ReviewResultCode.INVALID);
+        NumberExpression<Long> pending = countWhen(r, ReviewResultCode.PENDING);
+        NumberExpression<Long> rejected = countWhen(r, ReviewResultCode.REJECTED);
+        NumberExpression<Long> requested = countWhen(r, ReviewResultCode.REQUESTED);
+
+        for (Tuple row : queryFactory
+                .select(r.reviewedBy, approved, ignored, invalid, pending, rejected, requested)
+                .from(r)
+                .where(r.reviewedBy.in(userIds))
+                .groupBy(r.reviewedBy)
+                .fetch()) {
+            long[] c = counters.computeIfAbsent(row.get(r.reviewedBy), id -> new long[9]);
+            c[3] = orZero(row.get(approved));
+            c[4] = orZero(row.get(ignored));
+            c[5] = orZero(row.get(invalid));
+            c[6] = orZero(row.get(pending));
+            c[7] = orZero(row.get(rejected));
+            c[8] = orZero(row.get(requested));
+        }
+    }
 
-            // UserRole enum 타입 처리!
-            UserRole userRole = row.get(u.role) != null ? (UserRole) row.get(u.role) : null;
-            String role = userRole != null ? userRole.name() : null;
-            String roleDescription = userRole != null ? userRole.getDescription() : null;
+    private static NumberExpression<Long> countWhen(QReport r, ReviewResultCode code) {
+        return new CaseBuilder()
+                .when(r.reviewResultCode.eq(code)).then(1L)
+                .otherwise(0L)
+                .sum();
+    }
 
-            Long regionId = row.get(m.regionId);
+    private static AdMentorLogListDTO toDto(Tuple row, QMentorTest m, QUser u, MentorActivityCounts counts) {
+        // UserRole enum 타입 처리!
+        UserRole userRole = row.get(u.role);
+        return AdMentorLogListDTO.builder()
+                .userId(row.get(m.userId))
+                .nickname(row.get(u.nickname))
+                .role(userRole != null ? userRole.name() : null)
+                .roleDescription(userRole != null ? userRole.getDescription() : null) // 한글명 포함!
+                .regionId(row.get(m.regionId))
+                .postCount((int) counts.postCount())
+                .noticeCount((int) counts.noticeCount())
+                .commentCount((int) counts.commentCount())
+                .approvedCount((int) counts.approvedCount())
+                .ignoredCount((int) counts.ignoredCount())
+                .invalidCount((int) counts.invalidCount())
+                .pendingCount((int) counts.pendingCount())
+                .rejectedCount((int) counts.rejectedCount())
+                .requestedCount((int) counts.requestedCount())
+                .build();
+    }
 
-            result.add(
-                    AdMentorLogListDTO.builder()
-                            .userId(userId)
-                            .nickname(nickname)
-                            .role(role)
-                            .roleDescription(roleDescription)  // 한글명 포함!
-                            .regionId(regionId)
-                            .postCount(postCountMap.getOrDefault(userId, 0L).intValue())
-                            .noticeCount(noticeCountMap.getOrDefault(userId, 0L).intValue())
-                            .commentCount(commentCountMap.getOrDefault(userId, 0L).intValue())
-                            .approvedCount(reportStatusCountMap.get("APPROVED").getOrDefault(userId, 0L).intValue())
-                            .ignoredCount(reportStatusCountMap.get("IGNORED").getOrDefault(userId, 0L).intValue())
-                            .invalidCount(reportStatusCountMap.get("INVALID").getOrDefault(userId, 0L).intValue())
-                            .pendingCount(reportStatusCountMap.get("PENDING").getOrDefault(userId, 0L).intValue())
-                            .rejectedCount(reportStatusCountMap.get("REJECTED").getOrDefault(userId, 0L).intValue())
-                            .requestedCount(reportStatusCountMap.get("REQUESTED").getOrDefault(userId, 0L).intValue())
-                            .build()
-            );
-        }
-        return result;
+    private static long orZero(Number value) {
+        return value != null ? value.longValue() : 0L;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.jibangyoung.domain.mentor.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.jibangyoung.domain.mentor.entity.MentorNotice;
+import com.jibangyoung.domain.mentor.entity.QMentorNotice;
+import com.jibangyoung.global.common.SeekCursor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 멘토 공지사항 키셋(seek) 페이지 조회 - (created_at, id) 이후 limit건, 작성자 fetch join
+ */
+@Repository
+@RequiredArgsConstructor
+public class MentorNoticeCursorQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // regionIds = null 이면 전체 지역, keyword = null 이면 제목 조건 없음
+    public List<MentorNotice> findPage(Collection<Integer> regionIds, String keyword, SeekCursor cursor, int limit) {
+        QMentorNotice n = QMentorNotice.mentorNotice;
+        return queryFactory
+                .selectFrom(n)
+                .join(n.author).fetchJoin()
+                .where(regionIds != null ? n.regionId.in(regionIds) : null,
+                        keyword != null ? n.title.contains(keyword) : null,
+                        after(n, cursor))
+                .orderBy(n.createdAt.desc(), n.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression after(QMentorNotice n, SeekCursor cursor) {
+        if (cursor == null || cursor.createdAt() == null) {
+            return null;
+        }
+        return n.createdAt.lt(cursor.createdAt())
+                .or(n.createdAt.eq(cursor.createdAt()).and(n.id.lt(cursor.id())));
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import com.jibangyoung.domain.mentor.dto.AdMentorLogListDTO;
 import com.jibangyoung.domain.mentor.repository.AdMentorLogListQueryRepository;
 import com.jibangyoung.domain.mentor.repository.AdMentorUserRepository;
+import com.jibangyoung.domain.mentor.support.MentorActivityStatsRefresher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,12 +17,16 @@ public class AdMentorLogListService {
 
     private final AdMentorLogListQueryRepository adMentorLogListQueryRepository;
     private final AdMentorUserRepository adMentorUserRepository;
+    private final MentorActivityStatsRefresher statsRefresher;
 
     // 멘토 데시보드_멘토 활동로그 리스트
+    // - 스냅샷 사용 시 mentor_activity_stats 1회 조회, 아니면 실시간 조건부 집계
     public List<AdMentorLogListDTO> getMentorLogList(Long userId, boolean isAdmin) {
 
         if (isAdmin) {
-            return adMentorLogListQueryRepository.findMentorLogListAllRegions();
+            return statsRefresher.isEnabled()
+                    ? adMentorLogListQueryRepository.findMentorLogListFromStats(null)
+                    : adMentorLogListQueryRepository.findMentorLogListAllRegions();
         }
 
         List<Long> regionIds = adMentorUserRepository.findRegionIdByUserId(userId);
@@ -31,6 +36,8 @@ public class AdMentorLogListService {
         }
 
         // QueryDSL 통계 Repository로 위임
-        return adMentorLogListQueryRepository.findMentorLogListByRegionIds(regionIds);
+        return statsRefresher.isEnabled()
+                ? adMentorLogListQueryRepository.findMentorLogListFromStats(regionIds)
+                : adMentorLogListQueryRepository.findMentorLogListByRegionIds(regionIds);
     }
-}
\ No newline at end of file
+}
@@ -4,9 +4,11 @@ import com.jibangyoung.domain.mentor.dto.MentorNoticeCreateDto;
 import com.jibangyoung.domain.mentor.dto.MentorNoticeDto;
 import com.jibangyoung.domain.mentor.dto.MentorNoticeNavigationDto;
 import com.jibangyoung.domain.mentor.entity.MentorNotice;
+import com.jibangyoung.domain.mentor.repository.MentorNoticeCursorQueryRepository;
 import com.jibangyoung.domain.mentor.repository.MentorNoticeRepository;
-import com.jibangyoung.domain.policy.entity.Region;
-import com.jibangyoung.domain.policy.repository.RegionRepository;
+import com.jibangyoung.domain.policy.support.RegionCatalog;
+import com.jibangyoung.global.common.CursorPage;
+import com.jibangyoung.global.common.SeekCursor;
 import com.jibangyoung.global.exception.BusinessException;
 import com.jibangyoung.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +29,11 @@ import java.util.stream.Collectors;
 public class MentorNoticeService {
     
     private final MentorNoticeRepository mentorNoticeRepository;
-    private final RegionRepository regionRepository;
+    private final RegionCatalog regionCatalog;
+    private final MentorNoticeCursorQueryRepository mentorNoticeCursorQueryRepository;
+
+    // 전국 공지 지역 ID
+    private static final int NATIONAL_REGION_ID = 99999;
     
     // 임시 사용자 ID (관리자)
     private static final Long TEMP_ADMIN_ID = 1L;
@@ -63,16 +69,7 @@ public class MentorNoticeService {
             }
         }
         
-        return notices.map(notice -> {
-            if (notice.getRegionId() == 99999) {
-                return MentorNoticeDto.fromWithRegionInfo(notice, "99999", "전국");
-            }
-            
-            Region region = regionRepository.findById(notice.getRegionId()).orElse(null);
-            String regionCode = region != null ? String.valueOf(region.getRegionCode()) : "";
-            String regionName = region != null ? region.getSido() + " " + region.getGuGun1() : "";
-            return MentorNoticeDto.fromWithRegionInfo(notice, regionCode, regionName);
-        });
+        return notices.map(this::toNoticeDto);
     }
 
     @Transactional(readOnly = true)
@@ -104,32 +101,64 @@ public class MentorNoticeService {
             }
         }
         
-        return notices.map(notice -> {
-            if (notice.getRegionId() == 99999) {
-                return MentorNoticeDto.fromWithRegionInfo(notice, "99999", "전국");
-            }
-            
-            Region region = regionRepository.findById(notice.getRegionId()).orElse(null);
-            String regionCode = region != null ? String.valueOf(region.getRegionCode()) : "";
-            String regionName = region != null ? region.getSido() + " " + region.getGuGun1() : "";
-            return MentorNoticeDto.fromWithRegionInfo(notice, regionCode, regionName);
-        });
+        return notices.map(this::toNoticeDto);
     }
     
+    /**
+     * 공지사항 커서(키셋) 페이지 - OFFSET/COUNT 없이 (created_at, id) 기준 다음 size건
+     * @param mentorRegionIds 멘토 담당 지역 (관리자는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MentorNoticeDto> getNoticesCursor(Long regionId, List<Long> mentorRegionIds, String keyword,
+            String cursor, int size) {
+        List<Integer> regionIds;
+        if (mentorRegionIds == null) {
+            // 관리자: 전체 또는 특정 지역 + 전국 공지
+            regionIds = (regionId == null || regionId == 0) ? null : List.of(regionId.intValue(), NATIONAL_REGION_ID);
+        } else if (regionId != null && regionId != 0) {
+            // 멘토: 담당 지역 또는 전국만 선택 가능
+            if (!mentorRegionIds.contains(regionId) && regionId != NATIONAL_REGION_ID) {
+                return new CursorPage<>(List.of(), null, false, null);
+            }
+            regionIds = List.of(regionId.intValue());
+        } else {
+            // 멘토 전체 선택: 담당 지역 + 전국
+            List<Integer> allRegionIds = new ArrayList<>();
+            for (Long id : mentorRegionIds) {
+                allRegionIds.add(id.intValue());
+            }
+            allRegionIds.add(NATIONAL_REGION_ID);
+            regionIds = allRegionIds;
+        }
+
+        String trimmed = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
+        List<MentorNotice> fetched = mentorNoticeCursorQueryRepository.findPage(regionIds, trimmed,
+                SeekCursor.decodeCreatedAtAndId(cursor), size + 1);
+        return CursorPage.of(fetched, size, notice -> new SeekCursor(notice.getCreatedAt(), notice.getId()),
+                notices -> notices.stream().map(this::toNoticeDto).collect(Collectors.toList()), null);
+    }
+
+    // 지역 정보는 RegionCatalog(메모리)에서 조회 - 공지 행마다 region 조회하지 않음
+    private MentorNoticeDto toNoticeDto(MentorNotice notice) {
+        if (notice.getRegionId() == NATIONAL_REGION_ID) {
+            return MentorNoticeDto.fromWithRegionInfo(notice, "99999", "전국");
+        }
+        RegionCatalog.RegionEntry region = regionCatalog.find(notice.getRegionId());
+        if (region == null) {
+            return MentorNoticeDto.fromWithRegionInfo(notice, "", "");
+        }
+        String regionName = region.guGun1() != null && !region.guGun1().isEmpty()
+                ? region.sido() + " " + region.guGun1()
+                : region.sido();
+        return MentorNoticeDto.fromWithRegionInfo(notice, String.valueOf(region.code()), regionName);
+    }
+
     @Transactional(readOnly = true)
     public MentorNoticeDto getNoticeDetail(Long noticeId) {
         MentorNotice notice = mentorNoticeRepository.findByIdWithAuthor(noticeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTICE_NOT_MENTOR));
                 
-        if (notice.getRegionId() == 99999) {
-            return MentorNoticeDto.fromWithRegionInfo(notice, "99999", "전국");
-        }
-        
-        Region region = regionRepository.findById(notice.getRegionId()).orElse(null);
-        String regionCode = region != null ? String.valueOf(region.getRegionCode()) : "";
-        String regionName = region != null ? region.getSido() + " " + region.getGuGun1() : "";
-        
-        return MentorNoticeDto.fromWithRegionInfo(notice, regionCode, regionName);
+        return toNoticeDto(notice);
     }
     
     @Transactional(readOnly = true)
@@ -138,15 +167,7 @@ public class MentorNoticeService {
         MentorNotice notice = mentorNoticeRepository.findByIdWithAuthor(noticeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTICE_NOT_MENTOR));
                 
-        MentorNoticeDto currentNotice;
-        if (notice.getRegionId() == 99999) {
-            currentNotice = MentorNoticeDto.fromWithRegionInfo(notice, "99999", "전국");
-        } else {
-            Region region = regionRepository.findById(notice.getRegionId()).orElse(null);
-            String regionCode = region != null ? String.valueOf(region.getRegionCode()) : "";
-            String regionName = region != null ? region.getSido() + " " + region.getGuGun1() : "";
-            currentNotice = MentorNoticeDto.fromWithRegionInfo(notice, regionCode, regionName);
-        }
+        MentorNoticeDto currentNotice = toNoticeDto(notice);
         
         // 이전 글 조회
         Pageable pageable = PageRequest.of(0, 1);
@@ -178,16 +199,7 @@ public class MentorNoticeService {
         List<MentorNotice> notices = mentorNoticeRepository.findTop5ByRegionIdOrderByCreatedAtDesc(regionId, pageable);
         
         return notices.stream()
-                .map(notice -> {
-                    if (notice.getRegionId() == 99999) {
-                        return MentorNoticeDto.fromWithRegionInfo(notice, "99999", "전국");
-                    }
-                    
-                    Region region = regionRepository.findById(notice.getRegionId()).orElse(null);
-                    String regionCode = region != null ? String.valueOf(region.getRegionCode()) : "";
-                    String regionName = region != null ? region.getSido() + " " + region.getGuGun1() : "";
-                    return MentorNoticeDto.fromWithRegionInfo(notice, regionCode, regionName);
-                })
+                .map(this::toNoticeDto)
                 .collect(Collectors.toList());
     }
     
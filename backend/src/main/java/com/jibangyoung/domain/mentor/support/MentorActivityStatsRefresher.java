@@ -0,0 +1,96 @@
+package com.jibangyoung.domain.mentor.support;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.domain.mentor.dto.MentorActivityCounts;
+import com.jibangyoung.domain.mentor.repository.AdMentorLogListQueryRepository;
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * mentor_activity_stats 스냅샷 재집계
+ * - 전체 멘토의 게시글/댓글/신고 집계를 조건부 집계 쿼리로 계산해 일괄 UPSERT
+ * - 이번 실행에서 갱신되지 않은 행(멘토 해제 등)은 삭제
+ * - mentor.activity-stats.enabled=true 일 때만 실행 (클러스터에서 한 노드만)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MentorActivityStatsRefresher {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO mentor_activity_stats (
+                user_id, post_count, notice_count, comment_count,
+                approved_count, ignored_count, invalid_count, pending_count, rejected_count, requested_count,
+                refreshed_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                post_count = VALUES(post_count),
+                notice_count = VALUES(notice_count),
+                comment_count = VALUES(comment_count),
+                approved_count = VALUES(approved_count),
+                ignored_count = VALUES(ignored_count),
+                invalid_count = VALUES(invalid_count),
+                pending_count = VALUES(pending_count),
+                rejected_count = VALUES(rejected_count),
+                requested_count = VALUES(requested_count),
+                refreshed_at = VALUES(refreshed_at)""";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final AdMentorLogListQueryRepository queryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledJobRunner jobRunner;
+
+    @Value("${mentor.activity-stats.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Scheduled(initialDelayString = "${mentor.activity-stats.initial-delay-ms:30000}", fixedDelayString = "${mentor.activity-stats.refresh-ms:300000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        jobRunner.run("mentor-activity-stats-refresh", ScheduledJobRunner.Mode.LOCKED,
+                Duration.ofMinutes(4), Duration.ofSeconds(30), this::refresh);
+    }
+
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        List<Long> mentorIds = queryRepository.findAllMentorUserIds();
+        Map<Long, MentorActivityCounts> counts = queryRepository.aggregateActivity(mentorIds);
+        Timestamp refreshedAt = Timestamp.valueOf(LocalDateTime.now().withNano(0));
+
+        List<Object[]> rows = new ArrayList<>(mentorIds.size());
+        for (Long userId : mentorIds) {
+            MentorActivityCounts c = counts.getOrDefault(userId, MentorActivityCounts.EMPTY);
+            rows.add(new Object[] {
+                    userId, c.postCount(), c.noticeCount(), c.commentCount(),
+                    c.approvedCount(), c.ignoredCount(), c.invalidCount(),
+                    c.pendingCount(), c.rejectedCount(), c.requestedCount(),
+                    refreshedAt });
+        }
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+        int removed = jdbcTemplate.update("DELETE FROM mentor_activity_stats WHERE refreshed_at < ?", refreshedAt);
+
+        log.info("[MentorActivityStats] 재집계 완료: mentors={}, removed={}, {}ms",
+                mentorIds.size(), removed, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jibangyoung.domain.mypage.dto;
+
+/**
+ * Redis → DB 동기화 대상 점수 항목
+ * - member: 변경 추적 Set의 원본 멤버 ("userId:regionId"), 실패 시 재등록용
+ */
+public record ChangedRegionScoreDto(Long userId, Long regionId, long score, String member) {
+}
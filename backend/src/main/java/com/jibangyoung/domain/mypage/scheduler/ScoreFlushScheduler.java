@@ -1,25 +1,32 @@
 package com.jibangyoung.domain.mypage.scheduler;
 
+import java.time.Duration;
+
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.jibangyoung.domain.mypage.service.FlushScoreService;
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Redis→MariaDB 점수 플러시 스케줄러
- * - 동시성/배치 안전, 실패시 재시도/락 처리 필요
+ * - 동시성/배치 안전, 실패 청크는 재표시 후 다음 주기에 재시도
+ * - 클러스터에서는 락을 얻은 한 노드만 실행
  */
 @Component
 @RequiredArgsConstructor
 public class ScoreFlushScheduler {
 
     private final FlushScoreService flushScoreService;
+    private final ScheduledJobRunner jobRunner;
 
     // 10분마다 Redis→DB 점수 동기화
     @Scheduled(cron = "0 */10 * * * *")
     public void flushScoreJob() {
-        flushScoreService.flushAllScoresToDB();
+        jobRunner.run("score-flush", ScheduledJobRunner.Mode.LOCKED,
+                Duration.ofMinutes(9), Duration.ofSeconds(30),
+                flushScoreService::flushAllScoresToDB);
     }
 }
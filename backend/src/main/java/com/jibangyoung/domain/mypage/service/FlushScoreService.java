@@ -1,15 +1,17 @@
 package com.jibangyoung.domain.mypage.service;
 
-import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.jibangyoung.domain.mypage.dto.ChangedRegionScoreDto;
 import com.jibangyoung.domain.mypage.dto.MyRegionScoreDto;
-import com.jibangyoung.domain.mypage.entity.UserRegionScore;
-import com.jibangyoung.domain.mypage.repository.UserRegionScoreRepository;
 import com.jibangyoung.domain.mypage.support.RedisScoreHelper;
+import com.jibangyoung.domain.mypage.support.UserRegionScoreBulkWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,102 +22,79 @@ import lombok.extern.slf4j.Slf4j;
 public class FlushScoreService {
 
     private final RedisScoreHelper redisScoreHelper;
-    private final UserRegionScoreRepository userRegionScoreRepository;
+    private final UserRegionScoreBulkWriter bulkWriter;
+
+    @Value("${score.flush.chunk-size:500}")
+    private int chunkSize;
+
+    // 누적 동기화 통계
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushedChunks = new AtomicLong();
+    private final AtomicLong failedChunks = new AtomicLong();
+    private final AtomicLong flushNanos = new AtomicLong();
 
     /**
      * Redis → MariaDB 점수 동기화
      * 스케줄러에서 호출되는 배치 작업
+     * - 변경 Set에서 chunkSize씩 꺼내 청크당 UPSERT 1문장으로 반영 (청크 단위 커밋)
+     * - 실패한 청크만 변경 Set에 재등록 → 나머지 청크는 롤백되지 않음
+     * - 꺼낸 항목은 커밋 후에만 처리 중 Set에서 제거, 이전 실행이 중단되어 남은 항목은 시작 시 복구
      */
-    @Transactional
     public void flushAllScoresToDB() {
-        try {
-            log.info("Redis → DB 점수 동기화 시작");
-
-            // Redis에서 모든 변경된 점수 데이터 조회
-            List<MyRegionScoreDto> allScores = redisScoreHelper.getAllChangedScores();
-
-            if (allScores.isEmpty()) {
-                log.info("동기화할 점수 변경사항이 없습니다.");
-                return;
+        log.info("Redis → DB 점수 동기화 시작");
+
+        long startTime = System.nanoTime();
+        int processedCount = 0;
+        int failedCount = 0;
+        long recovered = redisScoreHelper.recoverProcessing();
+        if (recovered > 0) {
+            log.warn("이전 동기화 중단으로 남은 점수 변경 항목 복구: count={}", recovered);
+        }
+        // 이번 주기 시작 시점의 변경 수만큼만 처리 (처리 중 새로 들어온 변경은 다음 주기로)
+        long remaining = redisScoreHelper.getChangedScoreCount();
+
+        while (remaining > 0) {
+            List<ChangedRegionScoreDto> chunk = redisScoreHelper
+                    .popChangedScores((int) Math.min(chunkSize, remaining));
+            if (chunk.isEmpty()) {
+                break;
             }
-
-            int processedCount = 0;
-            for (MyRegionScoreDto scoreDto : allScores) {
-                try {
-                    flushSingleScore(scoreDto);
-                    processedCount++;
-                } catch (Exception e) {
-                    log.error("점수 동기화 실패 - userId: {}, regionId: {}",
-                            scoreDto.regionId(), scoreDto.score(), e);
-                }
+            remaining -= chunk.size();
+
+            try {
+                bulkWriter.upsertAll(chunk);
+                redisScoreHelper.acknowledge(chunk);
+                processedCount += chunk.size();
+                flushedChunks.incrementAndGet();
+            } catch (Exception e) {
+                failedCount += chunk.size();
+                failedChunks.incrementAndGet();
+                redisScoreHelper.markChanged(chunk);
+                log.error("점수 청크 동기화 실패 - 다음 주기에 재시도: count={}, error={}", chunk.size(), e.getMessage());
             }
-
-            // Redis에서 처리된 항목들 정리
-            redisScoreHelper.clearProcessedScores(allScores);
-
-            log.info("Redis → DB 점수 동기화 완료. 처리된 항목: {}/{}", processedCount, allScores.size());
-
-        } catch (Exception e) {
-            log.error("점수 동기화 배치 작업 실패", e);
-            throw e;
         }
-    }
-
-    /**
-     * 단일 점수 항목 동기화
-     */
-    private void flushSingleScore(MyRegionScoreDto scoreDto) {
-        // MyRegionScoreDto에서 userId 추출이 필요한데, 현재 구조상 regionId와 score만 있음
-        // Redis에서 userId 정보도 함께 가져오도록 RedisScoreHelper 수정이 필요하거나
-        // 다른 방식으로 userId를 식별해야 함
 
-        // 임시로 Redis에서 userId를 함께 가져온다고 가정
-        Long userId = redisScoreHelper.getUserIdForScore(scoreDto.regionId());
-        Long regionId = Long.valueOf(scoreDto.regionId());
+        long elapsedNanos = System.nanoTime() - startTime;
+        flushedRows.addAndGet(processedCount);
+        flushNanos.addAndGet(elapsedNanos);
 
-        if (userId == null) {
-            log.warn("userId를 찾을 수 없음 - regionId: {}", scoreDto.regionId());
+        if (processedCount == 0 && failedCount == 0) {
+            log.info("동기화할 점수 변경사항이 없습니다.");
             return;
         }
-
-        UserRegionScore existingScore = userRegionScoreRepository
-                .findByUserIdAndRegionId(userId, regionId)
-                .orElse(null);
-
-        if (existingScore == null) {
-            // 새로운 점수 기록 생성
-            UserRegionScore newScore = UserRegionScore.builder()
-                    .userId(userId)
-                    .regionId(regionId)
-                    .totalScore(Long.valueOf(scoreDto.score()))
-                    .postCount(0) // Redis에서 별도 관리하거나 계산 필요
-                    .commentCount(0) // Redis에서 별도 관리하거나 계산 필요
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-
-            userRegionScoreRepository.save(newScore);
-            log.debug("새 점수 기록 생성 - userId: {}, regionId: {}, score: {}",
-                    userId, regionId, scoreDto.score());
-        } else {
-            // 기존 점수 업데이트
-            long scoreDelta = scoreDto.score() - existingScore.getTotalScore();
-            existingScore.addScore(scoreDelta);
-
-            userRegionScoreRepository.save(existingScore);
-            log.debug("점수 업데이트 - userId: {}, regionId: {}, 변경량: {}",
-                    userId, regionId, scoreDelta);
-        }
+        log.info("Redis → DB 점수 동기화 완료. 처리된 항목: {}, 재시도 대기: {}, elapsed={}ms, rows/s={}",
+                processedCount, failedCount, elapsedNanos / 1_000_000, rowsPerSecond(processedCount, elapsedNanos));
     }
 
     /**
      * 특정 사용자의 점수만 동기화 (실시간 동기화용)
      */
-    @Transactional
     public void flushUserScore(Long userId, Long regionId) {
         try {
             MyRegionScoreDto redisScore = redisScoreHelper.getUserRegionScore(userId, regionId);
             if (redisScore != null) {
-                flushSingleScore(redisScore);
+                bulkWriter.upsertAll(List.of(new ChangedRegionScoreDto(userId, regionId, redisScore.score(),
+                        userId + ":" + regionId)));
                 log.debug("사용자 점수 실시간 동기화 완료 - userId: {}, regionId: {}", userId, regionId);
             }
         } catch (Exception e) {
@@ -123,4 +102,21 @@ public class FlushScoreService {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 누적 동기화 통계 (모니터링용)
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("flushedRows", flushedRows.get());
+        stats.put("flushedChunks", flushedChunks.get());
+        stats.put("failedChunks", failedChunks.get());
+        stats.put("rowsPerSecond", rowsPerSecond(flushedRows.get(), flushNanos.get()));
+        stats.put("pendingChanges", redisScoreHelper.getChangedScoreCount());
+        return stats;
+    }
+
+    private static long rowsPerSecond(long rows, long nanos) {
+        return nanos > 0 ? rows * 1_000_000_000L / nanos : 0;
+    }
+}
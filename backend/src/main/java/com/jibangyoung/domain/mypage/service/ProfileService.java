@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.jibangyoung.domain.auth.entity.User;
 import com.jibangyoung.domain.auth.repository.UserRepository;
+import com.jibangyoung.domain.community.support.AuthorNicknameResolver;
 import com.jibangyoung.domain.mypage.dto.UserProfileDto;
 import com.jibangyoung.domain.mypage.exception.MyPageException;
 import com.jibangyoung.global.exception.ErrorCode;
@@ -20,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class ProfileService {
 
     private final UserRepository userRepository;
+    private final AuthorNicknameResolver authorNicknameResolver;
 
     private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[0-9\\-]{7,16}$");
 
@@ -41,6 +43,7 @@ public class ProfileService {
         // User 엔티티의 updateProfile 메서드와 setRegion 메서드 활용
         user.updateProfile(nickname, phone, profileImageUrl);
         user.setRegion(region);
+        authorNicknameResolver.evict(userId); // 게시글 목록 닉네임 캐시 무효화
         // JPA Dirty Checking → 별도 save 필요 없음(변경 감지)
     }
 
@@ -23,12 +23,9 @@ public class RegionScoreService {
 
         // 지역 점수 상세 조회 (RegionScoreDto에 정확히 맞춰 반환)
         public RegionScoreDto getRegionScore(Long userId, Long regionId, String regionName) {
-                // 1. Redis에서 score 조회 - Long 타입으로 수정
-                int score = redisScoreHelper.getUserRegionScores(userId).stream()
-                                .filter(s -> s.regionId() == regionId.intValue())
-                                .mapToInt(MyRegionScoreDto::score)
-                                .findFirst()
-                                .orElse(0);
+                // 1. Redis에서 score 조회 (사용자 Hash의 해당 지역 필드만 HGET)
+                MyRegionScoreDto redisScore = redisScoreHelper.getUserRegionScore(userId, regionId);
+                int score = redisScore != null ? redisScore.score() : 0;
 
                 // 2. JPA에서 활동 이력 조회 - Long 타입으로 수정
                 List<RegionScoreDto.ScoreHistoryItem> history = eventRepository
@@ -14,6 +14,7 @@ import com.jibangyoung.domain.mypage.entity.UserActivityEvent;
 import com.jibangyoung.domain.mypage.entity.UserRegionScore;
 import com.jibangyoung.domain.mypage.repository.UserActivityEventRepository;
 import com.jibangyoung.domain.mypage.repository.UserRegionScoreRepository;
+import com.jibangyoung.domain.policy.support.RegionCatalog;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +25,7 @@ public class ScoreService {
     private final UserActivityEventRepository activityRepo;
     private final UserRegionScoreRepository scoreRepo;
     private final UserRegionScoreRepository userRegionScoreRepository;
+    private final RegionCatalog regionCatalog;
 
     @Transactional(readOnly = true)
     public RegionScoreDto getRegionScore(Long userId, Long regionId) {
@@ -131,16 +133,9 @@ public class ScoreService {
         return 0;
     }
 
-    // ---- regionId → regionName 매핑 ----
+    // ---- regionId(지역 코드) → regionName (RegionCatalog) ----
     private String getRegionName(Long regionId) {
-        return switch (regionId.intValue()) {
-            case 30123 -> "경기";
-            case 30124 -> "서울";
-            case 30125 -> "강원";
-            case 30126 -> "부산";
-            case 30127 -> "대전";
-            case 30128 -> "제주";
-            default -> "기타";
-        };
+        String name = regionId != null ? regionCatalog.fullName(regionId.intValue()) : null;
+        return name != null ? name : "기타";
     }
 }
\ No newline at end of file
@@ -1,11 +1,19 @@
 package com.jibangyoung.domain.mypage.support;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import com.jibangyoung.domain.mypage.dto.ChangedRegionScoreDto;
 import com.jibangyoung.domain.mypage.dto.MyRegionScoreDto;
 
 import lombok.RequiredArgsConstructor;
@@ -13,29 +21,55 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Redis 기반 점수 관리 헬퍼 클래스
- * - 실시간 점수 캐싱
- * - 배치 동기화를 위한 변경사항 추적
+ * - 사용자별 Hash 1개: user_scores:{userId} → {regionId: score}, HINCRBY로 원자적 증감
+ * - 변경 추적 Set: changed_scores → "userId:regionId" 멤버
+ * - 처리 중 Set: changed_scores:processing → 꺼낸 뒤 DB 반영 완료 전까지 보관 (중단 시 다음 동기화에서 복구)
+ * - 모든 조회/정리는 건드린 항목 수에 비례 (KEYS 스캔 없음)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisScoreHelper {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
     // Redis 키 패턴
-    private static final String USER_REGION_SCORE_KEY = "user_region_score:{}:{}"; // userId:regionId
+    private static final String USER_SCORES_KEY_PREFIX = "user_scores:"; // userId별 모든 지역 점수 (Hash)
     private static final String CHANGED_SCORES_KEY = "changed_scores"; // Set으로 변경된 항목 추적
-    private static final String USER_SCORES_KEY = "user_scores:{}"; // userId별 모든 지역 점수
+    private static final String PROCESSING_SCORES_KEY = "changed_scores:processing"; // DB 반영 대기 중인 항목
+    private static final char MEMBER_DELIMITER = ':';
+
+    // 변경 항목 n개를 꺼내 처리 중 Set으로 이동: SPOP + SADD 1 round trip (원자적)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_CHANGED_SCRIPT = new DefaultRedisScript<>(
+            "local members = redis.call('SPOP', KEYS[1], tonumber(ARGV[1])) " +
+                    "if #members > 0 then redis.call('SADD', KEYS[2], unpack(members)) end " +
+                    "return members",
+            List.class);
+
+    // 처리 중 Set에 남은 항목(이전 동기화 중단분)을 변경 Set으로 되돌리고 개수 반환
+    private static final RedisScript<Long> RECOVER_PROCESSING_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('SCARD', KEYS[2]) " +
+                    "if count > 0 then " +
+                    "  redis.call('SUNIONSTORE', KEYS[1], KEYS[1], KEYS[2]) " +
+                    "  redis.call('DEL', KEYS[2]) " +
+                    "end " +
+                    "return count",
+            Long.class);
+
+    private static String userScoresKey(Long userId) {
+        return USER_SCORES_KEY_PREFIX + userId;
+    }
+
+    private static String changedMember(Long userId, Long regionId) {
+        return userId + String.valueOf(MEMBER_DELIMITER) + regionId;
+    }
 
     /**
-     * 사용자의 특정 지역 점수 조회
+     * 사용자의 특정 지역 점수 조회 (HGET 1회)
      */
     public MyRegionScoreDto getUserRegionScore(Long userId, Long regionId) {
-        String key = USER_REGION_SCORE_KEY.replace("{}", String.valueOf(userId))
-                .replace("{}", String.valueOf(regionId));
-
-        Object score = redisTemplate.opsForValue().get(key);
+        Object score = stringRedisTemplate.opsForHash().get(userScoresKey(userId), String.valueOf(regionId));
         if (score != null) {
             return new MyRegionScoreDto(regionId.intValue(), Integer.parseInt(score.toString()));
         }
@@ -43,111 +77,179 @@ public class RedisScoreHelper {
     }
 
     /**
-     * 사용자의 모든 지역별 점수 조회
+     * 사용자의 모든 지역별 점수 조회 (HGETALL 1회)
      */
     public List<MyRegionScoreDto> getUserRegionScores(Long userId) {
-        String pattern = "user_region_score:" + userId + ":*";
-        return redisTemplate.keys(pattern).stream()
-                .map(key -> {
-                    String[] parts = key.split(":");
-                    int regionId = Integer.parseInt(parts[2]);
-                    Object score = redisTemplate.opsForValue().get(key);
-                    return new MyRegionScoreDto(regionId,
-                            score != null ? Integer.parseInt(score.toString()) : 0);
-                })
-                .collect(Collectors.toList());
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(userScoresKey(userId));
+        List<MyRegionScoreDto> scores = new ArrayList<>(entries.size());
+        entries.forEach((regionId, score) -> scores.add(new MyRegionScoreDto(
+                Integer.parseInt(regionId.toString()), Integer.parseInt(score.toString()))));
+        return scores;
     }
 
     /**
-     * 사용자 지역 점수 업데이트
+     * 사용자 지역 점수 업데이트 - HINCRBY + SADD를 한 번의 트랜잭션(MULTI/EXEC)으로 전송
      */
-    public void updateUserRegionScore(Long userId, Long regionId, int scoreDelta) {
-        String key = USER_REGION_SCORE_KEY.replace("{}", String.valueOf(userId))
-                .replace("{}", String.valueOf(regionId));
-
-        // 현재 점수 조회 후 증감
-        Object currentScore = redisTemplate.opsForValue().get(key);
-        int newScore = (currentScore != null ? Integer.parseInt(currentScore.toString()) : 0) + scoreDelta;
-
-        // 점수 업데이트
-        redisTemplate.opsForValue().set(key, newScore);
+    public long updateUserRegionScore(Long userId, Long regionId, int scoreDelta) {
+        String key = userScoresKey(userId);
+        String field = String.valueOf(regionId);
+        String member = changedMember(userId, regionId);
+
+        List<Object> results = stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            public List<Object> execute(RedisOperations operations) {
+                operations.multi();
+                operations.opsForHash().increment(key, field, scoreDelta);
+                operations.opsForSet().add(CHANGED_SCORES_KEY, member);
+                return operations.exec();
+            }
+        });
 
-        // 변경사항 추적에 추가
-        redisTemplate.opsForSet().add(CHANGED_SCORES_KEY, key);
+        long newScore = (results != null && !results.isEmpty() && results.get(0) != null)
+                ? ((Number) results.get(0)).longValue()
+                : 0L;
 
         log.debug("Redis 점수 업데이트 - userId: {}, regionId: {}, 변경량: {}, 새 점수: {}",
                 userId, regionId, scoreDelta, newScore);
+        return newScore;
     }
 
     /**
-     * 변경된 모든 점수 조회 (배치 동기화용)
+     * 변경 항목을 최대 maxCount개 꺼내 현재 점수와 함께 반환 (배치 동기화용)
+     * - 꺼낸 항목은 처리 중 Set으로 이동 → DB 반영 후 {@link #acknowledge(Collection)}로 제거
+     * - 꺼낸 뒤의 증감은 다시 변경 Set에 등록되어 다음 주기에 반영됨
+     * - DB 반영 실패 시 {@link #markChanged(Collection)}로 재등록
      */
-    public List<MyRegionScoreDto> getAllChangedScores() {
-        return redisTemplate.opsForSet().members(CHANGED_SCORES_KEY).stream()
-                .map(key -> {
-                    String keyStr = key.toString();
-                    String[] parts = keyStr.split(":");
-                    if (parts.length >= 3) {
-                        int regionId = Integer.parseInt(parts[2]);
-                        Object score = redisTemplate.opsForValue().get(keyStr);
-                        return new MyRegionScoreDto(regionId,
-                                score != null ? Integer.parseInt(score.toString()) : 0);
-                    }
-                    return null;
-                })
-                .filter(dto -> dto != null)
-                .collect(Collectors.toList());
+    @SuppressWarnings("unchecked")
+    public List<ChangedRegionScoreDto> popChangedScores(int maxCount) {
+        List<String> members = stringRedisTemplate.execute(CLAIM_CHANGED_SCRIPT,
+                List.of(CHANGED_SCORES_KEY, PROCESSING_SCORES_KEY), String.valueOf(maxCount));
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> userIds = new ArrayList<>(members.size());
+        List<Long> regionIds = new ArrayList<>(members.size());
+        List<String> validMembers = new ArrayList<>(members.size());
+        List<String> skipped = new ArrayList<>();
+        for (String member : members) {
+            int idx = member.indexOf(MEMBER_DELIMITER);
+            if (idx <= 0) {
+                log.warn("잘못된 점수 변경 항목 무시 - member: {}", member);
+                skipped.add(member);
+                continue;
+            }
+            try {
+                userIds.add(Long.parseLong(member.substring(0, idx)));
+                regionIds.add(Long.parseLong(member.substring(idx + 1)));
+                validMembers.add(member);
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 점수 변경 항목 무시 - member: {}", member);
+                skipped.add(member);
+            }
+        }
+
+        // HGET을 파이프라인으로 일괄 조회
+        List<Object> scores = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            public Object execute(RedisOperations operations) {
+                for (int i = 0; i < userIds.size(); i++) {
+                    operations.opsForHash().get(userScoresKey(userIds.get(i)), String.valueOf(regionIds.get(i)));
+                }
+                return null;
+            }
+        });
+
+        List<ChangedRegionScoreDto> changed = new ArrayList<>(validMembers.size());
+        for (int i = 0; i < validMembers.size(); i++) {
+            Object score = scores.get(i);
+            if (score == null) {
+                skipped.add(validMembers.get(i)); // 사용자 점수가 삭제된 경우
+                continue;
+            }
+            changed.add(new ChangedRegionScoreDto(userIds.get(i), regionIds.get(i),
+                    Long.parseLong(score.toString()), validMembers.get(i)));
+        }
+        // 반영할 것이 없는 항목은 처리 중 Set에서 바로 제거
+        if (!skipped.isEmpty()) {
+            stringRedisTemplate.opsForSet().remove(PROCESSING_SCORES_KEY, skipped.toArray());
+        }
+        return changed;
     }
 
     /**
-     * 처리된 점수 변경사항 정리
+     * DB 반영 완료 항목을 처리 중 Set에서 제거
      */
-    public void clearProcessedScores(List<MyRegionScoreDto> processedScores) {
-        processedScores.forEach(score -> {
-            // userId 추출이 필요한데, MyRegionScoreDto에는 regionId만 있음
-            // 실제 구현에서는 userId 정보도 함께 저장하거나 다른 방식 필요
-            String pattern = "*:" + score.regionId();
-            redisTemplate.keys("user_region_score" + pattern).forEach(key -> {
-                redisTemplate.opsForSet().remove(CHANGED_SCORES_KEY, key);
-            });
-        });
+    public void acknowledge(Collection<ChangedRegionScoreDto> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        Object[] members = scores.stream().map(ChangedRegionScoreDto::member).toArray();
+        stringRedisTemplate.opsForSet().remove(PROCESSING_SCORES_KEY, members);
+    }
+
+    /**
+     * 이전 동기화가 DB 반영 전에 중단되어 처리 중 Set에 남은 항목을 변경 Set으로 복구
+     * - 동기화는 락을 얻은 한 노드만 실행하므로, 동기화 시작 시점의 잔여분은 모두 중단된 항목
+     * - 이미 반영된 항목이 다시 반영되어도 현재 점수 UPSERT라 결과는 같음
+     */
+    public long recoverProcessing() {
+        Long recovered = stringRedisTemplate.execute(RECOVER_PROCESSING_SCRIPT,
+                List.of(CHANGED_SCORES_KEY, PROCESSING_SCORES_KEY));
+        return recovered != null ? recovered : 0L;
+    }
+
+    /**
+     * 변경 항목 재등록 (DB 반영 실패 시) - 변경 Set에 추가 후 처리 중 Set에서 제거
+     */
+    public void markChanged(Collection<ChangedRegionScoreDto> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        String[] members = scores.stream().map(ChangedRegionScoreDto::member).toArray(String[]::new);
+        stringRedisTemplate.opsForSet().add(CHANGED_SCORES_KEY, members);
+        stringRedisTemplate.opsForSet().remove(PROCESSING_SCORES_KEY, (Object[]) members);
     }
 
     /**
-     * 점수에 해당하는 userId 조회 (임시 구현)
-     * 실제로는 Redis 구조를 개선하거나 다른 방식으로 userId 추적 필요
+     * 남은 변경 항목 수 (SCARD)
      */
-    public Long getUserIdForScore(int regionId) {
-        String pattern = "user_region_score:*:" + regionId;
-        return redisTemplate.keys(pattern).stream()
-                .findFirst()
-                .map(key -> {
-                    String[] parts = key.split(":");
-                    return Long.parseLong(parts[1]);
-                })
-                .orElse(null);
+    public long getChangedScoreCount() {
+        Long size = stringRedisTemplate.opsForSet().size(CHANGED_SCORES_KEY);
+        return size != null ? size : 0L;
     }
 
     /**
-     * 특정 사용자의 Redis 점수 데이터 초기화
+     * 특정 사용자의 Redis 점수 데이터 초기화 (HSET 1회)
      */
     public void initializeUserScores(Long userId, List<MyRegionScoreDto> scores) {
-        scores.forEach(score -> {
-            String key = USER_REGION_SCORE_KEY.replace("{}", String.valueOf(userId))
-                    .replace("{}", String.valueOf(score.regionId()));
-            redisTemplate.opsForValue().set(key, score.score());
-        });
+        if (scores.isEmpty()) {
+            return;
+        }
+        Map<String, String> fields = new HashMap<>();
+        scores.forEach(score -> fields.put(String.valueOf(score.regionId()), String.valueOf(score.score())));
+        stringRedisTemplate.opsForHash().putAll(userScoresKey(userId), fields);
 
         log.debug("사용자 점수 Redis 초기화 완료 - userId: {}, 점수 항목: {}", userId, scores.size());
     }
 
     /**
-     * 사용자의 모든 Redis 점수 데이터 삭제
+     * 사용자의 모든 Redis 점수 데이터 삭제 (Hash 1개 + 해당 변경 항목만 제거)
      */
     public void clearUserScores(Long userId) {
-        String pattern = "user_region_score:" + userId + ":*";
-        redisTemplate.keys(pattern).forEach(redisTemplate::delete);
+        String key = userScoresKey(userId);
+        List<Object> regionIds = new ArrayList<>(stringRedisTemplate.opsForHash().keys(key));
+        if (!regionIds.isEmpty()) {
+            Object[] members = regionIds.stream()
+                    .map(regionId -> userId + String.valueOf(MEMBER_DELIMITER) + regionId)
+                    .toArray();
+            stringRedisTemplate.opsForSet().remove(CHANGED_SCORES_KEY, members);
+            stringRedisTemplate.opsForSet().remove(PROCESSING_SCORES_KEY, members);
+        }
+        stringRedisTemplate.delete(key);
 
         log.debug("사용자 Redis 점수 데이터 삭제 완료 - userId: {}", userId);
     }
-}
\ No newline at end of file
+}
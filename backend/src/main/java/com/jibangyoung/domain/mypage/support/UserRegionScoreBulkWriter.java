@@ -0,0 +1,59 @@
+package com.jibangyoung.domain.mypage.support;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.domain.mypage.dto.ChangedRegionScoreDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * user_region_score 다중 행 UPSERT
+ * - 청크당 INSERT ... ON DUPLICATE KEY UPDATE 1문장 (조회 없이 총점 덮어쓰기)
+ * - 신규 행의 게시글/댓글 수는 0, 기존 행은 유지
+ */
+@Component
+@RequiredArgsConstructor
+public class UserRegionScoreBulkWriter {
+
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO user_region_score (
+                user_id, region_id, total_score, post_count, comment_count, updated_at
+            ) VALUES """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, 0, 0, ?)";
+    private static final String UPSERT_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                total_score = VALUES(total_score),
+                updated_at = VALUES(updated_at)""";
+    private static final int COLUMN_COUNT = 4;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 점수 목록을 한 문장으로 반영 (autocommit 시 호출 1회 = 커밋 1회)
+     */
+    public void upsertAll(List<ChangedRegionScoreDto> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = UPSERT_PREFIX + String.join(", ", Collections.nCopies(scores.size(), ROW_PLACEHOLDER))
+                + UPSERT_SUFFIX;
+
+        jdbcTemplate.update(sql, ps -> {
+            for (int i = 0; i < scores.size(); i++) {
+                ChangedRegionScoreDto score = scores.get(i);
+                int offset = i * COLUMN_COUNT;
+                ps.setLong(offset + 1, score.userId());
+                ps.setLong(offset + 2, score.regionId());
+                ps.setLong(offset + 3, score.score());
+                ps.setTimestamp(offset + 4, now);
+            }
+        });
+    }
+}
@@ -3,16 +3,20 @@ package com.jibangyoung.domain.policy.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jibangyoung.domain.policy.dto.PolicyCardDto;
 import com.jibangyoung.domain.policy.dto.PolicyDetailDto;
 import com.jibangyoung.domain.policy.service.PolicyDetailService;
 import com.jibangyoung.domain.policy.service.PolicyService;
+import com.jibangyoung.domain.policy.support.PolicyCardSnapshot;
 import com.jibangyoung.global.annotation.UserActivityLogging;
 
 @RestController
@@ -32,8 +36,16 @@ public class PolicyController {
 
     @GetMapping("/policy.c")
     @UserActivityLogging(actionType = "POLICY_CARDS_VIEW", priority = UserActivityLogging.Priority.NORMAL, description = "정책 카드 목록 조회")
-    public List<PolicyCardDto> getPolicyCards() {
-        return policyService.getActivePolicyCards();
+    public ResponseEntity<List<PolicyCardDto>> getPolicyCards(WebRequest request) {
+        PolicyCardSnapshot.ActiveCards activeCards = policyService.getActivePolicyCardSnapshot();
+        // 스냅샷이 같으면 304 (본문 직렬화/전송 생략)
+        if (request.checkNotModified(activeCards.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(activeCards.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(activeCards.cards());
     }
 
     @GetMapping("/region.api")
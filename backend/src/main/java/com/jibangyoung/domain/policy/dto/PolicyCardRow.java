@@ -0,0 +1,15 @@
+package com.jibangyoung.domain.policy.dto;
+
+/**
+ * 정책 카드 구성에 필요한 컬럼만 조회하는 프로젝션 (TEXT 컬럼 제외)
+ */
+public record PolicyCardRow(
+        Integer NO,
+        String plcy_nm,
+        String aply_ymd,
+        String zip_cd,
+        Integer region_code,
+        String plcy_kywd_nm,
+        String plcy_no,
+        int favorites) {
+}
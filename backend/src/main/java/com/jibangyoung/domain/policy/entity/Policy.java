@@ -5,12 +5,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "policies") // DB 테이블명
+@Table(name = "policies", // DB 테이블명
+        indexes = @Index(name = "idx_policies_region_code", columnList = "region_code"))
 @Getter
 @Setter
 public class Policy {
@@ -99,4 +103,26 @@ public class Policy {
 
     @Column(name = "favorites", nullable = false)
     private int favorites; // 총 추천 개수
+
+    // zip_cd의 정수형 지역 코드 (숫자가 아니면 null) - 지역 조회/region 조인용
+    @Column(name = "region_code")
+    private Integer region_code;
+
+    @PrePersist
+    @PreUpdate
+    protected void syncRegionCode() {
+        this.region_code = parseRegionCode(zip_cd);
+    }
+
+    // zip_cd → 지역 코드 (공백 제거, 숫자가 아니면 null)
+    public static Integer parseRegionCode(String zipCd) {
+        if (zipCd == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(zipCd.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.jibangyoung.domain.policy.dto.PolicyCardRow;
 import com.jibangyoung.domain.policy.entity.Policy;
 
 public interface PolicyRepository extends JpaRepository<Policy, Integer> {
@@ -17,6 +18,24 @@ public interface PolicyRepository extends JpaRepository<Policy, Integer> {
             "SELECT MIN(p2.NO) FROM Policy p2 GROUP BY p2.plcy_no)")
     List<Policy> findDistinctByPlcyNm();
 
+    // 정책 카드 스냅샷 적재용 (카드 컬럼만, NO 오름차순)
+    @Query("SELECT new com.jibangyoung.domain.policy.dto.PolicyCardRow(" +
+            "p.NO, p.plcy_nm, p.aply_ymd, p.zip_cd, p.region_code, p.plcy_kywd_nm, p.plcy_no, p.favorites) " +
+            "FROM Policy p ORDER BY p.NO ASC")
+    List<PolicyCardRow> findAllCardRows();
+
+    // 정책 변경 감지용 지문 (행 수, 최대 NO, 행별 CRC 합계) - 결과는 1행 (PolicyChangeDetector)
+    // 카드 컬럼 + 찜 수 + region_code + 추천 자격 컬럼을 NO와 함께 행별 CRC에 포함 → 행 사이에 값이 옮겨가도 감지
+    // NULL은 ''로 바꿔 CONCAT_WS의 자리 밀림 방지
+    @Query(value = "SELECT COUNT(*), COALESCE(MAX(NO), 0), " +
+            "COALESCE(SUM(CRC32(CONCAT_WS('|', NO, COALESCE(plcy_nm, ''), COALESCE(aply_ymd, ''), " +
+            "COALESCE(zip_cd, ''), COALESCE(plcy_kywd_nm, ''), COALESCE(plcy_no, ''), favorites, " +
+            "COALESCE(region_code, ''), COALESCE(sprt_trgt_min_age, ''), COALESCE(sprt_trgt_max_age, ''), " +
+            "COALESCE(school_cd, ''), COALESCE(s_biz_cd, ''), COALESCE(mrg_stts_cd, ''), COALESCE(job_cd, ''), " +
+            "COALESCE(lclsf_nm, ''), COALESCE(mclsf_nm, '')))), 0) " +
+            "FROM policies", nativeQuery = true)
+    List<Object[]> findPolicyFingerprint();
+
     // 특정 NO로 정책 상세 조회 (List 반환)
     @Query("SELECT p FROM Policy p WHERE p.NO = :NO")
     List<Policy> findByNO(@Param("NO") Integer NO);
@@ -5,17 +5,14 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jibangyoung.domain.policy.dto.PolicyDetailDto;
 import com.jibangyoung.domain.policy.entity.Policy;
-import com.jibangyoung.domain.policy.entity.Region;
 import com.jibangyoung.domain.policy.repository.PolicyRepository;
-import com.jibangyoung.domain.policy.repository.RegionRepository;
+import com.jibangyoung.domain.policy.support.RegionCatalog;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,7 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class PolicyDetailService {
 
     private final PolicyRepository policyRepository;
-    private final RegionRepository regionRepository;
+    private final RegionCatalog regionCatalog;
 
     /**
      * 정책 상세 정보 조회
@@ -131,14 +128,8 @@ public class PolicyDetailService {
         }
 
         try {
-            // region 테이블에서 매핑 정보 조회
-            Map<Integer, String> regionMap = regionRepository.findAll().stream()
-                    .collect(Collectors.toMap(
-                            Region::getRegionCode,
-                            Region::getSido));
-
-            Integer zipCodeInt = Integer.valueOf(zipCd.trim());
-            return regionMap.get(zipCodeInt);
+            // 지역 카탈로그(메모리)에서 시도명 조회
+            return regionCatalog.sidoName(Integer.parseInt(zipCd.trim()));
 
         } catch (NumberFormatException e) {
             return "전국";
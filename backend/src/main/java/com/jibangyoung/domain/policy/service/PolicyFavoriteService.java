@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.jibangyoung.domain.dashboard.support.FavoriteLeaderboard;
 import com.jibangyoung.domain.policy.entity.PolicyFavorite;
 import com.jibangyoung.domain.policy.repository.PolicyFavoriteRepository;
 import com.jibangyoung.domain.policy.repository.PolicyRepository;
@@ -20,6 +21,7 @@ public class PolicyFavoriteService {
 
     private final PolicyFavoriteRepository policyFavoriteRepository;
     private final PolicyRepository policyRepository;
+    private final FavoriteLeaderboard favoriteLeaderboard;
 
     @Transactional
     public void syncBookmarks(Long userId, List<Long> incomingPolicyIds) {
@@ -52,6 +54,9 @@ public class PolicyFavoriteService {
             // plcy_no 가져와서 해당 모든 rows의 favorites 감소
             policyRepository.decrementFavoritesByPlcyNo(policyId);
         }
+
+        // 6. 대시보드 찜 리더보드 증분 반영 (커밋 이후)
+        favoriteLeaderboard.recordChanges(toAdd, toRemove);
     }
 
     // 찜 정책 로그인시 로컬 스토리지에 전송
@@ -0,0 +1,291 @@
+package com.jibangyoung.domain.policy.support;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.jibangyoung.domain.policy.dto.PolicyCardDto;
+import com.jibangyoung.domain.policy.dto.PolicyCardRow;
+import com.jibangyoung.domain.policy.entity.Policy;
+import com.jibangyoung.domain.policy.repository.PolicyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🗂️ 진행 중 정책 카드 스냅샷 (/api/policy/policy.c)
+ * - 카드 컬럼만 적재 후 plcy_no별 최소 NO 한 건 선택 (findDistinctByPlcyNm과 동일), 마감일은 epoch-day int로 1회 파싱
+ * - 날짜별 뷰: 마감 지난 정책 제외 + D-day 계산 → 불변 목록 + 강한 ETag (내용 해시라 노드 간 동일)
+ * - 자정에는 DB 조회 없이 날짜별 뷰만 다시 계산, 정책 데이터 변경은 PolicyChangeDetector 이벤트로 다시 적재
+ * - 전체 행을 NO 정렬 배열로 색인 → NO 목록 일괄 조회 (요청 순서 유지, plcy_no 중복 제거)
+ * - 지역 코드 → 해당 지역 전체 행 배열 (지역별 조회가 전체 카탈로그가 아닌 결과 수에 비례)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyCardSnapshot {
+
+    // 신청 기간이 없거나 파싱 실패 시 상시 마감일
+    private static final LocalDate ALWAYS_OPEN_DEADLINE = LocalDate.of(2099, 12, 31);
+    private static final int ALWAYS_OPEN_EPOCH_DAY = (int) ALWAYS_OPEN_DEADLINE.toEpochDay();
+
+    private static final String UNREGISTERED = "미등록";
+
+    private final PolicyRepository policyRepository;
+    private final RegionCatalog regionCatalog;
+    private final PolicyChangeDetector changeDetector;
+
+    private volatile Catalog catalog;
+    private volatile ActiveCards activeCards;
+
+    /**
+     * 특정 날짜 기준 진행 중 카드 목록 (불변) + ETag
+     */
+    public record ActiveCards(long epochDay, List<PolicyCardDto> cards, String etag) {
+    }
+
+    public ActiveCards activeCards() {
+        long today = LocalDate.now().toEpochDay();
+        ActiveCards current = activeCards;
+        if (current != null && current.epochDay() == today) {
+            return current;
+        }
+        return roll(today);
+    }
+
+    /**
+     * NO 목록 → 진행 중 정책 카드 (요청 순서 유지)
+     * - 없는 NO / 마감 지난 정책 제외, 같은 plcy_no는 먼저 나온 NO만 유지
+     * - limit개를 채우면 중단, 매 호출 새 DTO 반환 (호출 측에서 정렬/수정 가능)
+     */
+    public List<PolicyCardDto> findCards(Collection<Integer> nos, int limit) {
+        if (nos == null || nos.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        Catalog current = catalog();
+        long today = LocalDate.now().toEpochDay();
+
+        List<PolicyCardDto> result = new ArrayList<>(Math.min(nos.size(), limit));
+        Set<String> seenPlcyNo = new HashSet<>();
+        for (Integer no : nos) {
+            if (no == null) {
+                continue;
+            }
+            int idx = Arrays.binarySearch(current.nos(), no);
+            if (idx < 0) {
+                continue;
+            }
+            Card card = current.rows()[idx];
+            long dDay = card.deadlineEpochDay() - today;
+            if (dDay < 0 || !seenPlcyNo.add(card.row().plcy_no())) {
+                continue;
+            }
+            result.add(toDto(card, dDay));
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지역 코드 → 진행 중 정책 카드 (NO 오름차순, plcy_no 중복 유지 - 지역별 행 그대로)
+     */
+    public List<PolicyCardDto> findCardsByRegion(int regionCode) {
+        Card[] regionCards = catalog().byRegion().get(regionCode);
+        if (regionCards == null) {
+            return new ArrayList<>();
+        }
+        long today = LocalDate.now().toEpochDay();
+        List<PolicyCardDto> result = new ArrayList<>(regionCards.length);
+        for (Card card : regionCards) {
+            long dDay = card.deadlineEpochDay() - today;
+            if (dDay >= 0) {
+                result.add(toDto(card, dDay));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * aply_ymd 끝 8자리(YYYYMMDD) → 마감일 epoch-day
+     * - 문자열 조립/파싱 없이 숫자로 직접 변환, 일(day)이 월말을 넘으면 월말로 보정 (기존 LocalDate.parse와 동일)
+     */
+    public static int deadlineEpochDay(String aplyYmd) {
+        if (aplyYmd == null || aplyYmd.length() < 8) {
+            return ALWAYS_OPEN_EPOCH_DAY;
+        }
+        int end = aplyYmd.length();
+        int ymd = 0;
+        for (int i = end - 8; i < end; i++) {
+            char c = aplyYmd.charAt(i);
+            if (c < '0' || c > '9') {
+                return ALWAYS_OPEN_EPOCH_DAY;
+            }
+            ymd = ymd * 10 + (c - '0');
+        }
+        int month = ymd / 100 % 100;
+        int day = ymd % 100;
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            return ALWAYS_OPEN_EPOCH_DAY;
+        }
+        YearMonth yearMonth = YearMonth.of(ymd / 10000, month);
+        return (int) yearMonth.atDay(Math.min(day, yearMonth.lengthOfMonth())).toEpochDay();
+    }
+
+    // 자정: 날짜별 뷰만 다시 계산 (DB 조회 없음)
+    @Scheduled(cron = "${policy.card-snapshot.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        if (catalog != null) {
+            roll(LocalDate.now().toEpochDay());
+        }
+    }
+
+    // 정책 데이터(적재/찜 수) 변경 시 다시 적재
+    @EventListener
+    public void onPolicyDataChanged(PolicyDataChangedEvent event) {
+        Catalog current = catalog;
+        if (current == null || event.fingerprint().equals(current.fingerprint())) {
+            return; // 아직 조회된 적 없음(첫 조회 시 적재) 또는 이미 반영됨
+        }
+        reload(event.fingerprint());
+    }
+
+    // 지역 카탈로그 변경 시 다시 적재 (시도명 매핑)
+    @Scheduled(initialDelayString = "${policy.card-snapshot.check-ms:60000}", fixedDelayString = "${policy.card-snapshot.check-ms:60000}")
+    public void checkRegionCatalog() {
+        Catalog current = catalog;
+        if (current != null && current.regionVersion() != regionCatalog.version()) {
+            reload(changeDetector.currentFingerprint());
+        }
+    }
+
+    private void reload(String fingerprint) {
+        try {
+            load(fingerprint);
+        } catch (Exception e) {
+            log.warn("🗂️ 정책 카드 스냅샷 갱신 실패 (기존 스냅샷 유지): {}", e.getMessage());
+        }
+    }
+
+    private Catalog catalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    current = load(changeDetector.currentFingerprint());
+                }
+            }
+        }
+        return current;
+    }
+
+    private synchronized Catalog load(String fingerprint) {
+        long regionVersion = regionCatalog.version();
+        List<PolicyCardRow> rows = policyRepository.findAllCardRows();
+
+        int[] nos = new int[rows.size()];
+        Card[] byNo = new Card[rows.size()];
+        // NO 오름차순이므로 plcy_no별 첫 행 = 최소 NO
+        Set<String> seenPlcyNo = new HashSet<>();
+        List<Card> cards = new ArrayList<>();
+        Map<Integer, List<Card>> regionLists = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            PolicyCardRow row = rows.get(i);
+            // region_code 동기화 전 행은 zip_cd에서 변환
+            Integer regionCode = row.region_code() != null ? row.region_code() : Policy.parseRegionCode(row.zip_cd());
+            int deadline = deadlineEpochDay(row.aply_ymd());
+            Card card = new Card(row, sidoName(regionCode), deadline, LocalDate.ofEpochDay(deadline));
+            nos[i] = row.NO();
+            byNo[i] = card;
+            if (seenPlcyNo.add(row.plcy_no())) {
+                cards.add(card);
+            }
+            if (regionCode != null) {
+                regionLists.computeIfAbsent(regionCode, code -> new ArrayList<>()).add(card);
+            }
+        }
+        Map<Integer, Card[]> byRegion = new HashMap<>(regionLists.size() * 2);
+        regionLists.forEach((code, list) -> byRegion.put(code, list.toArray(new Card[0])));
+
+        Catalog loaded = new Catalog(fingerprint, regionVersion, cards.toArray(new Card[0]), nos, byNo,
+                Collections.unmodifiableMap(byRegion));
+        catalog = loaded;
+        activeCards = null;
+        log.info("🗂️ 정책 카드 스냅샷 적재: rows={}, cards={}, regions={}", rows.size(), cards.size(), byRegion.size());
+        return loaded;
+    }
+
+    private synchronized ActiveCards roll(long epochDay) {
+        Catalog current = catalog();
+        ActiveCards existing = activeCards;
+        if (existing != null && existing.epochDay() == epochDay) {
+            return existing;
+        }
+
+        List<PolicyCardDto> cards = new ArrayList<>(current.cards().length);
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (Card card : current.cards()) {
+            long dDay = card.deadlineEpochDay() - epochDay;
+            if (dDay < 0) {
+                continue; // 마감일이 지난 정책 제외
+            }
+            PolicyCardRow row = card.row();
+            cards.add(toDto(card, dDay));
+
+            hasher.putInt(row.NO()).putLong(dDay).putInt(row.favorites()).putInt(card.deadlineEpochDay());
+            putString(hasher, row.plcy_nm());
+            putString(hasher, row.aply_ymd());
+            putString(hasher, card.sidoName());
+            putString(hasher, row.plcy_kywd_nm());
+            putString(hasher, row.plcy_no());
+        }
+
+        ActiveCards rolled = new ActiveCards(epochDay, Collections.unmodifiableList(cards), hasher.hash().toString());
+        activeCards = rolled;
+        log.debug("🗂️ 정책 카드 날짜별 뷰 계산: date={}, cards={}", LocalDate.ofEpochDay(epochDay), cards.size());
+        return rolled;
+    }
+
+    // 지역 코드 → 시도명 (코드 없음/미등록 코드는 "미등록")
+    private String sidoName(Integer regionCode) {
+        if (regionCode == null) {
+            return UNREGISTERED;
+        }
+        String sido = regionCatalog.sidoName(regionCode);
+        return sido != null ? sido : UNREGISTERED;
+    }
+
+    private static PolicyCardDto toDto(Card card, long dDay) {
+        PolicyCardRow row = card.row();
+        return new PolicyCardDto(row.NO(), row.plcy_nm(), row.aply_ymd(), card.sidoName(),
+                row.plcy_kywd_nm(), row.plcy_no(), card.deadline(), dDay, row.favorites());
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putUnencodedChars(value != null ? value : "").putByte((byte) 0);
+    }
+
+    private record Card(PolicyCardRow row, String sidoName, int deadlineEpochDay, LocalDate deadline) {
+    }
+
+    // cards: plcy_no별 대표 행, nos/rows: 전체 행 (NO 오름차순, 같은 인덱스), byRegion: 지역 코드 → 전체 행
+    private record Catalog(String fingerprint, long regionVersion, Card[] cards, int[] nos, Card[] rows,
+            Map<Integer, Card[]> byRegion) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.jibangyoung.domain.policy.support;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.domain.policy.repository.PolicyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🛰️ 정책 테이블 변경 감지 (외부 적재/찜 수 변경)
+ * - 지문 쿼리 1회로 카드/추천 자격 컬럼 변경을 감지 → PolicyDataChangedEvent 발행
+ * - 같은 테이블의 인메모리 캐시(PolicyCardSnapshot, PolicyEligibilityIndex)가 한 신호로 함께 갱신
+ * - 캐시는 노드마다 있으므로 모든 노드에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyChangeDetector {
+
+    private final PolicyRepository policyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile String fingerprint;
+
+    /**
+     * 최근 확인한 지문 (아직 없으면 즉시 조회) - 캐시 적재 시 함께 기록
+     */
+    public String currentFingerprint() {
+        String current = fingerprint;
+        if (current == null) {
+            current = fetchFingerprint();
+            fingerprint = current;
+        }
+        return current;
+    }
+
+    @Scheduled(initialDelayString = "${policy.change-check-ms:60000}", fixedDelayString = "${policy.change-check-ms:60000}")
+    public void checkForChanges() {
+        String latest;
+        try {
+            latest = fetchFingerprint();
+        } catch (Exception e) {
+            log.warn("🛰️ 정책 변경 감지 실패 (다음 주기에 재시도): {}", e.getMessage());
+            return;
+        }
+        String previous = fingerprint;
+        fingerprint = latest;
+        if (!latest.equals(previous)) {
+            log.info("🛰️ 정책 데이터 변경 감지");
+            eventPublisher.publishEvent(new PolicyDataChangedEvent(latest));
+        }
+    }
+
+    // 행 수, 최대 NO, 행별 CRC 합계
+    private String fetchFingerprint() {
+        List<Object[]> rows = policyRepository.findPolicyFingerprint();
+        if (rows.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Object value : rows.get(0)) {
+            sb.append(value).append(':');
+        }
+        return sb.toString();
+    }
+}
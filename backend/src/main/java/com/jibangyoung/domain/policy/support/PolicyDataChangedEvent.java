@@ -0,0 +1,7 @@
+package com.jibangyoung.domain.policy.support;
+
+/**
+ * 정책 테이블 변경 감지 이벤트 (PolicyChangeDetector가 노드별로 발행, 정책 기반 인메모리 캐시가 다시 적재)
+ */
+public record PolicyDataChangedEvent(String fingerprint) {
+}
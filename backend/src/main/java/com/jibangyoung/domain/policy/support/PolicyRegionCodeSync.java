@@ -0,0 +1,46 @@
+package com.jibangyoung.domain.policy.support;
+
+import java.time.Duration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * policies.region_code 동기화
+ * - 정책 데이터는 외부에서 적재되므로 zip_cd(문자열) → region_code(정수, 인덱스)를 주기적으로 반영
+ * - 값이 다른 행만 갱신 (재실행해도 변경 없음), 숫자가 아닌 zip_cd는 NULL
+ * - 애플리케이션에서 저장하는 경우는 Policy @PrePersist/@PreUpdate에서 바로 설정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyRegionCodeSync {
+
+    private static final String REGION_CODE_EXPR =
+            "CASE WHEN TRIM(zip_cd) REGEXP '^[0-9]{1,9}$' THEN CAST(TRIM(zip_cd) AS UNSIGNED) END";
+
+    private static final String SYNC_SQL = "UPDATE policies SET region_code = " + REGION_CODE_EXPR
+            + " WHERE NOT (region_code <=> " + REGION_CODE_EXPR + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledJobRunner jobRunner;
+
+    @Scheduled(initialDelayString = "${policy.region-code-sync.initial-delay-ms:10000}", fixedDelayString = "${policy.region-code-sync.sync-ms:300000}")
+    public void scheduledSync() {
+        jobRunner.run("policy-region-code-sync", ScheduledJobRunner.Mode.LOCKED,
+                Duration.ofMinutes(4), Duration.ofSeconds(30), this::sync);
+    }
+
+    public void sync() {
+        int updated = jdbcTemplate.update(SYNC_SQL);
+        if (updated > 0) {
+            log.info("정책 region_code 동기화: updated={}", updated);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.jibangyoung.domain.policy.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.domain.policy.entity.Region;
+import com.jibangyoung.domain.policy.repository.RegionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🗺️ 지역 기준정보 카탈로그 (region 테이블 전체를 메모리에 보관, 모든 도메인 공용)
+ * - 불변 스냅샷: 정렬된 int[] 코드 + 이진 탐색 (박싱/DB 조회 없음)
+ * - 코드 → 시도명 / 전체 이름(시도 + 구군1 + 구군2), 시도 → 하위 지역
+ * - 첫 조회 시 적재, 주기적으로 다시 적재 (region 테이블은 외부에서 거의 변경되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegionCatalog {
+
+    public static final int NATIONAL_CODE = 99999;
+
+    private final RegionRepository regionRepository;
+
+    private volatile Snapshot snapshot;
+
+    public record RegionEntry(int code, String sido, String guGun1, String guGun2, String fullName) {
+    }
+
+    // 코드가 없으면 null
+    public String sidoName(int code) {
+        RegionEntry entry = find(code);
+        return entry != null ? entry.sido() : null;
+    }
+
+    // 코드가 없으면 null
+    public String fullName(int code) {
+        RegionEntry entry = find(code);
+        return entry != null ? entry.fullName() : null;
+    }
+
+    public RegionEntry find(int code) {
+        Snapshot current = snapshot();
+        int idx = Arrays.binarySearch(current.codes, code);
+        return idx >= 0 ? current.entries.get(idx) : null;
+    }
+
+    public boolean contains(int code) {
+        return Arrays.binarySearch(snapshot().codes, code) >= 0;
+    }
+
+    // 전체 지역 (코드 오름차순)
+    public List<RegionEntry> entries() {
+        return snapshot().entries;
+    }
+
+    // 시도 → 하위 지역 (코드 오름차순), 없으면 빈 목록
+    public List<RegionEntry> children(String sido) {
+        return snapshot().bySido.getOrDefault(sido, List.of());
+    }
+
+    // 스냅샷 버전 (다시 적재될 때마다 증가) - 파생 데이터 메모이제이션용
+    public long version() {
+        return snapshot().version;
+    }
+
+    @Scheduled(initialDelayString = "${region.catalog.refresh-ms:3600000}", fixedDelayString = "${region.catalog.refresh-ms:3600000}")
+    public void refresh() {
+        try {
+            load();
+        } catch (Exception e) {
+            log.warn("🗺️ 지역 카탈로그 갱신 실패 (기존 스냅샷 유지): {}", e.getMessage());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                }
+            }
+        }
+        return current;
+    }
+
+    private synchronized Snapshot load() {
+        List<Region> regions = regionRepository.findAllByOrderByRegionCode();
+
+        int[] codes = new int[regions.size()];
+        List<RegionEntry> entries = new ArrayList<>(regions.size());
+        Map<String, List<RegionEntry>> bySido = new LinkedHashMap<>();
+        int size = 0;
+        for (Region region : regions) {
+            if (region.getRegionCode() == null) {
+                continue;
+            }
+            RegionEntry entry = new RegionEntry(region.getRegionCode(), region.getSido(),
+                    region.getGuGun1(), region.getGuGun2(), buildFullName(region));
+            codes[size++] = entry.code();
+            entries.add(entry);
+            if (entry.sido() != null) {
+                bySido.computeIfAbsent(entry.sido(), sido -> new ArrayList<>()).add(entry);
+            }
+        }
+        bySido.replaceAll((sido, children) -> List.copyOf(children));
+
+        long version = snapshot != null ? snapshot.version + 1 : 1;
+        Snapshot loaded = new Snapshot(Arrays.copyOf(codes, size), Collections.unmodifiableList(entries),
+                Collections.unmodifiableMap(bySido), version);
+        snapshot = loaded;
+        log.info("🗺️ 지역 카탈로그 적재: regions={}, sido={}, version={}", size, bySido.size(), version);
+        return loaded;
+    }
+
+    private static String buildFullName(Region region) {
+        StringBuilder sb = new StringBuilder(region.getSido() != null ? region.getSido() : "");
+        if (region.getGuGun1() != null && !region.getGuGun1().isEmpty()) {
+            sb.append(" ").append(region.getGuGun1());
+        }
+        if (region.getGuGun2() != null && !region.getGuGun2().isEmpty()) {
+            sb.append(" ").append(region.getGuGun2());
+        }
+        return sb.toString();
+    }
+
+    private record Snapshot(int[] codes, List<RegionEntry> entries, Map<String, List<RegionEntry>> bySido,
+            long version) {
+    }
+}
@@ -6,8 +6,10 @@ import com.jibangyoung.domain.policy.dto.PolicyCardDto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class RecommendationResultDto {
     private String username;
@@ -0,0 +1,49 @@
+package com.jibangyoung.domain.recommendation.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추천 결과 화면용 완성본 (userId, responseId당 1행)
+ * - 추천 생성 시 지역명/인프라 설명/상위 4개 정책 카드까지 조립한 결과를 JSON으로 저장
+ * - expiresOn: 포함된 정책 중 가장 빠른 마감일 → 지나면 추천 행에서 다시 조립
+ * - 쓰기는 RecommendationResultRepository.upsert (네이티브)
+ */
+@Entity
+@Table(name = "recommendation_results", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recommendation_results_user_response", columnNames = { "user_id", "response_id" })
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MaterializedRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "response_id", nullable = false)
+    private Long responseId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload; // List<RecommendationResultDto> JSON
+
+    @Column(name = "expires_on")
+    private LocalDate expiresOn; // null이면 만료 없음 (정책 카드 없음)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
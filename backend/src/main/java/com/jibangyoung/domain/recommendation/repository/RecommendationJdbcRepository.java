@@ -0,0 +1,139 @@
+package com.jibangyoung.domain.recommendation.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.jibangyoung.domain.recommendation.entity.Recommendation;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * recommendations 대량 쓰기/정리 (JDBC)
+ * - IDENTITY 키라 Hibernate는 행마다 INSERT → 다중 행 INSERT로 청크당 1회
+ * - 정리 쿼리는 user_id 범위 단위 (한 사용자의 추천 행이 범위 경계에서 나뉘지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationJdbcRepository {
+
+    private static final String MULTI_ROW_INSERT_PREFIX = """
+            INSERT INTO recommendations (
+                created_at, region_code, policy_code, response_id, user_id, is_viewed, rankgroup, `rank`
+            ) VALUES """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_ROWS_PER_INSERT = 500;
+
+    // (user, response, rankgroup, region_code)별 rank 상위 keep개만 남김
+    private static final String COMPACT_SQL = """
+            DELETE r FROM recommendations r
+            JOIN (
+                SELECT id FROM (
+                    SELECT id, ROW_NUMBER() OVER (
+                        PARTITION BY user_id, response_id, rankgroup, region_code ORDER BY `rank`, id) AS rn
+                    FROM recommendations
+                    WHERE user_id BETWEEN ? AND ?
+                ) ranked
+                WHERE rn > ?
+            ) doomed ON doomed.id = r.id""";
+
+    // 사용자별 최근 keep개 응답(response_id 내림차순)만 남김
+    private static final String PURGE_OLD_RESPONSES_SQL = """
+            DELETE r FROM recommendations r
+            JOIN (
+                SELECT user_id, response_id FROM (
+                    SELECT user_id, response_id,
+                        ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY response_id DESC) AS rn
+                    FROM (
+                        SELECT DISTINCT user_id, response_id
+                        FROM recommendations
+                        WHERE user_id BETWEEN ? AND ?
+                    ) responses
+                ) ranked
+                WHERE rn > ?
+            ) old ON old.user_id = r.user_id AND old.response_id = r.response_id""";
+
+    // 추천 행이 모두 삭제된 응답의 완성본 제거
+    private static final String DELETE_ORPHAN_RESULTS_SQL = """
+            DELETE FROM recommendation_results
+            WHERE user_id BETWEEN ? AND ?
+              AND NOT EXISTS (
+                  SELECT 1 FROM recommendations r
+                  WHERE r.user_id = recommendation_results.user_id
+                    AND r.response_id = recommendation_results.response_id)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다중 행 INSERT (청크당 1회), 생성된 id를 엔티티에 설정
+     */
+    public List<Recommendation> insertAll(List<Recommendation> recommendations) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < recommendations.size(); from += MAX_ROWS_PER_INSERT) {
+            List<Recommendation> rows = recommendations.subList(from,
+                    Math.min(from + MAX_ROWS_PER_INSERT, recommendations.size()));
+            String sql = MULTI_ROW_INSERT_PREFIX + String.join(", ", Collections.nCopies(rows.size(), ROW_PLACEHOLDER));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                int idx = 1;
+                for (Recommendation rec : rows) {
+                    rec.setCreatedAt(now);
+                    ps.setTimestamp(idx++, Timestamp.valueOf(now));
+                    ps.setString(idx++, rec.getRegionCode());
+                    ps.setInt(idx++, rec.getPolicyCode());
+                    ps.setLong(idx++, rec.getResponseId());
+                    ps.setLong(idx++, rec.getUserId());
+                    ps.setBoolean(idx++, rec.isViewed());
+                    ps.setObject(idx++, rec.getRankGroup());
+                    ps.setObject(idx++, rec.getRank());
+                }
+                return ps;
+            }, keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != rows.size()) {
+                throw new IllegalStateException(
+                        "추천 결과 생성 키 수 불일치: rows=" + rows.size() + ", keys=" + keys.size());
+            }
+            for (int i = 0; i < rows.size(); i++) {
+                Object key = keys.get(i).values().iterator().next();
+                rows.get(i).setId(((Number) key).longValue());
+            }
+        }
+        return recommendations;
+    }
+
+    /**
+     * user_id 오름차순으로 afterUserId 다음 사용자 limit명의 [최소, 최대] (없으면 null)
+     */
+    public long[] nextUserIdRange(long afterUserId, int limit) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM recommendations WHERE user_id > ? ORDER BY user_id LIMIT ?",
+                Long.class, afterUserId, limit);
+        if (userIds.isEmpty()) {
+            return null;
+        }
+        return new long[] { userIds.get(0), userIds.get(userIds.size() - 1) };
+    }
+
+    public int compact(long fromUserId, long toUserId, int keepPerRegion) {
+        return jdbcTemplate.update(COMPACT_SQL, fromUserId, toUserId, keepPerRegion);
+    }
+
+    public int purgeOldResponses(long fromUserId, long toUserId, int keepResponses) {
+        return jdbcTemplate.update(PURGE_OLD_RESPONSES_SQL, fromUserId, toUserId, keepResponses);
+    }
+
+    public int deleteOrphanResults(long fromUserId, long toUserId) {
+        return jdbcTemplate.update(DELETE_ORPHAN_RESULTS_SQL, fromUserId, toUserId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.jibangyoung.domain.recommendation.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jibangyoung.domain.recommendation.entity.MaterializedRecommendation;
+
+public interface RecommendationResultRepository extends JpaRepository<MaterializedRecommendation, Long> {
+
+    Optional<MaterializedRecommendation> findByUserIdAndResponseId(Long userId, Long responseId);
+
+    // (user_id, response_id) 유니크 키 기준 저장/교체
+    @Modifying
+    @Query(value = """
+            INSERT INTO recommendation_results (user_id, response_id, payload, expires_on, created_at)
+            VALUES (:userId, :responseId, :payload, :expiresOn, NOW())
+            ON DUPLICATE KEY UPDATE
+                payload = VALUES(payload),
+                expires_on = VALUES(expires_on),
+                created_at = VALUES(created_at)
+            """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("responseId") Long responseId,
+            @Param("payload") String payload, @Param("expiresOn") LocalDate expiresOn);
+}
@@ -1,20 +1,20 @@
 package com.jibangyoung.domain.recommendation.service;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.jibangyoung.domain.recommendation.dto.PolicyScoreDto;
-import com.jibangyoung.domain.recommendation.dto.RecommendedRegionDto;
 import com.jibangyoung.domain.recommendation.entity.Recommendation;
-import com.jibangyoung.domain.recommendation.repository.RecommendationRepository;
+import com.jibangyoung.domain.recommendation.repository.RecommendationJdbcRepository;
+import com.jibangyoung.domain.recommendation.support.PolicyEligibilityIndex;
+import com.jibangyoung.domain.recommendation.support.PolicyEligibilityIndex.Criteria;
+import com.jibangyoung.domain.recommendation.support.PolicyEligibilityIndex.Match;
+import com.jibangyoung.domain.recommendation.support.PolicyEligibilityIndex.Snapshot;
 import com.jibangyoung.domain.survey.entity.SurveyAnswer;
 import com.jibangyoung.domain.survey.repository.SurveyAnswerRepository;
 
@@ -24,65 +24,75 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RecommendationAlgorithmService {
 
-    private final RecommendationRepository recommendationRepository;
+    private static final int TOP_REGION_COUNT = 3;
+
+    // 지역별 저장할 정책 수 (지역 정책/전국 정책 각각, 결과 화면은 그룹당 4개)
+    @Value("${recommendation.top-k-per-region:20}")
+    private int topKPerRegion;
+
     private final SurveyAnswerRepository surveyAnswerRepository;
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final PolicyEligibilityIndex policyEligibilityIndex;
+    private final RecommendationService recommendationService;
 
     @Transactional
     public List<Recommendation> generateRecommendations(Long userId, Long responseId) {
         Map<String, String> answers = loadSurveyAnswers(userId, responseId);
-        List<PolicyScoreDto> scoredPolicies = filterAndScorePolicies(answers);
-        List<String> topRegions = determineTopRegions(answers);
-
-        Map<String, List<PolicyScoreDto>> topPoliciesByRegion = new HashMap<>();
-
-        List<PolicyScoreDto> nationwidePolicies = scoredPolicies.stream()
-                .filter(p -> "99999".equals(p.getRegionCode()))
-                .sorted(Comparator.comparingDouble(PolicyScoreDto::getPoliscore).reversed())
-                .collect(Collectors.toList());
-
-        int rank = 1;
-        Map<String, Integer> regionRankMap = new HashMap<>();
-        for (String region : topRegions) {
-            List<PolicyScoreDto> regionPolicies = scoredPolicies.stream()
-                    .filter(p -> region.equals(p.getRegionCode()))
-                    .collect(Collectors.toList());
-
-            List<PolicyScoreDto> combinedPolicies = new ArrayList<>();
-            combinedPolicies.addAll(regionPolicies);
+        // 다중 행 INSERT (IDENTITY라 saveAll은 행마다 INSERT)
+        List<Recommendation> saved = recommendationJdbcRepository.insertAll(buildRecommendations(userId, responseId, answers));
+        // 결과 화면 완성본 미리 조립/저장 → 조회는 키 1회
+        recommendationService.materialize(userId, responseId, saved);
+        return saved;
+    }
 
-            // 전국 정책은 regionCode를 바꾸지 않고 rankGroup만 같게 처리
-            for (PolicyScoreDto nationwidePolicy : nationwidePolicies) {
-                combinedPolicies.add(nationwidePolicy);
-            }
+    /**
+     * 인메모리 인덱스로 추천 목록 구성 (DB 조회 없음)
+     * - 상위 3개 지역마다 [지역 정책 + 전국 정책]을 점수 내림차순으로 정렬
+     * - 동점이면 지역 정책 → 전국 정책, 각각 원본 정책 순서 (기존 안정 정렬 결과와 동일)
+     * - 지역 정책/전국 정책 각각 상위 topKPerRegion개까지만 (등급 버킷이 이미 점수순이라 앞에서 잘라내면 상위 K)
+     */
+    public List<Recommendation> buildRecommendations(Long userId, Long responseId, Map<String, String> answers) {
+        Snapshot snapshot = policyEligibilityIndex.snapshot();
+        Criteria criteria = Criteria.from(answers);
+        List<String> topRegions = snapshot.topRegions(answers, TOP_REGION_COUNT);
 
-            combinedPolicies.sort(Comparator.comparingDouble(PolicyScoreDto::getPoliscore).reversed());
-            topPoliciesByRegion.put(region, combinedPolicies);
-            regionRankMap.put(region, rank);
-            rank++;
-        }
+        // 전국 정책은 regionCode를 바꾸지 않고 rankGroup만 같게 처리
+        Match nationwide = snapshot.match(PolicyEligibilityIndex.NATIONWIDE_REGION_CODE, criteria);
 
         List<Recommendation> recommendations = new ArrayList<>();
-        for (Map.Entry<String, List<PolicyScoreDto>> entry : topPoliciesByRegion.entrySet()) {
-            String region = entry.getKey();
-            int regionRank = regionRankMap.get(region);
-
-            List<PolicyScoreDto> policies = entry.getValue();
+        int regionRank = 1;
+        for (String region : topRegions) {
+            Match regional = snapshot.match(region, criteria);
 
             int innerRank = 1;
-            for (PolicyScoreDto policy : policies) {
-                recommendations.add(Recommendation.builder()
-                        .userId(userId)
-                        .responseId(responseId)
-                        .regionCode(policy.getRegionCode()) // 원래 regionCode 유지
-                        .policyCode(policy.getPolicyCode())
-                        .rankGroup(regionRank) // 그룹 번호
-                        .rank(innerRank) // 그룹 내 정책 순위
-                        .build());
-                innerRank++;
+            int[] taken = new int[2]; // [지역, 전국] 담은 개수
+            for (int level = 0; level < PolicyEligibilityIndex.LEVEL_SCORES.length; level++) {
+                innerRank = appendLevel(recommendations, regional, level, userId, responseId, regionRank, innerRank,
+                        taken, 0);
+                innerRank = appendLevel(recommendations, nationwide, level, userId, responseId, regionRank, innerRank,
+                        taken, 1);
+                if (taken[0] >= topKPerRegion && taken[1] >= topKPerRegion) {
+                    break;
+                }
             }
+            regionRank++;
         }
+        return recommendations;
+    }
 
-        return recommendationRepository.saveAll(recommendations);
+    private int appendLevel(List<Recommendation> recommendations, Match match, int level,
+            Long userId, Long responseId, int regionRank, int innerRank, int[] taken, int source) {
+        for (int i = 0; i < match.size(level) && taken[source] < topKPerRegion; i++, taken[source]++) {
+            recommendations.add(Recommendation.builder()
+                    .userId(userId)
+                    .responseId(responseId)
+                    .regionCode(match.regionCode()) // 원래 regionCode 유지
+                    .policyCode(match.policyCode(level, i))
+                    .rankGroup(regionRank) // 그룹 번호
+                    .rank(innerRank++) // 그룹 내 정책 순위
+                    .build());
+        }
+        return innerRank;
     }
 
     private Map<String, String> loadSurveyAnswers(Long userId, Long responseId) {
@@ -93,146 +103,4 @@ public class RecommendationAlgorithmService {
                         SurveyAnswer::getOptionCode,
                         (existing, replacement) -> existing + "," + replacement));
     }
-
-    private List<PolicyScoreDto> filterAndScorePolicies(Map<String, String> answers) {
-        List<PolicyScoreDto> allPolicies = loadAllPolicies();
-
-        List<PolicyScoreDto> filtered = allPolicies.stream()
-                .filter(p -> isPolicyEligible(p, answers))
-                .toList();
-
-        return filtered.stream()
-                .peek(p -> p.setPoliscore(calculateScore(p, answers)))
-                .toList();
-    }
-
-    private boolean isPolicyEligible(PolicyScoreDto policy, Map<String, String> answers) {
-        int userAge = Integer.parseInt(answers.getOrDefault("Q1", "0"));
-        if (policy.getMinAge() > 0 && userAge < policy.getMinAge())
-            return false;
-        if (policy.getMaxAge() > 0 && userAge > policy.getMaxAge())
-            return false;
-
-        String userSchoolCode = answers.get("Q2");
-        if (policy.getSchoolCode() != null && !"0049010".equalsIgnoreCase(policy.getSchoolCode())) {
-            if (!isSchoolEligible(userSchoolCode, policy.getSchoolCode()))
-                return false;
-        }
-
-        String userBizCodes = answers.get("Q3");
-        if (policy.getBizCode() != null && userBizCodes != null) {
-            List<String> bizCodeList = Arrays.asList(userBizCodes.split(","));
-            if (!"0014010".equals(policy.getBizCode()) && !bizCodeList.contains(policy.getBizCode()))
-                return false;
-        }
-
-        String userMrgCode = answers.get("Q4");
-        if (policy.getMrgCode() != null && !policy.getMrgCode().equals("55003")
-                && !policy.getMrgCode().equalsIgnoreCase(userMrgCode))
-            return false;
-
-        String userJobCode = answers.get("Q5");
-        if (policy.getJobCode() != null && !"0013010".equals(policy.getJobCode())
-                && !policy.getJobCode().equalsIgnoreCase(userJobCode))
-            return false;
-
-        return true;
-    }
-
-    private boolean isSchoolEligible(String userSchoolCode, String policySchoolCode) {
-        if ("0049010".equalsIgnoreCase(policySchoolCode))
-            return true;
-        try {
-            int userCode = Integer.parseInt(userSchoolCode);
-            int requiredCode = Integer.parseInt(policySchoolCode);
-            return userCode <= requiredCode;
-        } catch (NumberFormatException e) {
-            return false;
-        }
-    }
-
-    private Double calculateScore(PolicyScoreDto policy, Map<String, String> answers) {
-        String answerBigCategory = answers.get("Q6");
-        String answerMidCategory = answers.get("Q7");
-
-        boolean bigMatch = answerBigCategory != null && answerBigCategory.equals(policy.getBigCategoryNm());
-        boolean midMatch = answerMidCategory != null && answerMidCategory.equals(policy.getMidCategoryNm());
-
-        if (bigMatch && midMatch)
-            return 2.8;
-        else if (bigMatch)
-            return 2.3;
-        else if (midMatch)
-            return 2.5;
-        else
-            return 2.0;
-    }
-
-    private List<PolicyScoreDto> loadAllPolicies() {
-        List<PolicyScoreDto> policyScoreTable = recommendationRepository.getAlgoColumn();
-        if (policyScoreTable != null && !policyScoreTable.isEmpty()) {
-            return policyScoreTable;
-        } else {
-            throw new RuntimeException("반환된 테이블이 없습니다");
-        }
-    }
-
-    private List<String> determineTopRegions(Map<String, String> answers) {
-        List<RecommendedRegionDto> infraDataList = recommendationRepository.findAllInfraData();
-
-        for (RecommendedRegionDto region : infraDataList) {
-            double score = 0.0;
-            score += calculateScoreForQuestion(answers.get("Q8"), region.getInfra_medi_1());
-            score += calculateScoreForQuestion(answers.get("Q9"), region.getInfra_medi_2());
-            double transportScore = calculateScoreForQuestion(answers.get("Q11"), region.getInfra_traf());
-            if ("Y".equalsIgnoreCase(answers.get("Q10")))
-                transportScore *= 1.2;
-            else if ("N".equalsIgnoreCase(answers.get("Q10")))
-                transportScore *= 0.8;
-            score += transportScore;
-
-            double housingScore = calculateScoreForQuestion(answers.get("Q13"), region.getInfra_regi());
-            if ("Y".equalsIgnoreCase(answers.get("Q12")))
-                housingScore *= 0.8;
-            else if ("N".equalsIgnoreCase(answers.get("Q12")))
-                housingScore *= 1.2;
-            score += housingScore;
-
-            region.setTotInfraScore(score);
-        }
-
-        return infraDataList.stream()
-                .sorted(Comparator.comparingDouble(RecommendedRegionDto::getTotInfraScore).reversed())
-                .limit(3)
-                .map(RecommendedRegionDto::getRegionCode)
-                .toList();
-    }
-
-    private double calculateScoreForQuestion(String selectedGroupStr, String regionGradeStr) {
-        if (selectedGroupStr == null || selectedGroupStr.isEmpty()
-                || regionGradeStr == null || regionGradeStr.isEmpty())
-            return 0;
-
-        char selectedGroup = selectedGroupStr.charAt(0);
-        char regionGrade = regionGradeStr.charAt(0);
-
-        List<Character> priorityList = makePriorityList(selectedGroup);
-        Map<Character, Double> weightMap = new HashMap<>();
-        double[] weights = { 1.5, 1.2, 1.0, 0.8, 0.5 };
-        for (int i = 0; i < priorityList.size(); i++) {
-            weightMap.put(priorityList.get(i), weights[i]);
-        }
-        return weightMap.getOrDefault(regionGrade, 0.0);
-    }
-
-    private List<Character> makePriorityList(char selectedGroup) {
-        return switch (selectedGroup) {
-            case 'A' -> List.of('A', 'B', 'C', 'D', 'E');
-            case 'B' -> List.of('B', 'A', 'C', 'D', 'E');
-            case 'C' -> List.of('C', 'A', 'B', 'D', 'E');
-            case 'D' -> List.of('D', 'E', 'C', 'B', 'A');
-            case 'E' -> List.of('E', 'D', 'C', 'B', 'A');
-            default -> new ArrayList<>();
-        };
-    }
 }
@@ -9,8 +9,8 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 import com.jibangyoung.domain.policy.dto.PolicyCardDto;
-import com.jibangyoung.domain.policy.repository.RegionRepository;
 import com.jibangyoung.domain.policy.service.PolicyService;
+import com.jibangyoung.domain.policy.support.RegionCatalog;
 import com.jibangyoung.domain.recommendation.dto.RecommendationRegionReasonDto;
 import com.jibangyoung.domain.recommendation.entity.Recommendation;
 import com.jibangyoung.domain.recommendation.repository.GetUsernameRepository;
@@ -23,7 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class RecommendationDetailService {
 
     private final RecommendationRepository recommendationRepository;
-    private final RegionRepository regionRepository;
+    private final RegionCatalog regionCatalog;
     private final PolicyService policyService;
     private final GetUsernameRepository userRepository;
 
@@ -50,24 +50,18 @@ public class RecommendationDetailService {
                 .filter(r -> r.getRankGroup() == rankGroup)
                 .collect(Collectors.toList());
 
-        // 3. 정책코드 리스트
-        List<Integer> policyCodes = recsInGroup.stream()
-                .map(Recommendation::getPolicyCode)
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 4. 정책 상세 정보 조회
-        List<PolicyCardDto> policies = policyService.getPoliciesByCodes(policyCodes);
-
-        // 5. rank 기준 정렬
+        // 3. 정책코드 → rank (동일 정책코드는 더 낮은 rank)
         Map<Integer, Integer> policyRankMap = recsInGroup.stream()
                 .collect(Collectors.toMap(
                         Recommendation::getPolicyCode,
                         Recommendation::getRank,
                         Math::min));
-        policies.sort(Comparator.comparingInt(p -> policyRankMap.getOrDefault(p.getNO(), Integer.MAX_VALUE)));
 
-        return policies;
+        // 4. rank 순 정책코드 → 정책 카드 일괄 조회 (순서 유지)
+        List<Integer> policyCodes = policyRankMap.keySet().stream()
+                .sorted(Comparator.comparingInt(policyRankMap::get))
+                .collect(Collectors.toList());
+        return policyService.getPoliciesByCodes(policyCodes);
     }
 
     /**
@@ -98,17 +92,7 @@ public class RecommendationDetailService {
 
         String regionName = regionCodeInt == 99999
                 ? "전국"
-                : regionRepository.findById(regionCodeInt)
-                        .map(region -> {
-                            StringBuilder sb = new StringBuilder(region.getSido());
-                            if (region.getGuGun1() != null && !region.getGuGun1().isEmpty()) {
-                                sb.append(" ").append(region.getGuGun1());
-                            }
-                            if (region.getGuGun2() != null && !region.getGuGun2().isEmpty()) {
-                                sb.append(" ").append(region.getGuGun2());
-                            }
-                            return sb.toString();
-                        }).orElse("미등록");
+                : Optional.ofNullable(regionCatalog.fullName(regionCodeInt)).orElse("미등록");
 
         // 3. 하드코딩된 사유 설명
         String reason1 = String.format("의료 인프라 등급 : %s : %s은(는) 의료기관 종별 인프라가 매우 %s 지역입니다",
@@ -10,13 +10,13 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 import com.jibangyoung.domain.policy.dto.PolicyCardDto;
-import com.jibangyoung.domain.policy.entity.Region;
-import com.jibangyoung.domain.policy.repository.RegionRepository;
 import com.jibangyoung.domain.policy.service.PolicyService;
+import com.jibangyoung.domain.policy.support.RegionCatalog;
 import com.jibangyoung.domain.recommendation.dto.RecommendationResultDto;
 import com.jibangyoung.domain.recommendation.entity.Recommendation;
 import com.jibangyoung.domain.recommendation.repository.GetUsernameRepository;
 import com.jibangyoung.domain.recommendation.repository.RecommendationRepository;
+import com.jibangyoung.domain.recommendation.support.RecommendationResultStore;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,14 +25,48 @@ import lombok.RequiredArgsConstructor;
 public class RecommendationService {
 
     private final RecommendationRepository recommendationRepository;
-    private final RegionRepository regionRepository;
+    private final RegionCatalog regionCatalog;
     private final PolicyService policyService;
     private final GetUsernameRepository userRepository;
+    private final RecommendationResultStore resultStore;
 
+    /**
+     * 추천 결과 조회
+     * - 생성 시 저장한 완성본을 키 1회 조회로 반환
+     * - 완성본이 없거나(이전 데이터) 포함 정책이 마감됐으면 추천 행에서 다시 조립 후 저장
+     */
     public List<RecommendationResultDto> getRankedRecommendationsGroupedByRankGroup(Long userId, Long responseId) {
-        Map<Integer, List<Recommendation>> groupedByRankGroup = getRecommendationsGroupedByRankGroup(userId,
-                responseId);
+        Optional<List<RecommendationResultDto>> stored = resultStore.find(userId, responseId);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        List<RecommendationResultDto> result = assembleResults(userId,
+                recommendationRepository.findByUserIdAndResponseId(userId, responseId));
+        if (!result.isEmpty()) {
+            resultStore.save(userId, responseId, result);
+        }
+        return result;
+    }
+
+    /**
+     * 추천 생성 직후 완성본 조립/저장 (생성 트랜잭션 안에서 호출)
+     */
+    public List<RecommendationResultDto> materialize(Long userId, Long responseId, List<Recommendation> recommendations) {
+        List<RecommendationResultDto> result = assembleResults(userId, recommendations);
+        resultStore.save(userId, responseId, result);
+        return result;
+    }
+
+    // rankGroup별 지역명/인프라 설명/상위 4개 정책 조립
+    private List<RecommendationResultDto> assembleResults(Long userId, List<Recommendation> recommendations) {
+        Map<Integer, List<Recommendation>> groupedByRankGroup = recommendations.stream()
+                .collect(Collectors.groupingBy(Recommendation::getRankGroup));
         List<RecommendationResultDto> result = new ArrayList<>();
+        if (groupedByRankGroup.isEmpty()) {
+            return result;
+        }
+        // userId로 username 불러오기 (그룹마다 조회하지 않음)
+        String username = userRepository.getUsernameById(userId);
 
         groupedByRankGroup.keySet().stream().sorted().forEach(rankGroup -> {
             List<Recommendation> recs = groupedByRankGroup.get(rankGroup);
@@ -56,9 +90,7 @@ public class RecommendationService {
 
             String regionName = regionCodeInt == 99999
                     ? "전국"
-                    : regionRepository.findById(regionCodeInt)
-                            .map(this::buildFullRegionName)
-                            .orElse("미등록");
+                    : Optional.ofNullable(regionCatalog.fullName(regionCodeInt)).orElse("미등록");
 
             List<Object[]> infraRows = (regionCodeInt == 99999) ? null
                     : recommendationRepository.getDescriptionByGrade(regionCodeStr);
@@ -107,13 +139,8 @@ public class RecommendationService {
             sortedPolicyCodes.addAll(localPolicyCodes);
             sortedPolicyCodes.addAll(nationalPolicyCodes);
 
-            // 정책 조회 후 정렬 유지
-            List<PolicyCardDto> sortedTop4 = policyService.getPoliciesByCodes(sortedPolicyCodes).stream()
-                    .sorted(Comparator.comparingInt(p -> sortedPolicyCodes.indexOf(p.getNO())))
-                    .limit(4)
-                    .collect(Collectors.toList());
-            // userId로 username 불러오기
-            String username = userRepository.getUsernameById(userId);
+            // 정책 조회 (요청 순서 유지, 상위 4개)
+            List<PolicyCardDto> sortedTop4 = policyService.getPoliciesByCodes(sortedPolicyCodes, 4);
 
             result.add(new RecommendationResultDto(
                     username,
@@ -134,17 +161,6 @@ public class RecommendationService {
         return recommendations.stream().collect(Collectors.groupingBy(Recommendation::getRankGroup));
     }
 
-    private String buildFullRegionName(Region region) {
-        StringBuilder sb = new StringBuilder(region.getSido());
-        if (region.getGuGun1() != null && !region.getGuGun1().isEmpty()) {
-            sb.append(" ").append(region.getGuGun1());
-        }
-        if (region.getGuGun2() != null && !region.getGuGun2().isEmpty()) {
-            sb.append(" ").append(region.getGuGun2());
-        }
-        return sb.toString();
-    }
-
     public List<String> getDescriptionByGrade(List<String> regionGrades) {
         if (regionGrades == null || regionGrades.size() < 4) {
             return List.of("인프라 정보가 부족해요");
@@ -0,0 +1,496 @@
+package com.jibangyoung.domain.recommendation.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.domain.policy.support.PolicyChangeDetector;
+import com.jibangyoung.domain.policy.support.PolicyDataChangedEvent;
+import com.jibangyoung.domain.recommendation.dto.PolicyScoreDto;
+import com.jibangyoung.domain.recommendation.dto.RecommendedRegionDto;
+import com.jibangyoung.domain.recommendation.repository.RecommendationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 알고리즘용 인메모리 정책/인프라 인덱스
+ * - 기동 시 1회 + 정책 변경 감지 시(PolicyDataChangedEvent, PolicyCardSnapshot과 같은 신호) 재구성, 요청 시에는 DB 조회 없음
+ * - 인프라 데이터는 변경 감지 대상이 아니므로 긴 주기로 함께 재구성
+ * - 정책은 지역코드별 버킷으로 나누고 학력/특화/결혼/취업 조건을 BitSet으로 미리 인코딩
+ * → 자격 판정은 마스크 AND + 나이 범위 비교(원시 배열)만 수행
+ * - 스냅샷은 불변 객체로 교체(volatile) → 조회 중 재구성과 경합 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyEligibilityIndex {
+
+    public static final String NATIONWIDE_REGION_CODE = "99999";
+
+    // "조건 없음"을 뜻하는 정책 코드 (기존 판정 로직과 동일)
+    private static final String SCHOOL_ANY = "0049010";
+    private static final String BIZ_ANY = "0014010";
+    private static final String MRG_ANY = "55003";
+    private static final String JOB_ANY = "0013010";
+
+    // 점수 등급: 대+중분류 일치(2.8) > 중분류(2.5) > 대분류(2.3) > 불일치(2.0)
+    public static final double[] LEVEL_SCORES = { 2.8, 2.5, 2.3, 2.0 };
+
+    private final RecommendationRepository recommendationRepository;
+    private final PolicyChangeDetector changeDetector;
+
+    private volatile Snapshot snapshot;
+    // 현재 스냅샷을 구성할 때의 정책 지문
+    private volatile String loadedFingerprint;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 기동은 계속, 첫 요청 시 다시 시도
+            log.warn("정책 인덱스 초기 구성 실패: {}", e.getMessage());
+        }
+    }
+
+    // 정책 데이터 변경 → 즉시 재구성
+    @EventListener
+    public void onPolicyDataChanged(PolicyDataChangedEvent event) {
+        if (event.fingerprint().equals(loadedFingerprint)) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("정책 인덱스 재구성 실패 - 기존 인덱스 유지: {}", e.getMessage());
+        }
+    }
+
+    // 인프라 데이터는 외부 적재 → 주기적으로 재구성
+    @Scheduled(fixedDelayString = "${recommendation.policy-index.refresh-ms:1800000}",
+            initialDelayString = "${recommendation.policy-index.refresh-ms:1800000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("정책 인덱스 재구성 실패 - 기존 인덱스 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 정책/인프라 전체를 읽어 인덱스 재구성
+     */
+    public synchronized Snapshot refresh() {
+        long startTime = System.currentTimeMillis();
+        String fingerprint = changeDetector.currentFingerprint();
+        List<PolicyScoreDto> policies = recommendationRepository.getAlgoColumn();
+        List<RecommendedRegionDto> regions = recommendationRepository.findAllInfraData();
+
+        Snapshot built = Snapshot.build(policies, regions);
+        snapshot = built;
+        loadedFingerprint = fingerprint;
+        log.info("정책 인덱스 구성 완료: policies={}, buckets={}, regions={}, elapsed={}ms",
+                built.policyCount, built.buckets.size(), built.regionCodes.length,
+                System.currentTimeMillis() - startTime);
+        return built;
+    }
+
+    /**
+     * 현재 스냅샷 (없으면 즉시 구성)
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = refresh();
+        }
+        if (current.policyCount == 0) {
+            throw new RuntimeException("반환된 테이블이 없습니다");
+        }
+        return current;
+    }
+
+    // ===== 사용자 조건 =====
+
+    /**
+     * 설문 응답에서 한 번만 파싱한 사용자 조건
+     */
+    public static final class Criteria {
+        final int age;
+        final String schoolCode;
+        final List<String> bizCodes; // null이면 특화 조건 미적용
+        final String mrgCode;
+        final String jobCode;
+        final String bigCategory;
+        final String midCategory;
+
+        private Criteria(Map<String, String> answers) {
+            this.age = Integer.parseInt(answers.getOrDefault("Q1", "0"));
+            this.schoolCode = answers.get("Q2");
+            String biz = answers.get("Q3");
+            this.bizCodes = biz != null ? Arrays.asList(biz.split(",")) : null;
+            this.mrgCode = upper(answers.get("Q4"));
+            this.jobCode = upper(answers.get("Q5"));
+            this.bigCategory = answers.get("Q6");
+            this.midCategory = answers.get("Q7");
+        }
+
+        public static Criteria from(Map<String, String> answers) {
+            return new Criteria(answers);
+        }
+    }
+
+    /**
+     * 버킷 내 자격 정책을 점수 등급별로 나눈 결과 (등급 내 순서 = 원본 정책 순서)
+     */
+    public static final class Match {
+        private static final Match EMPTY = new Match(null, new int[LEVEL_SCORES.length][0]);
+
+        private final Bucket bucket;
+        private final int[][] ordinalsByLevel;
+
+        private Match(Bucket bucket, int[][] ordinalsByLevel) {
+            this.bucket = bucket;
+            this.ordinalsByLevel = ordinalsByLevel;
+        }
+
+        public int size(int level) {
+            return ordinalsByLevel[level].length;
+        }
+
+        public int policyCode(int level, int index) {
+            return bucket.policyCodes[ordinalsByLevel[level][index]];
+        }
+
+        public String regionCode() {
+            return bucket != null ? bucket.regionCode : null;
+        }
+    }
+
+    // ===== 스냅샷 =====
+
+    public static final class Snapshot {
+        private final Map<String, Bucket> buckets;
+        private final int policyCount;
+
+        // 인프라 등급 (지역 순서는 원본 조회 순서)
+        private final String[] regionCodes;
+        private final char[] mediGrades;
+        private final char[] accessGrades;
+        private final char[] trafGrades;
+        private final char[] housingGrades;
+
+        private Snapshot(Map<String, Bucket> buckets, int policyCount, List<RecommendedRegionDto> regions) {
+            this.buckets = buckets;
+            this.policyCount = policyCount;
+            int n = regions.size();
+            this.regionCodes = new String[n];
+            this.mediGrades = new char[n];
+            this.accessGrades = new char[n];
+            this.trafGrades = new char[n];
+            this.housingGrades = new char[n];
+            for (int i = 0; i < n; i++) {
+                RecommendedRegionDto region = regions.get(i);
+                regionCodes[i] = region.getRegionCode();
+                mediGrades[i] = firstChar(region.getInfra_medi_1());
+                accessGrades[i] = firstChar(region.getInfra_medi_2());
+                trafGrades[i] = firstChar(region.getInfra_traf());
+                housingGrades[i] = firstChar(region.getInfra_regi());
+            }
+        }
+
+        static Snapshot build(List<PolicyScoreDto> policies, List<RecommendedRegionDto> regions) {
+            Map<String, List<PolicyScoreDto>> grouped = new HashMap<>();
+            int count = 0;
+            if (policies != null) {
+                for (PolicyScoreDto policy : policies) {
+                    if (policy.getRegionCode() == null || policy.getPolicyCode() == null) {
+                        continue; // 어떤 지역과도 매칭되지 않음
+                    }
+                    grouped.computeIfAbsent(policy.getRegionCode(), k -> new ArrayList<>()).add(policy);
+                    count++;
+                }
+            }
+            Map<String, Bucket> buckets = new HashMap<>(grouped.size() * 2);
+            grouped.forEach((regionCode, list) -> buckets.put(regionCode, new Bucket(regionCode, list)));
+            return new Snapshot(buckets, count, regions != null ? regions : List.of());
+        }
+
+        /**
+         * 지역 버킷의 자격 정책 조회
+         */
+        public Match match(String regionCode, Criteria criteria) {
+            Bucket bucket = buckets.get(regionCode);
+            return bucket != null ? bucket.match(criteria) : Match.EMPTY;
+        }
+
+        /**
+         * 인프라 점수 상위 limit개 지역 (동점이면 원본 순서 우선)
+         */
+        public List<String> topRegions(Map<String, String> answers, int limit) {
+            double[] medi = gradeWeights(answers.get("Q8"));
+            double[] access = gradeWeights(answers.get("Q9"));
+            double[] traf = gradeWeights(answers.get("Q11"));
+            double[] housing = gradeWeights(answers.get("Q13"));
+            double trafFactor = yesNoFactor(answers.get("Q10"), 1.2, 0.8);
+            double housingFactor = yesNoFactor(answers.get("Q12"), 0.8, 1.2);
+
+            int[] topIdx = new int[limit];
+            double[] topScore = new double[limit];
+            int filled = 0;
+            for (int i = 0; i < regionCodes.length; i++) {
+                double score = weight(medi, mediGrades[i])
+                        + weight(access, accessGrades[i])
+                        + weight(traf, trafGrades[i]) * trafFactor
+                        + weight(housing, housingGrades[i]) * housingFactor;
+
+                // 삽입 위치: 기존 값보다 "엄격히" 클 때만 앞으로 (안정 정렬과 동일한 동점 처리)
+                int pos = filled;
+                while (pos > 0 && score > topScore[pos - 1]) {
+                    pos--;
+                }
+                if (pos >= limit) {
+                    continue;
+                }
+                int last = Math.min(filled, limit - 1);
+                for (int j = last; j > pos; j--) {
+                    topIdx[j] = topIdx[j - 1];
+                    topScore[j] = topScore[j - 1];
+                }
+                topIdx[pos] = i;
+                topScore[pos] = score;
+                if (filled < limit) {
+                    filled++;
+                }
+            }
+
+            List<String> result = new ArrayList<>(filled);
+            for (int i = 0; i < filled; i++) {
+                result.add(regionCodes[topIdx[i]]);
+            }
+            return result;
+        }
+
+        public int policyCount() {
+            return policyCount;
+        }
+    }
+
+    // ===== 지역 버킷 =====
+
+    static final class Bucket {
+        final String regionCode;
+        final int size;
+        final int[] policyCodes;
+        final int[] minAges;
+        final int[] maxAges;
+
+        final BitSet schoolAny = new BitSet();
+        final int[] schoolThresholds; // 요구 학력코드 (오름차순)
+        final BitSet[] schoolAtLeast; // schoolAtLeast[i] = 요구 코드 >= schoolThresholds[i] 인 정책
+
+        final BitSet bizAny = new BitSet();
+        final Map<String, BitSet> bizByCode = new HashMap<>();
+        final BitSet mrgAny = new BitSet();
+        final Map<String, BitSet> mrgByCode = new HashMap<>();
+        final BitSet jobAny = new BitSet();
+        final Map<String, BitSet> jobByCode = new HashMap<>();
+
+        final Map<String, BitSet> bigCategories = new HashMap<>();
+        final Map<String, BitSet> midCategories = new HashMap<>();
+
+        Bucket(String regionCode, List<PolicyScoreDto> policies) {
+            this.regionCode = regionCode;
+            this.size = policies.size();
+            this.policyCodes = new int[size];
+            this.minAges = new int[size];
+            this.maxAges = new int[size];
+
+            TreeMap<Integer, BitSet> schoolByRequired = new TreeMap<>();
+            for (int i = 0; i < size; i++) {
+                PolicyScoreDto p = policies.get(i);
+                policyCodes[i] = p.getPolicyCode();
+                minAges[i] = p.getMinAge() != null ? p.getMinAge() : 0;
+                maxAges[i] = p.getMaxAge() != null ? p.getMaxAge() : 0;
+
+                // 학력: 사용자 코드 <= 정책 요구 코드일 때 자격 (숫자가 아닌 요구 코드는 항상 불가)
+                String school = p.getSchoolCode();
+                if (school == null || SCHOOL_ANY.equalsIgnoreCase(school)) {
+                    schoolAny.set(i);
+                } else {
+                    try {
+                        schoolByRequired.computeIfAbsent(Integer.parseInt(school), k -> new BitSet()).set(i);
+                    } catch (NumberFormatException ignore) {
+                    }
+                }
+
+                indexCode(p.getBizCode(), BIZ_ANY, false, bizAny, bizByCode, i);
+                indexCode(p.getMrgCode(), MRG_ANY, true, mrgAny, mrgByCode, i);
+                indexCode(p.getJobCode(), JOB_ANY, true, jobAny, jobByCode, i);
+
+                if (p.getBigCategoryNm() != null) {
+                    bigCategories.computeIfAbsent(p.getBigCategoryNm(), k -> new BitSet()).set(i);
+                }
+                if (p.getMidCategoryNm() != null) {
+                    midCategories.computeIfAbsent(p.getMidCategoryNm(), k -> new BitSet()).set(i);
+                }
+            }
+
+            // 요구 코드 내림차순으로 누적 → schoolAtLeast[i]
+            int n = schoolByRequired.size();
+            this.schoolThresholds = new int[n];
+            this.schoolAtLeast = new BitSet[n];
+            BitSet cumulative = new BitSet();
+            int idx = n - 1;
+            for (Map.Entry<Integer, BitSet> entry : schoolByRequired.descendingMap().entrySet()) {
+                cumulative.or(entry.getValue());
+                schoolThresholds[idx] = entry.getKey();
+                schoolAtLeast[idx] = (BitSet) cumulative.clone();
+                idx--;
+            }
+        }
+
+        // "조건 없음" 코드 또는 null은 any, 나머지는 코드별 BitSet
+        // (결혼/취업은 대소문자 무시 비교였으므로 대문자로 정규화, "조건 없음" 판정은 원래대로 대소문자 구분)
+        private static void indexCode(String code, String anyCode, boolean ignoreCase,
+                BitSet any, Map<String, BitSet> byCode, int ordinal) {
+            if (code == null || anyCode.equals(code)) {
+                any.set(ordinal);
+                return;
+            }
+            byCode.computeIfAbsent(ignoreCase ? upper(code) : code, k -> new BitSet()).set(ordinal);
+        }
+
+        Match match(Criteria c) {
+            BitSet mask = schoolMask(c.schoolCode);
+            if (mask.isEmpty()) {
+                return Match.EMPTY;
+            }
+            if (c.bizCodes != null) {
+                BitSet biz = (BitSet) bizAny.clone();
+                for (String code : c.bizCodes) {
+                    BitSet bits = bizByCode.get(code);
+                    if (bits != null) {
+                        biz.or(bits);
+                    }
+                }
+                mask.and(biz);
+            }
+            andCode(mask, mrgAny, mrgByCode, c.mrgCode);
+            andCode(mask, jobAny, jobByCode, c.jobCode);
+
+            BitSet big = c.bigCategory != null ? bigCategories.get(c.bigCategory) : null;
+            BitSet mid = c.midCategory != null ? midCategories.get(c.midCategory) : null;
+
+            int[][] byLevel = new int[LEVEL_SCORES.length][mask.cardinality()];
+            int[] counts = new int[LEVEL_SCORES.length];
+            for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1)) {
+                if (minAges[i] > 0 && c.age < minAges[i]) {
+                    continue;
+                }
+                if (maxAges[i] > 0 && c.age > maxAges[i]) {
+                    continue;
+                }
+                boolean bigMatch = big != null && big.get(i);
+                boolean midMatch = mid != null && mid.get(i);
+                int level = bigMatch ? (midMatch ? 0 : 2) : (midMatch ? 1 : 3);
+                byLevel[level][counts[level]++] = i;
+            }
+            for (int level = 0; level < byLevel.length; level++) {
+                byLevel[level] = Arrays.copyOf(byLevel[level], counts[level]);
+            }
+            return new Match(this, byLevel);
+        }
+
+        private BitSet schoolMask(String userSchoolCode) {
+            BitSet mask = (BitSet) schoolAny.clone();
+            if (userSchoolCode == null || schoolThresholds.length == 0) {
+                return mask;
+            }
+            int userCode;
+            try {
+                userCode = Integer.parseInt(userSchoolCode);
+            } catch (NumberFormatException e) {
+                return mask;
+            }
+            int idx = Arrays.binarySearch(schoolThresholds, userCode);
+            if (idx < 0) {
+                idx = -idx - 1; // userCode 이상인 첫 요구 코드
+            }
+            if (idx < schoolThresholds.length) {
+                mask.or(schoolAtLeast[idx]);
+            }
+            return mask;
+        }
+
+        private static void andCode(BitSet mask, BitSet any, Map<String, BitSet> byCode, String userCode) {
+            BitSet bits = userCode != null ? byCode.get(userCode) : null;
+            if (bits == null) {
+                mask.and(any);
+                return;
+            }
+            BitSet allowed = (BitSet) any.clone();
+            allowed.or(bits);
+            mask.and(allowed);
+        }
+    }
+
+    // ===== 인프라 가중치 =====
+
+    private static final double[] PRIORITY_WEIGHTS = { 1.5, 1.2, 1.0, 0.8, 0.5 };
+    private static final Map<Character, char[]> PRIORITY_ORDERS = Map.of(
+            'A', new char[] { 'A', 'B', 'C', 'D', 'E' },
+            'B', new char[] { 'B', 'A', 'C', 'D', 'E' },
+            'C', new char[] { 'C', 'A', 'B', 'D', 'E' },
+            'D', new char[] { 'D', 'E', 'C', 'B', 'A' },
+            'E', new char[] { 'E', 'D', 'C', 'B', 'A' });
+
+    // 등급 문자(A~E) → 가중치, 선택 없음/알 수 없는 선택이면 전부 0
+    private static double[] gradeWeights(String selectedGroup) {
+        double[] weights = new double[5];
+        if (selectedGroup == null || selectedGroup.isEmpty()) {
+            return weights;
+        }
+        char[] order = PRIORITY_ORDERS.get(selectedGroup.charAt(0));
+        if (order == null) {
+            return weights;
+        }
+        for (int i = 0; i < order.length; i++) {
+            weights[order[i] - 'A'] = PRIORITY_WEIGHTS[i];
+        }
+        return weights;
+    }
+
+    private static double weight(double[] weights, char grade) {
+        int idx = grade - 'A';
+        return idx >= 0 && idx < weights.length ? weights[idx] : 0.0;
+    }
+
+    private static double yesNoFactor(String answer, double yes, double no) {
+        if ("Y".equalsIgnoreCase(answer)) {
+            return yes;
+        }
+        if ("N".equalsIgnoreCase(answer)) {
+            return no;
+        }
+        return 1.0;
+    }
+
+    private static char firstChar(String value) {
+        return value == null || value.isEmpty() ? '\0' : value.charAt(0);
+    }
+
+    private static String upper(String value) {
+        return value != null ? value.toUpperCase(Locale.ROOT) : null;
+    }
+}
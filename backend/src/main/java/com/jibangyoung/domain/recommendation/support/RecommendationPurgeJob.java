@@ -0,0 +1,73 @@
+package com.jibangyoung.domain.recommendation.support;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.domain.recommendation.repository.RecommendationJdbcRepository;
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * recommendations 정리/압축 (클러스터에서 한 노드만)
+ * - 압축: (사용자, 응답, 그룹, 지역)별 rank 상위 keepPerRegion개만 유지 (상위 K 저장 이전에 쌓인 행 정리)
+ * - 보관: keep-responses > 0이면 사용자별 최근 응답 N개만 유지, 추천 행이 없어진 완성본도 삭제
+ * - user_id 범위 단위로 나눠 삭제 → 긴 트랜잭션/락 방지
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationPurgeJob {
+
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final ScheduledJobRunner jobRunner;
+
+    @Value("${recommendation.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommendation.top-k-per-region:20}")
+    private int keepPerRegion;
+
+    // 0이면 응답 보관 개수 제한 없음
+    @Value("${recommendation.purge.keep-responses:0}")
+    private int keepResponses;
+
+    @Value("${recommendation.purge.users-per-chunk:200}")
+    private int usersPerChunk;
+
+    @Scheduled(cron = "${recommendation.purge.cron:0 0 5 * * *}")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        jobRunner.run("recommendation-purge", ScheduledJobRunner.Mode.LOCKED,
+                Duration.ofHours(1), Duration.ofMinutes(1), this::purge);
+    }
+
+    public void purge() {
+        long start = System.currentTimeMillis();
+        long compacted = 0;
+        long purged = 0;
+        long orphanResults = 0;
+        int chunks = 0;
+
+        long afterUserId = Long.MIN_VALUE;
+        long[] range;
+        while ((range = recommendationJdbcRepository.nextUserIdRange(afterUserId, usersPerChunk)) != null) {
+            if (keepResponses > 0) {
+                purged += recommendationJdbcRepository.purgeOldResponses(range[0], range[1], keepResponses);
+                orphanResults += recommendationJdbcRepository.deleteOrphanResults(range[0], range[1]);
+            }
+            compacted += recommendationJdbcRepository.compact(range[0], range[1], keepPerRegion);
+            afterUserId = range[1];
+            chunks++;
+        }
+
+        log.info("추천 행 정리 완료: compacted={}, purgedResponses={}, orphanResults={}, chunks={}, elapsed={}ms",
+                compacted, purged, orphanResults, chunks, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,79 @@
+package com.jibangyoung.domain.recommendation.support;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jibangyoung.domain.policy.dto.PolicyCardDto;
+import com.jibangyoung.domain.recommendation.dto.RecommendationResultDto;
+import com.jibangyoung.domain.recommendation.entity.MaterializedRecommendation;
+import com.jibangyoung.domain.recommendation.repository.RecommendationResultRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 결과 완성본 저장소 (recommendation_results)
+ * - 조회: (userId, responseId) 키 1회 조회 + JSON 역직렬화, D-day만 오늘 기준으로 다시 계산
+ * - 포함된 정책 중 하나라도 마감되면(expires_on 경과) 없는 것으로 취급 → 호출 측에서 다시 조립/저장
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationResultStore {
+
+    private static final TypeReference<List<RecommendationResultDto>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final RecommendationResultRepository resultRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public Optional<List<RecommendationResultDto>> find(Long userId, Long responseId) {
+        Optional<MaterializedRecommendation> stored = resultRepository.findByUserIdAndResponseId(userId, responseId);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDate today = LocalDate.now();
+        MaterializedRecommendation materialized = stored.get();
+        if (materialized.getExpiresOn() != null && materialized.getExpiresOn().isBefore(today)) {
+            return Optional.empty();
+        }
+        try {
+            List<RecommendationResultDto> results = objectMapper.readValue(materialized.getPayload(), PAYLOAD_TYPE);
+            for (RecommendationResultDto result : results) {
+                for (PolicyCardDto policy : result.getPolicies()) {
+                    policy.setD_day(ChronoUnit.DAYS.between(today, policy.getDeadline()));
+                }
+            }
+            return Optional.of(results);
+        } catch (JsonProcessingException e) {
+            log.warn("추천 결과 완성본 역직렬화 실패 → 다시 조립: userId={}, responseId={}, error={}",
+                    userId, responseId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Transactional
+    public void save(Long userId, Long responseId, List<RecommendationResultDto> results) {
+        LocalDate expiresOn = results.stream()
+                .flatMap(result -> result.getPolicies().stream())
+                .map(PolicyCardDto::getDeadline)
+                .min(LocalDate::compareTo)
+                .orElse(null);
+        try {
+            resultRepository.upsert(userId, responseId, objectMapper.writeValueAsString(results), expiresOn);
+        } catch (JsonProcessingException e) {
+            // 저장하지 않아도 조회 시 추천 행에서 조립 가능
+            log.warn("추천 결과 완성본 직렬화 실패: userId={}, responseId={}, error={}",
+                    userId, responseId, e.getMessage());
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.jibangyoung.global.aspect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -13,11 +18,14 @@ import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.jibangyoung.global.annotation.UserActivityLogging;
+import com.jibangyoung.global.common.LogIdGenerator;
 import com.jibangyoung.global.common.UserActivityLog;
+import com.jibangyoung.global.security.CustomUserPrincipal;
 import com.jibangyoung.global.service.UserActivityLogService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +34,9 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 🎭 사용자 활동 로깅 AOP — 안전 캐스팅/기본값 보강 (수정: userId null 허용)
+ * - 메서드별 메타데이터(어노테이션, 수집 파라미터 인덱스, 민감정보 마스크)는 최초 1회 계산 후 캐시
+ * - 결과/principal의 ID 추출은 클래스별 MethodHandle 캐시(ClassValue) 사용
+ * - logId는 시간순 생성기 사용 (UUID/SecureRandom 미사용)
  */
 @Aspect
 @Component
@@ -34,72 +45,57 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class UserActivityLoggingAspect {
 
+    private static final long LOG_TTL_SECONDS = 86400L;
+
     private final UserActivityLogService logService;
 
+    private final Map<Method, MethodMetadata> metadataCache = new ConcurrentHashMap<>();
+
     @Around("@annotation(com.jibangyoung.global.annotation.UserActivityLogging)")
     public Object logUserActivity(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
-        String logId = UUID.randomUUID().toString();
-        UserActivityLogging annotation = getAnnotation(joinPoint);
+        String logId = LogIdGenerator.nextId();
+        MethodMetadata metadata = getMetadata(joinPoint);
 
-        HttpServletRequest request = getCurrentRequest();
-        Map<String, Object> contextInfo = extractContextInfo(joinPoint, request);
+        RequestContext context = extractContextInfo(metadata, joinPoint.getArgs(), getCurrentRequest());
 
         try {
             Object result = joinPoint.proceed();
             long executionTime = System.currentTimeMillis() - startTime;
-            logSuccess(logId, annotation, joinPoint, contextInfo, executionTime, result);
+            logSuccess(logId, metadata, context, executionTime, result);
             return result;
         } catch (Exception e) {
-            if (annotation.logOnFailure()) {
+            if (metadata.annotation.logOnFailure()) {
                 long executionTime = System.currentTimeMillis() - startTime;
-                logFailure(logId, annotation, joinPoint, contextInfo, executionTime, e);
+                logFailure(logId, metadata, context, executionTime, e);
             }
             throw e;
         }
     }
 
-    private void logSuccess(String logId, UserActivityLogging annotation,
-            ProceedingJoinPoint joinPoint, Map<String, Object> contextInfo,
+    private void logSuccess(String logId, MethodMetadata metadata, RequestContext context,
             long executionTime, Object result) {
 
         UserActivityLog.UserActivityLogBuilder builder = createBaseLogBuilder(
-                logId, annotation, joinPoint, contextInfo, executionTime);
+                logId, metadata, context, executionTime);
 
-        Map<String, Object> resultInfo = extractResultInfo(result);
+        ResultIds resultIds = extractResultInfo(result);
 
-        if (resultInfo.containsKey("refId")) {
-            builder.refId(toLong(resultInfo.get("refId")));
+        if (resultIds.refId != null) {
+            builder.refId(toLong(resultIds.refId));
         }
 
-        Long userId = null;
-        if (resultInfo.containsKey("userId")) {
-            userId = toLong(resultInfo.get("userId"));
-        }
-        if (resultInfo.containsKey("regionId")) {
-            builder.regionId(toLong(resultInfo.get("regionId")));
+        Long userId = resultIds.userId != null ? toLong(resultIds.userId) : null;
+        if (resultIds.regionId != null) {
+            builder.regionId(toLong(resultIds.regionId));
         }
 
-        if (userId == null) {
-            Object paramUserId = ((Map<String, Object>) contextInfo.get("requestParams")).get("userId");
-            if (paramUserId != null)
-                userId = toLong(paramUserId);
+        if (userId == null && context.userIdParam != null) {
+            userId = toLong(context.userIdParam);
         }
 
         if (userId == null) {
-            try {
-                Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-                if (auth != null && auth.isAuthenticated() && auth.getPrincipal() != null) {
-                    Object principal = auth.getPrincipal();
-                    try {
-                        Method m = principal.getClass().getMethod("getId");
-                        Object val = m.invoke(principal);
-                        userId = toLong(val);
-                    } catch (NoSuchMethodException ignore) {
-                    }
-                }
-            } catch (Exception ignored) {
-            }
+            userId = extractPrincipalId();
         }
 
         // 수정: userId null 허용 (익명 사용자)
@@ -107,35 +103,37 @@ public class UserActivityLoggingAspect {
 
         UserActivityLog successLog = UserActivityLog.success(builder);
 
-        log.debug("🎭 성공 로그 생성: logId={}, userId={}, actionType={}",
-                logId, userId, annotation.actionType());
+        if (log.isDebugEnabled()) {
+            log.debug("🎭 성공 로그 생성: logId={}, userId={}, actionType={}",
+                    logId, userId, metadata.annotation.actionType());
+        }
 
         logService.saveLogAsync(successLog);
     }
 
-    private void logFailure(String logId, UserActivityLogging annotation,
-            ProceedingJoinPoint joinPoint, Map<String, Object> contextInfo,
+    private void logFailure(String logId, MethodMetadata metadata, RequestContext context,
             long executionTime, Exception e) {
 
         UserActivityLog.UserActivityLogBuilder builder = createBaseLogBuilder(
-                logId, annotation, joinPoint, contextInfo, executionTime);
+                logId, metadata, context, executionTime);
 
         // 실패 로그에서도 userId는 null 허용
         builder.userId(null);
 
         UserActivityLog failureLog = UserActivityLog.failure(builder, e.getMessage());
 
-        log.debug("🎭 실패 로그 생성: logId={}, actionType={}, error={}",
-                logId, annotation.actionType(), e.getMessage());
+        if (log.isDebugEnabled()) {
+            log.debug("🎭 실패 로그 생성: logId={}, actionType={}, error={}",
+                    logId, metadata.annotation.actionType(), e.getMessage());
+        }
 
         logService.saveLogAsync(failureLog);
     }
 
     private UserActivityLog.UserActivityLogBuilder createBaseLogBuilder(
-            String logId, UserActivityLogging annotation, ProceedingJoinPoint joinPoint,
-            Map<String, Object> contextInfo, long executionTime) {
+            String logId, MethodMetadata metadata, RequestContext context, long executionTime) {
 
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        UserActivityLogging annotation = metadata.annotation;
 
         return UserActivityLog.builder()
                 .logId(logId)
@@ -143,108 +141,100 @@ public class UserActivityLoggingAspect {
                 .scoreDelta(annotation.scoreDelta())
                 .priority(annotation.priority().name())
                 .memo(annotation.description())
-                .methodName(signature.getMethod().getName())
-                .className(signature.getDeclaringType().getSimpleName())
+                .methodName(metadata.methodName)
+                .className(metadata.className)
                 .executionTime(executionTime)
-                .ipAddr((String) contextInfo.get("ipAddr"))
-                .userAgent((String) contextInfo.get("userAgent"))
-                .platform((String) contextInfo.get("platform"))
-                .lang((String) contextInfo.getOrDefault("lang", "ko"))
-                .requestParams(getRequestParamsFromContext(contextInfo))
-                .ttl(86400L);
+                .ipAddr(context.ipAddr)
+                .userAgent(context.userAgent)
+                .platform(context.platform)
+                .lang(context.lang)
+                .requestParams(context.requestParams)
+                .ttl(LOG_TTL_SECONDS);
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> getRequestParamsFromContext(Map<String, Object> contextInfo) {
-        Object requestParams = contextInfo.get("requestParams");
-        if (requestParams instanceof Map<?, ?> m) {
-            try {
-                return (Map<String, Object>) m;
-            } catch (ClassCastException e) {
-                return new HashMap<>();
-            }
-        }
-        return new HashMap<>();
-    }
-
-    private Map<String, Object> extractContextInfo(ProceedingJoinPoint joinPoint,
-            HttpServletRequest request) {
-        Map<String, Object> context = new HashMap<>();
+    private RequestContext extractContextInfo(MethodMetadata metadata, Object[] args, HttpServletRequest request) {
+        RequestContext context = new RequestContext();
         if (request != null) {
-            context.put("ipAddr", getClientIpAddr(request));
-            context.put("userAgent", request.getHeader("User-Agent"));
-            context.put("platform", determinePlatform(request));
-            context.put("lang", request.getHeader("Accept-Language"));
+            String userAgent = request.getHeader("User-Agent");
+            context.ipAddr = getClientIpAddr(request);
+            context.userAgent = userAgent;
+            context.platform = determinePlatform(userAgent);
+            context.lang = request.getHeader("Accept-Language");
+        } else {
+            context.lang = "ko";
+        }
+        context.requestParams = extractMethodParams(metadata, args);
+        if (metadata.userIdParamIndex >= 0 && args != null && metadata.userIdParamIndex < args.length) {
+            context.userIdParam = args[metadata.userIdParamIndex];
         }
-        context.put("requestParams", extractMethodParams(joinPoint));
         return context;
     }
 
-    private Map<String, Object> extractMethodParams(ProceedingJoinPoint joinPoint) {
-        Map<String, Object> params = new HashMap<>();
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String[] paramNames = signature.getParameterNames();
-        Object[] args = joinPoint.getArgs();
-        if (paramNames != null && args != null) {
-            for (int i = 0; i < Math.min(paramNames.length, args.length); i++) {
-                if (args[i] != null && !isSensitiveParam(paramNames[i])) {
-                    params.put(paramNames[i], args[i]);
-                }
+    private Map<String, Object> extractMethodParams(MethodMetadata metadata, Object[] args) {
+        int[] indices = metadata.capturedIndices;
+        Map<String, Object> params = new HashMap<>(Math.max(4, indices.length * 2));
+        if (args == null) {
+            return params;
+        }
+        for (int i = 0; i < indices.length; i++) {
+            int index = indices[i];
+            if (index < args.length && args[index] != null) {
+                params.put(metadata.capturedNames[i], args[index]);
             }
         }
         return params;
     }
 
-    private Map<String, Object> extractResultInfo(Object result) {
-        Map<String, Object> info = new HashMap<>();
-        if (result == null)
-            return info;
+    private ResultIds extractResultInfo(Object result) {
+        if (result == null) {
+            return ResultIds.EMPTY;
+        }
         try {
-            if (result.getClass().getSimpleName().equals("ApiResponse")) {
-                Method getDataMethod = result.getClass().getMethod("getData");
-                Object data = getDataMethod.invoke(result);
-                if (data != null)
-                    extractIdFields(data, info);
-            } else {
-                extractIdFields(result, info);
+            ResultAccessor accessor = RESULT_ACCESSORS.get(result.getClass());
+            if (accessor.getData != null) {
+                Object data = accessor.getData.invokeExact(result);
+                return data != null ? RESULT_ACCESSORS.get(data.getClass()).extractIds(data) : ResultIds.EMPTY;
             }
-        } catch (Exception e) {
-            /* ignore */ }
-        return info;
+            return accessor.extractIds(result);
+        } catch (Throwable e) {
+            /* ignore */
+            return ResultIds.EMPTY;
+        }
     }
 
-    private void extractIdFields(Object data, Map<String, Object> info) {
+    private Long extractPrincipalId() {
         try {
-            Class<?> c = data.getClass();
-            String[] methods = { "getUserId", "getRegionId", "getId", "getRefId" };
-            String[] keys = { "userId", "regionId", "refId", "refId" };
-            for (int i = 0; i < methods.length; i++) {
-                try {
-                    Method m = c.getMethod(methods[i]);
-                    Object val = m.invoke(data);
-                    if (val != null) {
-                        info.put(keys[i], val);
-                    }
-                } catch (NoSuchMethodException ignore) {
-                }
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
+                return null;
             }
-        } catch (Exception ignore) {
+            Object principal = auth.getPrincipal();
+            if (principal instanceof CustomUserPrincipal customPrincipal) {
+                return customPrincipal.getId();
+            }
+            MethodHandle getId = RESULT_ACCESSORS.get(principal.getClass()).getId;
+            return getId != null ? toLong(getId.invokeExact(principal)) : null;
+        } catch (Throwable ignored) {
+            return null;
         }
     }
 
-    private UserActivityLogging getAnnotation(ProceedingJoinPoint joinPoint) {
+    private MethodMetadata getMetadata(ProceedingJoinPoint joinPoint) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
-        return method.getAnnotation(UserActivityLogging.class);
+        MethodMetadata metadata = metadataCache.get(method);
+        if (metadata == null) {
+            metadata = metadataCache.computeIfAbsent(method, m -> MethodMetadata.of(signature));
+        }
+        return metadata;
     }
 
     private HttpServletRequest getCurrentRequest() {
-        try {
-            ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
-            return attrs.getRequest();
-        } catch (Exception e) {
-            return null;
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs instanceof ServletRequestAttributes servletAttrs) {
+            return servletAttrs.getRequest();
         }
+        return null;
     }
 
     private String getClientIpAddr(HttpServletRequest request) {
@@ -258,12 +248,11 @@ public class UserActivityLoggingAspect {
         return ip;
     }
 
-    private String determinePlatform(HttpServletRequest request) {
-        String ua = request.getHeader("User-Agent");
+    private String determinePlatform(String ua) {
         return ua != null && ua.toLowerCase().contains("mobile") ? "MOBILE" : "PC";
     }
 
-    private boolean isSensitiveParam(String name) {
+    private static boolean isSensitiveParam(String name) {
         String n = name.toLowerCase();
         return n.contains("password") || n.contains("token") || n.contains("secret") || n.contains("key");
     }
@@ -283,4 +272,151 @@ public class UserActivityLoggingAspect {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 메서드별 고정 정보 (최초 호출 시 1회 계산)
+     */
+    private static final class MethodMetadata {
+        private final UserActivityLogging annotation;
+        private final String methodName;
+        private final String className;
+        private final int[] capturedIndices; // 민감 파라미터 제외
+        private final String[] capturedNames;
+        private final int userIdParamIndex; // 'userId' 파라미터 위치 (-1: 없음)
+
+        private MethodMetadata(UserActivityLogging annotation, String methodName, String className,
+                int[] capturedIndices, String[] capturedNames, int userIdParamIndex) {
+            this.annotation = annotation;
+            this.methodName = methodName;
+            this.className = className;
+            this.capturedIndices = capturedIndices;
+            this.capturedNames = capturedNames;
+            this.userIdParamIndex = userIdParamIndex;
+        }
+
+        private static MethodMetadata of(MethodSignature signature) {
+            Method method = signature.getMethod();
+            String[] paramNames = signature.getParameterNames();
+
+            List<Integer> indices = new ArrayList<>();
+            int userIdIndex = -1;
+            if (paramNames != null) {
+                for (int i = 0; i < paramNames.length; i++) {
+                    if (isSensitiveParam(paramNames[i])) {
+                        continue;
+                    }
+                    indices.add(i);
+                    if ("userId".equals(paramNames[i])) {
+                        userIdIndex = i;
+                    }
+                }
+            }
+
+            int[] capturedIndices = new int[indices.size()];
+            String[] capturedNames = new String[indices.size()];
+            for (int i = 0; i < capturedIndices.length; i++) {
+                capturedIndices[i] = indices.get(i);
+                capturedNames[i] = paramNames[capturedIndices[i]];
+            }
+
+            return new MethodMetadata(
+                    method.getAnnotation(UserActivityLogging.class),
+                    method.getName(),
+                    signature.getDeclaringType().getSimpleName(),
+                    capturedIndices,
+                    capturedNames,
+                    userIdIndex);
+        }
+    }
+
+    /**
+     * 요청 단위 컨텍스트 (HashMap 대신 필드)
+     */
+    private static final class RequestContext {
+        private String ipAddr;
+        private String userAgent;
+        private String platform;
+        private String lang;
+        private Map<String, Object> requestParams;
+        private Object userIdParam;
+    }
+
+    private static final class ResultIds {
+        private static final ResultIds EMPTY = new ResultIds(null, null, null);
+
+        private final Object userId;
+        private final Object regionId;
+        private final Object refId;
+
+        private ResultIds(Object userId, Object regionId, Object refId) {
+            this.userId = userId;
+            this.regionId = regionId;
+            this.refId = refId;
+        }
+    }
+
+    /**
+     * 클래스별 ID getter MethodHandle 캐시
+     */
+    private static final ClassValue<ResultAccessor> RESULT_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ResultAccessor computeValue(Class<?> type) {
+            return new ResultAccessor(type);
+        }
+    };
+
+    private static final class ResultAccessor {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final MethodHandle getData; // ApiResponse 래퍼만
+        private final MethodHandle getUserId;
+        private final MethodHandle getRegionId;
+        private final MethodHandle getId;
+        private final MethodHandle getRefId;
+
+        private ResultAccessor(Class<?> type) {
+            this.getData = type.getSimpleName().equals("ApiResponse") ? findGetter(type, "getData") : null;
+            this.getUserId = findGetter(type, "getUserId");
+            this.getRegionId = findGetter(type, "getRegionId");
+            this.getId = findGetter(type, "getId");
+            this.getRefId = findGetter(type, "getRefId");
+        }
+
+        private ResultIds extractIds(Object data) {
+            Object userId = invoke(getUserId, data);
+            Object regionId = invoke(getRegionId, data);
+            // getRefId 값이 있으면 getId보다 우선
+            Object refId = invoke(getRefId, data);
+            if (refId == null) {
+                refId = invoke(getId, data);
+            }
+            if (userId == null && regionId == null && refId == null) {
+                return ResultIds.EMPTY;
+            }
+            return new ResultIds(userId, regionId, refId);
+        }
+
+        private static Object invoke(MethodHandle handle, Object target) {
+            if (handle == null) {
+                return null;
+            }
+            try {
+                return handle.invokeExact(target);
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle findGetter(Class<?> type, String name) {
+            try {
+                Method method = type.getMethod(name);
+                if (method.getParameterCount() != 0) {
+                    return null;
+                }
+                return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+            } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+                return null;
+            }
+        }
+    }
+}
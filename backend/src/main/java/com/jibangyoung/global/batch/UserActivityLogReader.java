@@ -3,7 +3,11 @@ package com.jibangyoung.global.batch;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.stereotype.Component;
 
@@ -14,21 +18,49 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 📖 Redis에서 로그 읽기 (수정된 버전)
+ * 📖 Redis에서 로그 읽기
+ * - PIPELINED(기본): Lua(LRANGE+LTRIM)로 ID 일괄 추출 + MGET 일괄 조회 → 청크당 2 round trip
+ * - LEGACY: 기존 rightPop 반복 + 개별 GET
+ * - 잡 파라미터: readerMode, readerFetchSize (StepExecutionListener로 스텝 시작 시 반영)
+ * - 멀티스레드 스텝에서도 안전하도록 read()는 동기화
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class UserActivityLogReader implements ItemReader<UserActivityLog> {
+public class UserActivityLogReader implements ItemReader<UserActivityLog>, StepExecutionListener {
+
+    public static final String PARAM_READER_MODE = "readerMode";
+    public static final String PARAM_FETCH_SIZE = "readerFetchSize";
+
+    public static final String MODE_PIPELINED = "PIPELINED";
+    public static final String MODE_LEGACY = "LEGACY";
+
+    private static final int DEFAULT_FETCH_SIZE = 50;
 
     private final UserActivityLogRedisRepository redisRepository;
     private final Queue<UserActivityLog> logQueue = new ConcurrentLinkedQueue<>();
-    private static final int BATCH_SIZE = 50; // 배치 사이즈 줄임
-    private boolean endOfData = false;
-    private int readCount = 0;
+    private final AtomicLong readCount = new AtomicLong();
+
+    private volatile boolean endOfData = false;
+    private volatile int fetchSize = DEFAULT_FETCH_SIZE;
+    private volatile boolean pipelined = true;
 
     @Override
-    public UserActivityLog read() throws Exception {
+    public void beforeStep(StepExecution stepExecution) {
+        JobParameters params = stepExecution.getJobParameters();
+        Long requestedFetchSize = params.getLong(PARAM_FETCH_SIZE);
+        String mode = params.getString(PARAM_READER_MODE);
+
+        reset();
+        fetchSize = (requestedFetchSize != null && requestedFetchSize > 0)
+                ? requestedFetchSize.intValue()
+                : DEFAULT_FETCH_SIZE;
+        pipelined = !MODE_LEGACY.equalsIgnoreCase(mode);
+        log.info("📖 Reader 설정: mode={}, fetchSize={}", pipelined ? MODE_PIPELINED : MODE_LEGACY, fetchSize);
+    }
+
+    @Override
+    public synchronized UserActivityLog read() throws Exception {
         // 큐가 비어있고 더 데이터가 있을 수 있으면 로드
         if (logQueue.isEmpty() && !endOfData) {
             loadLogsFromRedis();
@@ -37,21 +69,24 @@ public class UserActivityLogReader implements ItemReader<UserActivityLog> {
         UserActivityLog activityLog = logQueue.poll();
 
         if (activityLog != null) {
-            readCount++;
-            log.info("📖 로그 읽기 [{}]: logId={}, actionType={}, userId={}",
-                    readCount, activityLog.getLogId(), activityLog.getActionType(), activityLog.getUserId());
+            long count = readCount.incrementAndGet();
+            log.debug("📖 로그 읽기 [{}]: logId={}, actionType={}, userId={}",
+                    count, activityLog.getLogId(), activityLog.getActionType(), activityLog.getUserId());
         } else {
-            log.info("📖 Reader 완료: 총 {}개 로그 읽음", readCount);
+            log.info("📖 Reader 완료: 총 {}개 로그 읽음", readCount.get());
         }
 
         return activityLog;
     }
 
     private void loadLogsFromRedis() {
+        int batchSize = fetchSize;
         try {
-            log.info("📖 Redis에서 로그 로드 시작... (배치크기: {})", BATCH_SIZE);
+            log.debug("📖 Redis에서 로그 로드 시작... (배치크기: {})", batchSize);
 
-            List<String> logIds = redisRepository.getLogsForBatch(BATCH_SIZE);
+            List<String> logIds = pipelined
+                    ? redisRepository.drainBatchIds(batchSize)
+                    : redisRepository.getLogsForBatch(batchSize);
 
             if (logIds.isEmpty()) {
                 log.info("📖 Redis에서 로드할 로그가 없음 - 데이터 종료");
@@ -59,26 +94,12 @@ public class UserActivityLogReader implements ItemReader<UserActivityLog> {
                 return;
             }
 
-            int loadedCount = 0;
-
-            for (String logId : logIds) {
-                try {
-                    UserActivityLog activityLog = redisRepository.getLog(logId);
-                    if (activityLog != null) {
-                        logQueue.offer(activityLog);
-                        loadedCount++;
-                    } else {
-                        log.warn("📖 로그 로드 실패 (null): logId={}", logId);
-                    }
-                } catch (Exception e) {
-                    log.error("📖 로그 로드 오류: logId={}", logId, e);
-                }
-            }
+            int loadedCount = pipelined ? loadPipelined(logIds) : loadOneByOne(logIds);
 
-            log.info("📖 Redis 로그 로드 완료: 로드={}개, 큐크기={}", loadedCount, logQueue.size());
+            log.info("📖 Redis 로그 로드 완료: ID={}개, 로드={}개, 큐크기={}", logIds.size(), loadedCount, logQueue.size());
 
-            // 로드된 데이터가 배치 크기보다 적으면 더 이상 데이터가 없을 가능성
-            if (loadedCount < BATCH_SIZE) {
+            // 꺼낸 ID가 배치 크기보다 적으면 큐가 비었음
+            if (logIds.size() < batchSize) {
                 endOfData = true;
             }
 
@@ -88,13 +109,40 @@ public class UserActivityLogReader implements ItemReader<UserActivityLog> {
         }
     }
 
+    private int loadPipelined(List<String> logIds) {
+        List<UserActivityLog> logs = redisRepository.getLogs(logIds);
+        logQueue.addAll(logs);
+        if (logs.size() < logIds.size()) {
+            log.warn("📖 로그 로드 누락: 요청={}, 로드={}", logIds.size(), logs.size());
+        }
+        return logs.size();
+    }
+
+    private int loadOneByOne(List<String> logIds) {
+        int loadedCount = 0;
+        for (String logId : logIds) {
+            try {
+                UserActivityLog activityLog = redisRepository.getLog(logId);
+                if (activityLog != null) {
+                    logQueue.offer(activityLog);
+                    loadedCount++;
+                } else {
+                    log.warn("📖 로그 로드 실패 (null): logId={}", logId);
+                }
+            } catch (Exception e) {
+                log.error("📖 로그 로드 오류: logId={}", logId, e);
+            }
+        }
+        return loadedCount;
+    }
+
     /**
      * Reader 상태 리셋
      */
-    public void reset() {
+    public synchronized void reset() {
         logQueue.clear();
         endOfData = false;
-        readCount = 0;
+        readCount.set(0);
         log.info("📖 Reader 상태 리셋 완료");
     }
-}
\ No newline at end of file
+}
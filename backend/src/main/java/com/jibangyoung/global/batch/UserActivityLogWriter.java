@@ -2,13 +2,18 @@ package com.jibangyoung.global.batch;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -22,6 +27,8 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 완전 수정된 DB 저장 Writer (수정: userId null 허용)
+ * - LEAN(기본): 청크당 다중 행 INSERT 1회 + Redis 파이프라인 정리 1회, 검증 쿼리 대신 누적 카운터
+ * - VERBOSE: 기존 방식 (연결/저장 검증 쿼리 + 로그별 삭제)
  */
 @Component
 @RequiredArgsConstructor
@@ -31,6 +38,9 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
     private final JdbcTemplate jdbcTemplate;
     private final UserActivityLogRedisRepository redisRepository;
 
+    public static final String MODE_LEAN = "LEAN";
+    public static final String MODE_VERBOSE = "VERBOSE";
+
     private static final String INSERT_SQL = """
             INSERT INTO user_activity_event (
                 user_id, region_id, action_type, ref_id, parent_ref_id,
@@ -39,6 +49,27 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
             ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
 
+    // 다중 행 INSERT용 (컬럼 16개)
+    private static final String MULTI_ROW_INSERT_PREFIX = """
+            INSERT INTO user_activity_event (
+                user_id, region_id, action_type, ref_id, parent_ref_id,
+                action_value, score_delta, meta, ip_addr, user_agent,
+                platform, lang, status, memo, created_at, updated_at
+            ) VALUES """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 16;
+    private static final int MAX_ROWS_PER_INSERT = 500;
+
+    @Value("${batch.user-activity-log.writer-mode:" + MODE_LEAN + "}")
+    private String writerMode;
+
+    // 누적 카운터 (검증 쿼리 대체)
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final AtomicLong failedChunkCount = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+
     @Override
     @Transactional
     public void write(Chunk<? extends UserActivityLog> chunk) throws Exception {
@@ -49,6 +80,83 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
             return;
         }
 
+        // 두 모드 모두 같은 구간을 측정 (itemsPerSecond 비교용)
+        long startTime = System.nanoTime();
+        try {
+            if (MODE_VERBOSE.equalsIgnoreCase(writerMode)) {
+                writeVerbose(items);
+            } else {
+                writeLean(items);
+            }
+        } finally {
+            writeNanos.addAndGet(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * LEAN 모드: 다중 행 INSERT + Redis 일괄 정리
+     */
+    private void writeLean(List<? extends UserActivityLog> items) {
+        long startTime = System.nanoTime();
+        try {
+            List<UserActivityLog> validItems = preprocessItems(items);
+            skippedCount.addAndGet(items.size() - validItems.size());
+            if (validItems.isEmpty()) {
+                return;
+            }
+
+            for (int from = 0; from < validItems.size(); from += MAX_ROWS_PER_INSERT) {
+                List<UserActivityLog> rows = validItems.subList(from,
+                        Math.min(from + MAX_ROWS_PER_INSERT, validItems.size()));
+                jdbcTemplate.update(multiRowInsertSql(rows.size()), ps -> {
+                    for (int i = 0; i < rows.size(); i++) {
+                        setParametersSafely(ps, rows.get(i), i, i * COLUMN_COUNT);
+                    }
+                });
+            }
+
+            // 다중 행 INSERT는 전부 성공하거나 예외 → 전체를 Redis에서 정리
+            List<String> logIds = new ArrayList<>(validItems.size());
+            for (UserActivityLog item : validItems) {
+                logIds.add(item.getLogId());
+            }
+            redisRepository.deleteLogs(logIds);
+
+            writtenCount.addAndGet(validItems.size());
+            chunkCount.incrementAndGet();
+            log.debug("💾 LEAN 저장 완료: count={}, elapsed={}ms",
+                    validItems.size(), (System.nanoTime() - startTime) / 1_000_000);
+        } catch (RuntimeException e) {
+            failedChunkCount.incrementAndGet();
+            log.error("💾 LEAN 저장 실패: count={}, error={}", items.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    private String multiRowInsertSql(int rowCount) {
+        return MULTI_ROW_INSERT_PREFIX + String.join(", ", Collections.nCopies(rowCount, ROW_PLACEHOLDER));
+    }
+
+    /**
+     * 누적 처리 통계 (모니터링용)
+     */
+    public Map<String, Object> getStatistics() {
+        long written = writtenCount.get();
+        long nanos = writeNanos.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", MODE_VERBOSE.equalsIgnoreCase(writerMode) ? MODE_VERBOSE : MODE_LEAN);
+        stats.put("written", written);
+        stats.put("skipped", skippedCount.get());
+        stats.put("chunks", chunkCount.get());
+        stats.put("failedChunks", failedChunkCount.get());
+        stats.put("itemsPerSecond", nanos > 0 ? written * 1_000_000_000L / nanos : 0);
+        return stats;
+    }
+
+    /**
+     * VERBOSE 모드: 기존 방식 (진단용)
+     */
+    private void writeVerbose(List<? extends UserActivityLog> items) throws Exception {
         log.info("💾 DB 저장 시작: count={}", items.size());
 
         // 저장할 데이터 상세 로그
@@ -66,6 +174,7 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
 
             // 데이터 전처리 및 검증 (수정: userId null 허용)
             List<UserActivityLog> validItems = preprocessItems(items);
+            skippedCount.addAndGet(items.size() - validItems.size());
 
             if (validItems.isEmpty()) {
                 log.warn("💾 유효한 데이터가 없어서 저장을 스킵합니다.");
@@ -78,7 +187,7 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
                 @Override
                 public void setValues(PreparedStatement ps, int i) throws SQLException {
                     UserActivityLog activityLog = validItems.get(i);
-                    setParametersSafely(ps, activityLog, i);
+                    setParametersSafely(ps, activityLog, i, 0);
                 }
 
                 @Override
@@ -98,7 +207,8 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
                 UserActivityLog currentLog = validItems.get(i);
                 int result = results[i];
 
-                if (result > 0) {
+                // rewriteBatchedStatements 사용 시 SUCCESS_NO_INFO(-2) 반환
+                if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
                     successLogIds.add(currentLog.getLogId());
                 } else {
                     failedLogIds.add(currentLog.getLogId());
@@ -108,6 +218,8 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
 
             log.info("💾 DB 저장 결과: total={}, success={}, failed={}",
                     validItems.size(), successLogIds.size(), failedLogIds.size());
+            writtenCount.addAndGet(successLogIds.size());
+            chunkCount.incrementAndGet();
 
             // 실제 DB 저장 확인
             verifyDatabaseSave(validItems.size());
@@ -123,6 +235,7 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
             }
 
         } catch (Exception e) {
+            failedChunkCount.incrementAndGet();
             log.error("💾 배치 저장 중 치명적 오류: count={}", items.size(), e);
 
             // 실패한 로그 상세 정보
@@ -188,11 +301,12 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
     /**
      * PreparedStatement 파라미터 안전하게 설정 (수정: userId null 허용)
      */
-    private void setParametersSafely(PreparedStatement ps, UserActivityLog activityLog, int index) throws SQLException {
+    private void setParametersSafely(PreparedStatement ps, UserActivityLog activityLog, int index, int offset)
+            throws SQLException {
         try {
             // 1. user_id (NOT NULL) - null이면 0으로 설정
             Long userId = activityLog.getUserIdForDb(); // null이면 0L 반환
-            ps.setLong(1, userId);
+            ps.setLong(offset + 1, userId);
 
             // 2. region_id (NOT NULL) - Long을 Integer로 안전하게 변환
             Integer regionId = null;
@@ -208,27 +322,27 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
             } else {
                 regionId = 0; // 기본값
             }
-            ps.setInt(2, regionId);
+            ps.setInt(offset + 2, regionId);
 
             // 3. action_type (NOT NULL)
             String actionType = activityLog.getActionType();
             if (actionType == null || actionType.trim().isEmpty()) {
                 actionType = "UNKNOWN";
             }
-            ps.setString(3, actionType);
+            ps.setString(offset + 3, actionType);
 
             // 4. ref_id (nullable)
             if (activityLog.getRefId() != null) {
-                ps.setLong(4, activityLog.getRefId());
+                ps.setLong(offset + 4, activityLog.getRefId());
             } else {
-                ps.setNull(4, java.sql.Types.BIGINT);
+                ps.setNull(offset + 4, java.sql.Types.BIGINT);
             }
 
             // 5. parent_ref_id (nullable)
             if (activityLog.getParentRefId() != null) {
-                ps.setLong(5, activityLog.getParentRefId());
+                ps.setLong(offset + 5, activityLog.getParentRefId());
             } else {
-                ps.setNull(5, java.sql.Types.BIGINT);
+                ps.setNull(offset + 5, java.sql.Types.BIGINT);
             }
 
             // 6. action_value (nullable) - Object를 안전하게 Integer로 변환
@@ -250,14 +364,14 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
             }
 
             if (actionValue != null) {
-                ps.setInt(6, actionValue);
+                ps.setInt(offset + 6, actionValue);
             } else {
-                ps.setNull(6, java.sql.Types.INTEGER);
+                ps.setNull(offset + 6, java.sql.Types.INTEGER);
             }
 
             // 7. score_delta (기본값 0)
             int scoreDelta = activityLog.getScoreDelta() != null ? activityLog.getScoreDelta() : 0;
-            ps.setInt(7, scoreDelta);
+            ps.setInt(offset + 7, scoreDelta);
 
             // 8. meta (nullable, JSON)
             String meta = activityLog.getMeta();
@@ -265,33 +379,33 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
                 meta = meta.substring(0, 4000);
                 log.warn("💾 meta 필드 잘림: logId={}", activityLog.getLogId());
             }
-            ps.setString(8, meta);
+            ps.setString(offset + 8, meta);
 
             // 9. ip_addr (nullable)
-            ps.setString(9, activityLog.getIpAddr());
+            ps.setString(offset + 9, activityLog.getIpAddr());
 
             // 10. user_agent (nullable, 길이 제한)
             String userAgent = activityLog.getUserAgent();
             if (userAgent != null && userAgent.length() > 1000) {
                 userAgent = userAgent.substring(0, 1000);
             }
-            ps.setString(10, userAgent);
+            ps.setString(offset + 10, userAgent);
 
             // 11. platform (nullable)
-            ps.setString(11, activityLog.getPlatform());
+            ps.setString(offset + 11, activityLog.getPlatform());
 
             // 12. lang (nullable)
-            ps.setString(12, activityLog.getLang());
+            ps.setString(offset + 12, activityLog.getLang());
 
             // 13. status (기본값 'ACTIVE')
             String status = activityLog.getStatus();
             if (status == null || status.trim().isEmpty()) {
                 status = "ACTIVE";
             }
-            ps.setString(13, status);
+            ps.setString(offset + 13, status);
 
             // 14. memo (nullable)
-            ps.setString(14, activityLog.getMemo());
+            ps.setString(offset + 14, activityLog.getMemo());
 
             // 15, 16. created_at, updated_at (NOT NULL)
             Timestamp now = new Timestamp(System.currentTimeMillis());
@@ -300,8 +414,8 @@ public class UserActivityLogWriter implements ItemWriter<UserActivityLog> {
             Timestamp updatedAt = activityLog.getUpdatedAt() != null ? Timestamp.valueOf(activityLog.getUpdatedAt())
                     : now;
 
-            ps.setTimestamp(15, createdAt);
-            ps.setTimestamp(16, updatedAt);
+            ps.setTimestamp(offset + 15, createdAt);
+            ps.setTimestamp(offset + 16, updatedAt);
 
             log.debug("💾 PreparedStatement 설정 완료 [{}]: logId={}, userId={}, actionType={}",
                     index, activityLog.getLogId(), userId, actionType);
@@ -0,0 +1,377 @@
+package com.jibangyoung.global.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🗄️ 2단계 캐시 (L1 인프로세스 Guava + L2 Redis)
+ * - 키별 single-flight: 같은 키의 동시 미스는 한 번만 로드, 나머지는 결과 대기
+ * - refresh-ahead: TTL의 refreshAheadRatio 지점을 지나면 응답은 그대로 주고 백그라운드 갱신
+ * - stale-while-revalidate: 로드 실패 시 만료된 값(staleTtl 이내)을 대신 반환
+ * - L2 값은 {value, loadedAt} 봉투로 JSON 저장, JavaType으로 역직렬화 (Map 변환 불필요)
+ * - 생성은 TwoLevelCacheFactory.builder(...) 사용
+ */
+@Slf4j
+public final class TwoLevelCache<V> {
+
+    /**
+     * L1/L2 공통 저장 단위 (loadedAt 기준으로 신선도 판단 → 노드 간 같은 기준)
+     */
+    public record CacheEntry<T>(T value, long loadedAt) {
+    }
+
+    private final String name;
+    private final JavaType entryType;
+    private final Duration ttl;
+    private final Duration staleTtl;
+    private final double refreshAheadRatio;
+    private final Duration loadWaitTimeout;
+    private final boolean localOnly;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor refreshExecutor;
+
+    private final Cache<String, CacheEntry<V>> l1;
+    private final ConcurrentHashMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // 통계
+    private final AtomicLong l1HitCount = new AtomicLong();
+    private final AtomicLong l2HitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong loadFailureCount = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong staleServedCount = new AtomicLong();
+    private final AtomicLong refreshAheadCount = new AtomicLong();
+    private final AtomicLong l2ErrorCount = new AtomicLong();
+
+    private TwoLevelCache(Builder<V> builder) {
+        this.name = builder.name;
+        this.entryType = builder.objectMapper.getTypeFactory()
+                .constructParametricType(CacheEntry.class, builder.valueType);
+        this.ttl = builder.ttl;
+        this.staleTtl = builder.staleTtl != null ? builder.staleTtl : builder.ttl;
+        this.refreshAheadRatio = builder.refreshAheadRatio;
+        this.loadWaitTimeout = builder.loadWaitTimeout;
+        this.localOnly = builder.localOnly;
+        this.redisTemplate = builder.redisTemplate;
+        this.objectMapper = builder.objectMapper;
+        this.refreshExecutor = builder.refreshExecutor;
+        this.l1 = CacheBuilder.newBuilder()
+                .maximumSize(builder.l1MaxSize)
+                .expireAfterWrite(ttl.plus(staleTtl).toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 단일 키 캐시용 (Redis 키 = 캐시 이름)
+     */
+    public V get(Supplier<V> loader) {
+        return get("", loader);
+    }
+
+    /**
+     * L1 → L2 → 로더 순으로 조회
+     * - 로더 예외는 만료된 값이 없을 때만 전파
+     * - 로더가 null을 반환하면 캐시하지 않음
+     */
+    public V get(String key, Supplier<V> loader) {
+        long now = System.currentTimeMillis();
+        CacheEntry<V> entry = l1.getIfPresent(key);
+        if (entry != null && isFresh(entry, now)) {
+            l1HitCount.incrementAndGet();
+            refreshAheadIfDue(key, entry, loader, now);
+            return entry.value();
+        }
+
+        CacheEntry<V> remote = readL2(key);
+        if (remote != null && (entry == null || remote.loadedAt() > entry.loadedAt())) {
+            l1.put(key, remote);
+            entry = remote;
+            if (isFresh(entry, now)) {
+                l2HitCount.incrementAndGet();
+                refreshAheadIfDue(key, entry, loader, now);
+                return entry.value();
+            }
+        }
+
+        missCount.incrementAndGet();
+        try {
+            return loadSingleFlight(key, loader);
+        } catch (RuntimeException e) {
+            if (entry != null) {
+                staleServedCount.incrementAndGet();
+                log.warn("🗄️ [{}] 로드 실패, 만료된 값 반환: key={}, error={}", name, key, e.getMessage());
+                return entry.value();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 신선도와 관계없이 즉시 다시 로드해 L1/L2에 저장 (스케줄러 선갱신용)
+     */
+    public V refresh(String key, Supplier<V> loader) {
+        return loadSingleFlight(key, loader);
+    }
+
+    public void put(String key, V value) {
+        store(key, new CacheEntry<>(value, System.currentTimeMillis()));
+    }
+
+    public void evict(String key) {
+        l1.invalidate(key);
+        if (!localOnly) {
+            try {
+                redisTemplate.delete(redisKey(key));
+            } catch (Exception e) {
+                l2ErrorCount.incrementAndGet();
+                log.warn("🗄️ [{}] L2 삭제 실패: key={}, error={}", name, key, e.getMessage());
+            }
+        }
+    }
+
+    // ===== 로드 =====
+
+    private V loadSingleFlight(String key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(key, existing);
+        }
+        try {
+            V value = loadAndStore(key, loader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(String key, CompletableFuture<V> future) {
+        try {
+            return future.get(loadWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("캐시 로드 대기 중단: " + name + ":" + key, e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("캐시 로드 대기 시간 초과: " + name + ":" + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("캐시 로드 실패: " + name + ":" + key, cause);
+        }
+    }
+
+    private V loadAndStore(String key, Supplier<V> loader) {
+        long start = System.nanoTime();
+        try {
+            V value = loader.get();
+            loadCount.incrementAndGet();
+            if (value != null) {
+                store(key, new CacheEntry<>(value, System.currentTimeMillis()));
+            }
+            return value;
+        } catch (RuntimeException e) {
+            loadFailureCount.incrementAndGet();
+            throw e;
+        } finally {
+            loadNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private void refreshAheadIfDue(String key, CacheEntry<V> entry, Supplier<V> loader, long now) {
+        if (refreshAheadRatio <= 0 || refreshAheadRatio >= 1
+                || now - entry.loadedAt() < (long) (ttl.toMillis() * refreshAheadRatio)) {
+            return;
+        }
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return; // 이미 로드 중
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    // 다른 노드가 먼저 갱신했으면 L2 값을 채택
+                    CacheEntry<V> remote = readL2(key);
+                    if (remote != null && remote.loadedAt() > entry.loadedAt()) {
+                        l1.put(key, remote);
+                        mine.complete(remote.value());
+                        return;
+                    }
+                    refreshAheadCount.incrementAndGet();
+                    mine.complete(loadAndStore(key, loader));
+                } catch (Exception e) {
+                    mine.completeExceptionally(e);
+                    log.warn("🗄️ [{}] 선갱신 실패 (기존 값 유지): key={}, error={}", name, key, e.getMessage());
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            log.debug("🗄️ [{}] 선갱신 작업 거부 (다음 요청에서 재시도): key={}", name, key);
+        }
+    }
+
+    // ===== 저장소 =====
+
+    private boolean isFresh(CacheEntry<V> entry, long now) {
+        return now - entry.loadedAt() < ttl.toMillis();
+    }
+
+    private void store(String key, CacheEntry<V> entry) {
+        l1.put(key, entry);
+        if (localOnly) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), objectMapper.writeValueAsString(entry), ttl.plus(staleTtl));
+        } catch (Exception e) {
+            l2ErrorCount.incrementAndGet();
+            log.warn("🗄️ [{}] L2 저장 실패: key={}, error={}", name, key, e.getMessage());
+        }
+    }
+
+    private CacheEntry<V> readL2(String key) {
+        if (localOnly) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(key));
+            if (json == null) {
+                return null;
+            }
+            CacheEntry<V> entry = objectMapper.readValue(json, entryType);
+            return entry.value() != null ? entry : null;
+        } catch (Exception e) {
+            // Redis 장애 or 이전 형식 값 → 미스로 처리
+            l2ErrorCount.incrementAndGet();
+            log.debug("🗄️ [{}] L2 조회 실패: key={}, error={}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private String redisKey(String key) {
+        return key.isEmpty() ? name : name + ":" + key;
+    }
+
+    public Map<String, Object> getStatistics() {
+        long l1Hits = l1HitCount.get();
+        long l2Hits = l2HitCount.get();
+        long misses = missCount.get();
+        long loads = loadCount.get() + loadFailureCount.get();
+        long requests = l1Hits + l2Hits + misses;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("l1Hits", l1Hits);
+        stats.put("l2Hits", l2Hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", requests == 0 ? 0.0 : (double) (l1Hits + l2Hits) / requests);
+        stats.put("loads", loadCount.get());
+        stats.put("loadFailures", loadFailureCount.get());
+        stats.put("avgLoadMs", loads == 0 ? 0.0 : loadNanos.get() / 1_000_000.0 / loads);
+        stats.put("staleServed", staleServedCount.get());
+        stats.put("refreshAhead", refreshAheadCount.get());
+        stats.put("l2Errors", l2ErrorCount.get());
+        stats.put("l1Size", l1.size());
+        return stats;
+    }
+
+    // ===== 빌더 =====
+
+    public static final class Builder<V> {
+        private final String name;
+        private final JavaType valueType;
+        private final StringRedisTemplate redisTemplate;
+        private final ObjectMapper objectMapper;
+        private final Executor refreshExecutor;
+        private final Consumer<TwoLevelCache<?>> registrar;
+
+        private Duration ttl = Duration.ofMinutes(10);
+        private Duration staleTtl;
+        private long l1MaxSize;
+        private double refreshAheadRatio;
+        private Duration loadWaitTimeout;
+        private boolean localOnly = false;
+
+        Builder(String name, JavaType valueType, StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                Executor refreshExecutor, Consumer<TwoLevelCache<?>> registrar,
+                long l1MaxSize, double refreshAheadRatio, Duration loadWaitTimeout) {
+            this.name = name;
+            this.valueType = valueType;
+            this.redisTemplate = redisTemplate;
+            this.objectMapper = objectMapper;
+            this.refreshExecutor = refreshExecutor;
+            this.registrar = registrar;
+            this.l1MaxSize = l1MaxSize;
+            this.refreshAheadRatio = refreshAheadRatio;
+            this.loadWaitTimeout = loadWaitTimeout;
+        }
+
+        public Builder<V> ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        // 만료 후 장애 대비로 보관할 기간 (기본 ttl과 동일)
+        public Builder<V> staleTtl(Duration staleTtl) {
+            this.staleTtl = staleTtl;
+            return this;
+        }
+
+        public Builder<V> l1MaxSize(long l1MaxSize) {
+            this.l1MaxSize = l1MaxSize;
+            return this;
+        }
+
+        // 0 이하 or 1 이상이면 선갱신 사용 안 함
+        public Builder<V> refreshAheadRatio(double refreshAheadRatio) {
+            this.refreshAheadRatio = refreshAheadRatio;
+            return this;
+        }
+
+        // 원본이 이미 Redis인 경우 등 L2 없이 L1만 사용
+        public Builder<V> localOnly() {
+            this.localOnly = true;
+            return this;
+        }
+
+        public TwoLevelCache<V> build() {
+            TwoLevelCache<V> cache = new TwoLevelCache<>(this);
+            registrar.accept(cache);
+            return cache;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.jibangyoung.global.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 🗄️ TwoLevelCache 생성/등록
+ * - 서비스는 @PostConstruct 등에서 builder(name, type)로 캐시를 만들어 필드로 보관
+ * - 생성된 캐시는 이름별로 등록되어 getStatistics()로 한 번에 조회 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheFactory {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor cacheRefreshExecutor;
+
+    @Value("${cache.two-level.l1-max-size:1000}")
+    private long defaultL1MaxSize;
+
+    @Value("${cache.two-level.refresh-ahead-ratio:0.8}")
+    private double defaultRefreshAheadRatio;
+
+    @Value("${cache.two-level.load-wait-timeout-ms:5000}")
+    private long loadWaitTimeoutMs;
+
+    private final ConcurrentMap<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+
+    public <V> TwoLevelCache.Builder<V> builder(String name, TypeReference<V> valueType) {
+        return new TwoLevelCache.Builder<>(
+                name,
+                objectMapper.getTypeFactory().constructType(valueType),
+                stringRedisTemplate,
+                objectMapper,
+                cacheRefreshExecutor,
+                this::register,
+                defaultL1MaxSize,
+                defaultRefreshAheadRatio,
+                Duration.ofMillis(loadWaitTimeoutMs));
+    }
+
+    private void register(TwoLevelCache<?> cache) {
+        if (caches.putIfAbsent(cache.getName(), cache) != null) {
+            throw new IllegalStateException("이미 등록된 캐시 이름: " + cache.getName());
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.getStatistics()));
+        return stats;
+    }
+}
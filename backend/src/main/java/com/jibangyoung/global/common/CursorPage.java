@@ -0,0 +1,34 @@
+package com.jibangyoung.global.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 🔖 커서 기반 페이지 응답
+ * - content: 현재 페이지, nextCursor: 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+ * - totalElements: 캐시된 전체 건수 (추정치, 미제공 시 null)
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext, Long totalElements) {
+
+    // 요청 1회 최대 페이지 크기
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 size를 1 ~ MAX_SIZE 범위로 보정 (조회 전에 적용)
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size + 1건 조회 결과로 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size, Function<E, SeekCursor> cursorOf,
+            Function<List<E>, List<T>> mapper, Long totalElements) {
+        int pageSize = Math.max(1, size); // size=0이면 마지막 행 커서를 만들 수 없음
+        boolean hasNext = fetched.size() > pageSize;
+        List<E> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(mapper.apply(page), nextCursor, hasNext, totalElements);
+    }
+}
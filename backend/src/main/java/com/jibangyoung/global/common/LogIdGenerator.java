@@ -0,0 +1,36 @@
+package com.jibangyoung.global.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🆔 활동 로그 ID 생성기 — 시간순 정렬 가능, SecureRandom 미사용
+ * - 형식: {epochMillis 12hex}-{node 6hex}-{sequence 8hex} (고정 길이 29자)
+ * - node는 프로세스 기동 시 1회 난수, sequence는 프로세스 내 단조 증가
+ */
+public final class LogIdGenerator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final long NODE_ID = ThreadLocalRandom.current().nextLong(1L << 24);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private LogIdGenerator() {
+    }
+
+    public static String nextId() {
+        char[] buf = new char[29];
+        writeHex(buf, 0, System.currentTimeMillis(), 12);
+        buf[12] = '-';
+        writeHex(buf, 13, NODE_ID, 6);
+        buf[19] = '-';
+        writeHex(buf, 20, SEQUENCE.getAndIncrement(), 8);
+        return new String(buf);
+    }
+
+    private static void writeHex(char[] buf, int offset, long value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buf[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jibangyoung.global.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.jibangyoung.global.exception.BusinessException;
+import com.jibangyoung.global.exception.ErrorCode;
+
+/**
+ * 🔖 키셋(seek) 페이지네이션 커서 - (created_at, id) 내림차순 기준 마지막 행
+ * - 클라이언트에는 불투명한 Base64URL 문자열로 전달
+ * - createdAt이 없는 정렬(id 단독)은 createdAt = null
+ */
+public record SeekCursor(LocalDateTime createdAt, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * (created_at, id) 정렬 엔드포인트용 - createdAt이 없는 커서(id 단독 정렬에서 발급)는 거부
+     * (그대로 쓰면 조건이 빠져 첫 페이지부터 다시 조회됨)
+     *
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static SeekCursor decodeCreatedAtAndId(String cursor) {
+        SeekCursor decoded = decode(cursor);
+        if (decoded != null && decoded.createdAt() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return decoded;
+    }
+
+    /**
+     * id 단독 정렬 엔드포인트용 - createdAt이 있는 커서(다른 정렬에서 발급)는 거부
+     *
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static SeekCursor decodeIdOnly(String cursor) {
+        SeekCursor decoded = decode(cursor);
+        if (decoded != null && decoded.createdAt() != null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return decoded;
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static SeekCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            String createdAt = raw.substring(0, idx);
+            return new SeekCursor(
+                    createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
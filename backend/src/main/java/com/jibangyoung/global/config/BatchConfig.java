@@ -7,10 +7,12 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -33,6 +35,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BatchConfig {
 
+    public static final String PARAM_CHUNK_SIZE = "chunkSize";
+    private static final int DEFAULT_CHUNK_SIZE = 50;
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final UserActivityLogReader userActivityLogReader;
@@ -61,12 +66,16 @@ public class BatchConfig {
         return job;
     }
 
+    // 청크 크기는 잡 파라미터(chunkSize)로 조정 - 실행마다 스텝 생성 (@JobScope)
+    // Reader는 StepExecutionListener로 자동 등록되어 readerMode/readerFetchSize 파라미터를 반영
     @Bean
-    public Step userActivityLogStep() {
-        log.info("🔧 userActivityLogStep Bean 생성 중...");
+    @JobScope
+    public Step userActivityLogStep(@Value("#{jobParameters['" + PARAM_CHUNK_SIZE + "']}") Long chunkSize) {
+        int resolvedChunkSize = (chunkSize != null && chunkSize > 0) ? chunkSize.intValue() : DEFAULT_CHUNK_SIZE;
+        log.info("🔧 userActivityLogStep Bean 생성 중... (chunkSize={})", resolvedChunkSize);
 
         Step step = new StepBuilder("userActivityLogStep", jobRepository)
-                .<UserActivityLog, UserActivityLog>chunk(50, transactionManager) // 청크 사이즈 50
+                .<UserActivityLog, UserActivityLog>chunk(resolvedChunkSize, transactionManager)
                 .reader(userActivityLogReader)
                 .processor(userActivityLogProcessor)
                 .writer(userActivityLogWriter)
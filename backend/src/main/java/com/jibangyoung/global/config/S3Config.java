@@ -1,6 +1,9 @@
 package com.jibangyoung.global.config;
 
 import jakarta.annotation.PreDestroy;
+
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,7 +11,10 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
@@ -23,8 +29,13 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 로컬 S3 호환 서버(LocalStack, MinIO 등) 사용 시에만 지정 (비어 있으면 AWS 기본 엔드포인트)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     private S3Presigner presigner;
     private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
 
     // S3 Client
     @Bean
@@ -32,13 +43,32 @@ public class S3Config {
         AwsCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(
                 AwsBasicCredentials.create(accessKey, secretKey)
         );
-        this.s3Client = S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
-                .credentialsProvider(credentialsProvider)
-                .build();
+                .credentialsProvider(credentialsProvider);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        this.s3Client = builder.build();
         return this.s3Client;
     }
 
+    // 비동기 S3 Client (게시글 이미지 병렬 복사/삭제용)
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(accessKey, secretKey)
+        );
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        this.s3AsyncClient = builder.build();
+        return this.s3AsyncClient;
+    }
+
     // Presigned URL
     @Bean
     public S3Presigner s3Presigner() {
@@ -62,5 +92,8 @@ public class S3Config {
         if (this.s3Client != null) {
             this.s3Client.close();
         }
+        if (this.s3AsyncClient != null) {
+            this.s3AsyncClient.close();
+        }
     }
 }
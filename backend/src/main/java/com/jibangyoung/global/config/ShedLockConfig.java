@@ -0,0 +1,46 @@
+package com.jibangyoung.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
+
+/**
+ * 🔒 스케줄러 분산 락 설정 (ShedLock + JDBC)
+ * - 락 시각은 DB 시간 기준 (노드 간 시계 차이 무시)
+ * - shedlock 테이블은 JPA 엔티티가 아니므로 기동 시 없으면 생성
+ */
+@Configuration
+@Slf4j
+public class ShedLockConfig {
+
+    public static final String LOCK_TABLE = "shedlock";
+
+    @Value("${scheduler.lock.create-table:true}")
+    private boolean createTable;
+
+    @Bean
+    public LockProvider lockProvider(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        if (createTable) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + LOCK_TABLE + " ("
+                    + "name VARCHAR(64) NOT NULL, "
+                    + "lock_until TIMESTAMP(3) NOT NULL, "
+                    + "locked_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3), "
+                    + "locked_by VARCHAR(255) NOT NULL, "
+                    + "PRIMARY KEY (name))");
+            log.info("🔒 ShedLock 테이블 확인 완료: {}", LOCK_TABLE);
+        }
+        return new JdbcTemplateLockProvider(JdbcTemplateLockProvider.Configuration.builder()
+                .withJdbcTemplate(jdbcTemplate)
+                .withTableName(LOCK_TABLE)
+                .usingDbTime()
+                .build());
+    }
+}
@@ -0,0 +1,30 @@
+package com.jibangyoung.global.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jibangyoung.global.cache.TwoLevelCacheFactory;
+import com.jibangyoung.global.common.ApiResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class CacheMonitoringController {
+
+    private final TwoLevelCacheFactory cacheFactory;
+
+    // 이 노드의 TwoLevelCache별 통계 (L1/L2 적중률, 로드 시간, stale 응답, 미리 갱신 등)
+    @GetMapping("/status")
+    public ApiResponse<Map<String, Object>> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("caches", cacheFactory.getStatistics());
+        status.put("timestamp", System.currentTimeMillis());
+        return ApiResponse.success(status);
+    }
+}
@@ -8,9 +8,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.jibangyoung.global.batch.UserActivityLogWriter;
 import com.jibangyoung.global.common.ApiResponse;
 import com.jibangyoung.global.repository.UserActivityLogRedisRepository;
 import com.jibangyoung.global.scheduler.LogBatchScheduler;
+import com.jibangyoung.global.service.UserActivityLogBuffer;
 import com.jibangyoung.global.service.UserActivityLogService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,12 +25,16 @@ public class LogMonitoringController {
     private final UserActivityLogService logService;
     private final UserActivityLogRedisRepository redisRepository;
     private final LogBatchScheduler scheduler;
+    private final UserActivityLogWriter logWriter;
+    private final UserActivityLogBuffer logBuffer;
 
     @GetMapping("/queue-status")
     public ApiResponse<Map<String, Object>> getQueueStatus() {
         Map<String, Object> status = new HashMap<>();
         status.put("batchQueueSize", logService.getQueueSize());
         status.put("criticalLogCount", redisRepository.getCriticalLogs(100).size());
+        status.put("writerStats", logWriter.getStatistics());
+        status.put("bufferStats", logBuffer.getStatistics());
         status.put("timestamp", System.currentTimeMillis());
         return ApiResponse.success(status);
     }
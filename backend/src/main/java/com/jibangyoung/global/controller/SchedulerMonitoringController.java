@@ -0,0 +1,43 @@
+package com.jibangyoung.global.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jibangyoung.global.common.ApiResponse;
+import com.jibangyoung.global.entity.ScheduledJobRun;
+import com.jibangyoung.global.repository.ScheduledJobRunRepository;
+import com.jibangyoung.global.scheduler.LeaderLease;
+import com.jibangyoung.global.scheduler.ScheduledJobRunner;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/scheduler")
+@RequiredArgsConstructor
+public class SchedulerMonitoringController {
+
+    private final LeaderLease leaderLease;
+    private final ScheduledJobRunner jobRunner;
+    private final ScheduledJobRunRepository jobRunRepository;
+
+    // 이 노드의 리더 상태 + 작업별 통계
+    @GetMapping("/status")
+    public ApiResponse<Map<String, Object>> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("leader", leaderLease.getStatus());
+        status.put("jobs", jobRunner.getStatistics());
+        status.put("timestamp", System.currentTimeMillis());
+        return ApiResponse.success(status);
+    }
+
+    // 클러스터 전체 최근 실행 이력 50건
+    @GetMapping("/runs")
+    public ApiResponse<List<ScheduledJobRun>> getRecentRuns() {
+        return ApiResponse.success(jobRunRepository.findTop50ByOrderByStartedAtDesc());
+    }
+}
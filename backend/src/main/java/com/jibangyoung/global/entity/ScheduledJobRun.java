@@ -0,0 +1,71 @@
+package com.jibangyoung.global.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 🕒 스케줄 작업 실행 이력 (락을 얻어 실제로 실행한 경우만 기록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduled_job_run", indexes = {
+        @Index(name = "idx_job_run_name_started", columnList = "job_name, started_at"),
+        @Index(name = "idx_job_run_started", columnList = "started_at")
+})
+public class ScheduledJobRun {
+
+    public enum Status {
+        SUCCESS, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 64)
+    private String jobName;
+
+    @Column(name = "node_id", nullable = false, length = 255)
+    private String nodeId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false)
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private long durationMs;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Builder
+    public ScheduledJobRun(String jobName, String nodeId, LocalDateTime startedAt, LocalDateTime finishedAt,
+            long durationMs, Status status, String errorMessage) {
+        this.jobName = jobName;
+        this.nodeId = nodeId;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.durationMs = durationMs;
+        this.status = status.name();
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+    }
+}
@@ -0,0 +1,23 @@
+package com.jibangyoung.global.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jibangyoung.global.entity.ScheduledJobRun;
+
+public interface ScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, Long> {
+
+    List<ScheduledJobRun> findTop50ByOrderByStartedAtDesc();
+
+    // 보관 기간 지난 이력 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ScheduledJobRun r WHERE r.startedAt < :before")
+    int deleteByStartedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -4,6 +4,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,9 +13,16 @@ import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -44,6 +52,14 @@ public class UserActivityLogRedisRepository {
     private static final String PRIORITY_QUEUE_PREFIX = "user_activity_log:priority:";
     private static final long DEFAULT_TTL_HOURS = 24;
 
+    // 큐 꼬리(가장 오래된 로그)에서 n개를 꺼내고 한 번에 잘라냄: LRANGE + LTRIM 1 round trip
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_QUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('LRANGE', KEYS[1], -tonumber(ARGV[1]), -1) " +
+                    "if #ids > 0 then redis.call('LTRIM', KEYS[1], 0, -(#ids) - 1) end " +
+                    "return ids",
+            List.class);
+
     public void saveLog(UserActivityLog activityLog) {
         try {
             String key = LOG_KEY_PREFIX + activityLog.getLogId();
@@ -71,6 +87,53 @@ public class UserActivityLogRedisRepository {
         }
     }
 
+    /**
+     * 로그 일괄 저장 (그룹 커밋) - SET EX n회 + LPUSH 1회 + 우선순위별 ZADD 1회를 한 번의 파이프라인으로 전송
+     * - 큐 순서는 saveLog를 목록 순서대로 호출한 것과 동일
+     */
+    @SuppressWarnings("unchecked")
+    public void saveLogs(List<UserActivityLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        RedisSerializer<UserActivityLog> valueSerializer = (RedisSerializer<UserActivityLog>) userLogTemplate
+                .getValueSerializer();
+        Expiration ttl = Expiration.from(DEFAULT_TTL_HOURS, TimeUnit.HOURS);
+        long now = System.currentTimeMillis();
+
+        byte[][] logIds = new byte[logs.size()][];
+        Map<String, Set<Tuple>> priorityTuples = new HashMap<>();
+
+        try {
+            userLogTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < logs.size(); i++) {
+                    UserActivityLog activityLog = logs.get(i);
+                    byte[] logId = activityLog.getLogId().getBytes(StandardCharsets.UTF_8);
+                    logIds[i] = logId;
+
+                    byte[] key = (LOG_KEY_PREFIX + activityLog.getLogId()).getBytes(StandardCharsets.UTF_8);
+                    connection.stringCommands().set(key, valueSerializer.serialize(activityLog), ttl,
+                            RedisStringCommands.SetOption.upsert());
+
+                    String priority = activityLog.getPriority() != null ? activityLog.getPriority().toLowerCase()
+                            : "normal";
+                    priorityTuples.computeIfAbsent(priority, p -> new HashSet<>())
+                            .add(new DefaultTuple(logId, (double) now));
+                }
+
+                connection.listCommands().lPush(BATCH_QUEUE_KEY.getBytes(StandardCharsets.UTF_8), logIds);
+                priorityTuples.forEach((priority, tuples) -> connection.zSetCommands()
+                        .zAdd((PRIORITY_QUEUE_PREFIX + priority).getBytes(StandardCharsets.UTF_8), tuples));
+                return null;
+            });
+
+            log.debug("Redis 로그 일괄 저장 완료: count={}", logs.size());
+        } catch (Exception e) {
+            log.error("Redis 로그 일괄 저장 실패: count={}, error={}", logs.size(), e.getMessage(), e);
+            throw new RuntimeException("Redis batch save failed", e);
+        }
+    }
+
     public List<String> getLogsForBatch(int batchSize) {
         try {
             List<String> logIds = new ArrayList<>();
@@ -90,6 +153,62 @@ public class UserActivityLogRedisRepository {
         }
     }
 
+    /**
+     * 배치 큐에서 최대 batchSize개의 로그 ID를 원자적으로 꺼냄 (Lua 1회)
+     * - rightPop 반복과 같은 순서(오래된 로그 먼저)로 반환
+     */
+    public List<String> drainBatchIds(int batchSize) {
+        try {
+            @SuppressWarnings("unchecked")
+            List<String> tail = stringTemplate.execute(DRAIN_QUEUE_SCRIPT, List.of(BATCH_QUEUE_KEY),
+                    String.valueOf(batchSize));
+            if (tail == null || tail.isEmpty()) {
+                return new ArrayList<>();
+            }
+            List<String> logIds = new ArrayList<>(tail);
+            Collections.reverse(logIds);
+            log.debug("Redis 배치 로그 ID 일괄 조회: 요청={}, 조회={}", batchSize, logIds.size());
+            return logIds;
+        } catch (Exception e) {
+            log.error("Redis 배치 로그 ID 일괄 조회 실패: batchSize={}, error={}", batchSize, e.getMessage(), e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 로그 본문 일괄 조회 (MGET 1회, 전용 템플릿 직렬화기로 일괄 역직렬화)
+     * - MGET으로 읽지 못한 항목만 기존 getLog 폴백 경로 사용
+     */
+    public List<UserActivityLog> getLogs(List<String> logIds) {
+        if (logIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> keys = new ArrayList<>(logIds.size());
+        for (String logId : logIds) {
+            keys.add(LOG_KEY_PREFIX + logId);
+        }
+
+        List<UserActivityLog> values = null;
+        try {
+            values = userLogTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            // 레거시 포맷이 섞여 있으면 역직렬화 실패 가능 → 개별 조회로 폴백
+            log.warn("Redis 로그 일괄 조회 실패, 개별 조회로 전환: count={}, error={}", logIds.size(), e.getMessage());
+        }
+
+        List<UserActivityLog> logs = new ArrayList<>(logIds.size());
+        for (int i = 0; i < logIds.size(); i++) {
+            UserActivityLog activityLog = values != null ? values.get(i) : null;
+            if (activityLog == null) {
+                activityLog = getLog(logIds.get(i));
+            }
+            if (activityLog != null) {
+                logs.add(activityLog);
+            }
+        }
+        return logs;
+    }
+
     public UserActivityLog getLog(String logId) {
         String key = LOG_KEY_PREFIX + logId;
         try {
@@ -167,6 +286,36 @@ public class UserActivityLogRedisRepository {
         }
     }
 
+    /**
+     * 로그 일괄 삭제 - UNLINK 1회 + 우선순위 ZREM 3회를 한 번의 파이프라인으로 전송
+     */
+    public void deleteLogs(List<String> logIds) {
+        if (logIds.isEmpty()) {
+            return;
+        }
+        try {
+            byte[][] keys = new byte[logIds.size()][];
+            byte[][] members = new byte[logIds.size()][];
+            for (int i = 0; i < logIds.size(); i++) {
+                keys[i] = (LOG_KEY_PREFIX + logIds.get(i)).getBytes(StandardCharsets.UTF_8);
+                members[i] = logIds.get(i).getBytes(StandardCharsets.UTF_8);
+            }
+
+            stringTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().unlink(keys);
+                for (String priority : List.of("normal", "high", "critical")) {
+                    byte[] priorityKey = (PRIORITY_QUEUE_PREFIX + priority).getBytes(StandardCharsets.UTF_8);
+                    connection.zSetCommands().zRem(priorityKey, members);
+                }
+                return null;
+            });
+
+            log.debug("Redis 로그 일괄 삭제 완료: count={}", logIds.size());
+        } catch (Exception e) {
+            log.error("Redis 로그 일괄 삭제 실패: count={}, error={}", logIds.size(), e.getMessage());
+        }
+    }
+
     public long getBatchQueueSize() {
         try {
             Long size = stringTemplate.opsForList().size(BATCH_QUEUE_KEY);
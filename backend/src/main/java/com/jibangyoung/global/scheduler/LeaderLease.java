@@ -0,0 +1,120 @@
+package com.jibangyoung.global.scheduler;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+
+/**
+ * 👑 스케줄러 리더 선출 (ShedLock 임대)
+ * - 리더는 "scheduler-leader" 락을 leaseMs 동안 보유하고 renewMs 마다 연장
+ * - 팔로워는 같은 주기로 획득을 시도 → 리더가 죽으면 최대 leaseMs 후 다른 노드가 승계
+ * - LEADER 모드 작업은 리더 노드에서만 실행 (팔로워는 캐시만 제공)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderLease {
+
+    static final String LEADER_LOCK_NAME = "scheduler-leader";
+
+    private static final String NODE_ID = resolveNodeId();
+
+    private final LockProvider lockProvider;
+
+    @Value("${scheduler.leader.lease-ms:60000}")
+    private long leaseMs;
+
+    private volatile SimpleLock leaseLock;
+    private volatile Instant leaseExpiresAt = Instant.EPOCH;
+    private volatile Instant leaderSince;
+
+    public static String nodeId() {
+        return NODE_ID;
+    }
+
+    /**
+     * 리더 여부 - 연장에 실패한 채 임대가 끝났으면 false
+     */
+    public boolean isLeader() {
+        return leaseLock != null && Instant.now().isBefore(leaseExpiresAt);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${scheduler.leader.renew-ms:20000}")
+    public void renewOrAcquire() {
+        Duration lease = Duration.ofMillis(leaseMs);
+        try {
+            SimpleLock current = leaseLock;
+            if (current != null) {
+                Optional<SimpleLock> extended = current.extend(lease, Duration.ZERO);
+                if (extended.isPresent()) {
+                    leaseLock = extended.get();
+                    leaseExpiresAt = Instant.now().plus(lease);
+                    return;
+                }
+                log.warn("👑 리더 임대 연장 실패 → 리더 해제: node={}", NODE_ID);
+                leaseLock = null;
+                leaderSince = null;
+            }
+
+            Optional<SimpleLock> acquired = lockProvider.lock(
+                    new LockConfiguration(Instant.now(), LEADER_LOCK_NAME, lease, Duration.ZERO));
+            if (acquired.isPresent()) {
+                leaseLock = acquired.get();
+                leaseExpiresAt = Instant.now().plus(lease);
+                leaderSince = Instant.now();
+                log.info("👑 스케줄러 리더 획득: node={}, lease={}ms", NODE_ID, leaseMs);
+            }
+        } catch (Exception e) {
+            // DB 장애 시 리더 상태를 유지하지 않음 (임대 만료 후 자연 해제)
+            log.warn("👑 리더 임대 처리 실패: node={}, error={}", NODE_ID, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        SimpleLock current = leaseLock;
+        if (current != null) {
+            leaseLock = null;
+            try {
+                current.unlock();
+                log.info("👑 스케줄러 리더 반납: node={}", NODE_ID);
+            } catch (Exception e) {
+                log.warn("👑 리더 반납 실패 (임대 만료로 해제됨): {}", e.getMessage());
+            }
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("nodeId", NODE_ID);
+        status.put("leader", isLeader());
+        status.put("leaderSince", leaderSince != null ? leaderSince.toString() : null);
+        status.put("leaseExpiresAt", isLeader() ? leaseExpiresAt.toString() : null);
+        return status;
+    }
+
+    // 호스트명 + PID (같은 호스트의 여러 인스턴스 구분)
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+}
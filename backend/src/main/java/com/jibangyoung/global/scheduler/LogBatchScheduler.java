@@ -1,17 +1,21 @@
 package com.jibangyoung.global.scheduler;
 
+import java.time.Duration;
+
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.jibangyoung.global.batch.UserActivityLogReader;
+import com.jibangyoung.global.config.BatchConfig;
 import com.jibangyoung.global.service.UserActivityLogService;
 
 import jakarta.annotation.PostConstruct;
@@ -39,6 +43,24 @@ public class LogBatchScheduler {
     @Autowired
     private UserActivityLogReader logReader;
 
+    @Autowired
+    private ScheduledJobRunner jobRunner;
+
+    // 클러스터에서 한 노드만 배치 실행 (같은 Redis 큐 경합 방지)
+    static final String JOB_NAME = "user-activity-log-batch";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofSeconds(20);
+
+    // 배치 튜닝 파라미터 (잡 파라미터로 전달)
+    @Value("${batch.user-activity-log.chunk-size:50}")
+    private long chunkSize;
+
+    @Value("${batch.user-activity-log.reader-fetch-size:50}")
+    private long readerFetchSize;
+
+    @Value("${batch.user-activity-log.reader-mode:" + UserActivityLogReader.MODE_PIPELINED + "}")
+    private String readerMode;
+
     /**
      * Bean 생성 확인 및 초기화
      */
@@ -84,11 +106,16 @@ public class LogBatchScheduler {
     }
 
     /**
-     * 🎯 메인 배치 실행: 1분마다 실행 - 비동기 처리
+     * 🎯 메인 배치 실행: 1분마다 실행 - 비동기 처리, 락을 얻은 노드만
      */
     @Scheduled(fixedRate = 60000)
     @Async("schedulerExecutor")
     public void runLogBatch() {
+        jobRunner.run(JOB_NAME, ScheduledJobRunner.Mode.LOCKED, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                this::executeLogBatch);
+    }
+
+    private void executeLogBatch() {
         String threadName = Thread.currentThread().getName();
         long startTime = System.currentTimeMillis();
 
@@ -126,6 +153,9 @@ public class LogBatchScheduler {
                     .addString("trigger", "SCHEDULER_1MIN")
                     .addString("mode", "AUTO_RUN")
                     .addString("thread", threadName)
+                    .addLong(BatchConfig.PARAM_CHUNK_SIZE, chunkSize, false)
+                    .addLong(UserActivityLogReader.PARAM_FETCH_SIZE, readerFetchSize, false)
+                    .addString(UserActivityLogReader.PARAM_READER_MODE, readerMode, false)
                     .toJobParameters();
 
             JobExecution jobExecution = jobLauncher.run(userActivityLogJob, jobParameters);
@@ -311,7 +341,12 @@ public class LogBatchScheduler {
         String threadName = Thread.currentThread().getName();
         log.info("🔧 [{}] 수동 배치 실행 요청됨", threadName);
         try {
-            runLogBatch();
+            // 수동 실행은 최소 보유 시간 없이 같은 락 사용 (다른 노드 실행 중이면 건너뜀)
+            boolean executed = jobRunner.run(JOB_NAME, ScheduledJobRunner.Mode.LOCKED, LOCK_AT_MOST_FOR,
+                    Duration.ZERO, this::executeLogBatch);
+            if (!executed) {
+                return "🔧 다른 노드에서 배치 실행 중이어서 건너뜀 (스레드: " + threadName + ")";
+            }
             return "🔧 수동 배치 실행 성공 (스레드: " + threadName + ")";
         } catch (Exception e) {
             log.error("🔧 [{}] 수동 배치 실행 실패", threadName, e);
@@ -332,6 +367,9 @@ public class LogBatchScheduler {
                     .addString("type", "EMERGENCY")
                     .addString("trigger", "MANUAL_EMERGENCY")
                     .addString("thread", threadName)
+                    .addLong(BatchConfig.PARAM_CHUNK_SIZE, chunkSize, false)
+                    .addLong(UserActivityLogReader.PARAM_FETCH_SIZE, readerFetchSize, false)
+                    .addString(UserActivityLogReader.PARAM_READER_MODE, readerMode, false)
                     .toJobParameters();
 
             logReader.reset();
@@ -0,0 +1,169 @@
+package com.jibangyoung.global.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jibangyoung.global.entity.ScheduledJobRun;
+import com.jibangyoung.global.repository.ScheduledJobRunRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+
+/**
+ * 🕒 클러스터 안전 스케줄 작업 실행기
+ * - 작업마다 ShedLock 락(lockAtMostFor = 임대, lockAtLeastFor = 노드 간 시계 차 흡수)
+ * - LOCKED: 락을 얻은 노드 하나만 실행 / LEADER: 리더 노드만 실행 (팔로워는 캐시 제공만)
+ * - 실제 실행된 경우 scheduled_job_run에 이력 기록, 작업별 실행/실패/스킵/소요시간 통계 유지
+ * - 작업 예외는 기록 후 삼킴 (스케줄러 스레드 보호)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledJobRunner {
+
+    public enum Mode {
+        LOCKED, LEADER
+    }
+
+    private final LockProvider lockProvider;
+    private final LeaderLease leaderLease;
+    private final ScheduledJobRunRepository jobRunRepository;
+
+    @Value("${scheduler.history.enabled:true}")
+    private boolean historyEnabled;
+
+    @Value("${scheduler.history.retention-days:30}")
+    private int retentionDays;
+
+    private final ConcurrentMap<String, JobStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @return 이 노드에서 실제로 실행했으면 true (락/리더 조건으로 건너뛰면 false)
+     */
+    public boolean run(String jobName, Mode mode, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        JobStats jobStats = stats.computeIfAbsent(jobName, name -> new JobStats());
+        if (mode == Mode.LEADER && !leaderLease.isLeader()) {
+            jobStats.skipped.incrementAndGet();
+            log.debug("🕒 [{}] 리더가 아니므로 건너뜀", jobName);
+            return false;
+        }
+
+        Optional<SimpleLock> lock;
+        try {
+            lock = lockProvider.lock(new LockConfiguration(Instant.now(), jobName, lockAtMostFor, lockAtLeastFor));
+        } catch (Exception e) {
+            jobStats.skipped.incrementAndGet();
+            log.warn("🕒 [{}] 락 획득 실패 → 건너뜀: {}", jobName, e.getMessage());
+            return false;
+        }
+        if (lock.isEmpty()) {
+            jobStats.skipped.incrementAndGet();
+            log.debug("🕒 [{}] 다른 노드에서 실행 중이거나 최근 실행됨 → 건너뜀", jobName);
+            return false;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            task.run();
+        } catch (Throwable t) {
+            failure = t;
+            log.error("🕒 [{}] 작업 실패", jobName, t);
+        } finally {
+            lock.get().unlock();
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        jobStats.record(durationMs, failure);
+        saveHistory(jobName, startedAt, durationMs, failure);
+        return true;
+    }
+
+    private void saveHistory(String jobName, LocalDateTime startedAt, long durationMs, Throwable failure) {
+        if (!historyEnabled) {
+            return;
+        }
+        try {
+            jobRunRepository.save(ScheduledJobRun.builder()
+                    .jobName(jobName)
+                    .nodeId(LeaderLease.nodeId())
+                    .startedAt(startedAt)
+                    .finishedAt(LocalDateTime.now())
+                    .durationMs(durationMs)
+                    .status(failure == null ? ScheduledJobRun.Status.SUCCESS : ScheduledJobRun.Status.FAILED)
+                    .errorMessage(failure != null ? String.valueOf(failure.getMessage()) : null)
+                    .build());
+        } catch (Exception e) {
+            log.warn("🕒 [{}] 실행 이력 저장 실패: {}", jobName, e.getMessage());
+        }
+    }
+
+    // 매일 04:30 보관 기간 지난 이력 삭제 (한 노드만)
+    @Scheduled(cron = "${scheduler.history.purge-cron:0 30 4 * * *}")
+    public void purgeHistory() {
+        run("scheduled-job-run-purge", Mode.LOCKED, Duration.ofMinutes(10), Duration.ofMinutes(1), () -> {
+            int deleted = jobRunRepository.deleteByStartedAtBefore(LocalDateTime.now().minusDays(retentionDays));
+            log.info("🕒 실행 이력 정리 완료: deleted={}, retentionDays={}", deleted, retentionDays);
+        });
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> result = new TreeMap<>();
+        stats.forEach((name, jobStats) -> result.put(name, jobStats.toMap()));
+        return result;
+    }
+
+    private static final class JobStats {
+        private final AtomicLong runs = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong totalDurationMs = new AtomicLong();
+        private volatile long lastDurationMs;
+        private volatile LocalDateTime lastRunAt;
+        private volatile LocalDateTime lastSuccessAt;
+        private volatile String lastError;
+
+        void record(long durationMs, Throwable failure) {
+            runs.incrementAndGet();
+            totalDurationMs.addAndGet(durationMs);
+            lastDurationMs = durationMs;
+            lastRunAt = LocalDateTime.now();
+            if (failure == null) {
+                lastSuccessAt = lastRunAt;
+            } else {
+                failures.incrementAndGet();
+                lastError = String.valueOf(failure.getMessage());
+            }
+        }
+
+        Map<String, Object> toMap() {
+            long runCount = runs.get();
+            Map<String, Object> map = new HashMap<>();
+            map.put("runs", runCount);
+            map.put("failures", failures.get());
+            map.put("skipped", skipped.get());
+            map.put("lastDurationMs", lastDurationMs);
+            map.put("avgDurationMs", runCount == 0 ? 0 : totalDurationMs.get() / runCount);
+            map.put("lastRunAt", lastRunAt);
+            map.put("lastSuccessAt", lastSuccessAt);
+            map.put("lastError", lastError);
+            return map;
+        }
+    }
+}
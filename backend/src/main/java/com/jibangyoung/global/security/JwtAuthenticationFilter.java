@@ -43,24 +43,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             if (StringUtils.hasText(token)) {
-                // ✅ 토큰 유효성 검증 강화
-                if (jwtTokenProvider.validateToken(token)) {
-                    try {
-                        Authentication authentication = jwtTokenProvider.getAuthentication(token);
-
-                        if (authentication != null && authentication.isAuthenticated()) {
-                            SecurityContextHolder.getContext().setAuthentication(authentication);
-                            log.debug("[JWT FILTER] 인증 성공: {}", authentication.getName());
-                        } else {
-                            log.warn("[JWT FILTER] Authentication 객체가 null이거나 인증되지 않음");
-                            SecurityContextHolder.clearContext();
-                        }
-                    } catch (Exception authEx) {
-                        log.warn("[JWT FILTER] Authentication 생성 실패: {}", authEx.getMessage());
-                        SecurityContextHolder.clearContext();
-                    }
+                // ✅ 단일 파싱 + 검증 캐시 + UserDetails 캐시 (유효하지 않으면 null)
+                Authentication authentication = jwtTokenProvider.authenticate(token);
+
+                if (authentication != null && authentication.isAuthenticated()) {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("[JWT FILTER] 인증 성공: {}", authentication.getName());
                 } else {
-                    log.debug("[JWT FILTER] 토큰 유효성 검증 실패");
+                    log.debug("[JWT FILTER] 토큰 유효성 검증 또는 Authentication 생성 실패");
                     SecurityContextHolder.clearContext();
                 }
             } else {
@@ -1,10 +1,14 @@
 package com.jibangyoung.global.security;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,14 +16,19 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,11 +46,30 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity-ms}")
     private long refreshTokenValidityInMilliseconds;
 
-    private final CustomUserDetailsService userDetailsService;
+    @Value("${jwt.verified-token-cache.max-size:50000}")
+    private long verifiedTokenCacheMaxSize;
+
+    private final UserDetailsCache userDetailsCache;
+
+    // 서명 키/파서는 기동 시 1회 생성 (JwtParser는 thread-safe)
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // 검증 완료 토큰 캐시: SHA-256(token) → (subject, exp), exp 이후에는 사용하지 않음
+    private Cache<String, VerifiedToken> verifiedTokenCache;
 
-    private Key getSigningKey(String base64Secret) {
-        byte[] keyBytes = Base64.getDecoder().decode(base64Secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private record VerifiedToken(String username, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    public void init() {
+        byte[] keyBytes = Base64.getDecoder().decode(jwtSecret);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokenCache = CacheBuilder.newBuilder()
+                .maximumSize(verifiedTokenCacheMaxSize)
+                .expireAfterWrite(accessTokenValidityInMilliseconds, TimeUnit.MILLISECONDS)
+                .build();
     }
 
     public String createAccessToken(Authentication authentication) {
@@ -53,7 +81,7 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(jwtSecret), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
 
         log.debug("[JWT] 액세스 토큰 생성 완료 - username: {}, 만료시간: {}", username, expiryDate);
@@ -68,7 +96,7 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(jwtSecret), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
 
         log.debug("[JWT] 리프레시 토큰 생성 완료 - username: {}, 만료시간: {}", username, expiryDate);
@@ -104,9 +132,63 @@ public class JwtTokenProvider {
      * ✅ 토큰 유효성 검증 로직 완전 개선
      */
     public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
+
+    /**
+     * ✅ 검증 + 사용자명 추출을 1회 파싱으로 처리 - 유효하지 않으면 null
+     */
+    public String getValidatedUsername(String token) {
+        Claims claims = verifyClaims(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    /**
+     * ✅ 요청 인증 (필터용) - 토큰 1회 파싱 + 검증 결과 캐시 + UserDetails 캐시
+     * - 같은 토큰의 재요청은 서명 검증/파싱 없이 exp만 확인
+     * - 유효하지 않으면 null
+     */
+    public Authentication authenticate(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+
+        String cacheKey = tokenCacheKey(token);
+        VerifiedToken verified = verifiedTokenCache.getIfPresent(cacheKey);
+        if (verified != null && verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            verifiedTokenCache.invalidate(cacheKey);
+            log.debug("[JWT] 토큰이 만료됨 (캐시)");
+            return null;
+        }
+
+        if (verified == null) {
+            Claims claims = verifyClaims(token);
+            if (claims == null) {
+                return null;
+            }
+            verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime());
+            verifiedTokenCache.put(cacheKey, verified);
+        }
+
+        return buildAuthentication(verified.username());
+    }
+
+    private String tokenCacheKey(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 서명/필수 필드/시간 관계 검증 - 유효하면 Claims, 아니면 null
+     */
+    private Claims verifyClaims(String token) {
         if (token == null || token.trim().isEmpty()) {
             log.debug("[JWT] 빈 토큰으로 검증 시도");
-            return false;
+            return null;
         }
 
         try {
@@ -114,7 +196,7 @@ public class JwtTokenProvider {
             String[] tokenParts = token.split("\\.");
             if (tokenParts.length != 3) {
                 log.warn("[JWT] 토큰 형식 오류 - 파트 수: {}", tokenParts.length);
-                return false;
+                return null;
             }
 
             // 2. Claims 파싱 및 서명 검증
@@ -123,17 +205,17 @@ public class JwtTokenProvider {
             // 3. 필수 필드 검증
             if (claims.getSubject() == null || claims.getSubject().trim().isEmpty()) {
                 log.warn("[JWT] 토큰에 subject(사용자명)가 없음");
-                return false;
+                return null;
             }
 
             if (claims.getExpiration() == null) {
                 log.warn("[JWT] 토큰에 만료시간이 없음");
-                return false;
+                return null;
             }
 
             if (claims.getIssuedAt() == null) {
                 log.warn("[JWT] 토큰에 발급시간이 없음");
-                return false;
+                return null;
             }
 
             // 4. 시간 관계 검증
@@ -144,42 +226,42 @@ public class JwtTokenProvider {
             // 발급시간이 미래인 경우
             if (issuedAt.after(now)) {
                 log.warn("[JWT] 토큰 발급시간이 현재시간보다 미래임 - issued: {}, now: {}", issuedAt, now);
-                return false;
+                return null;
             }
 
             // 만료시간이 발급시간보다 이전인 경우
             if (expiration.before(issuedAt)) {
                 log.warn("[JWT] 토큰 만료시간이 발급시간보다 이전임 - issued: {}, exp: {}", issuedAt, expiration);
-                return false;
+                return null;
             }
 
             // 5. 만료 여부 최종 확인
             if (expiration.before(now)) {
                 log.debug("[JWT] 토큰이 만료됨 - exp: {}, now: {}", expiration, now);
-                return false;
+                return null;
             }
 
             log.debug("[JWT] 토큰 검증 성공 - subject: {}", claims.getSubject());
-            return true;
+            return claims;
 
         } catch (ExpiredJwtException e) {
             log.debug("[JWT] 토큰 만료됨: {}", e.getMessage());
-            return false;
+            return null;
         } catch (MalformedJwtException e) {
             log.warn("[JWT] 토큰 형식 오류: {}", e.getMessage());
-            return false;
+            return null;
         } catch (SignatureException e) {
             log.warn("[JWT] 토큰 서명 검증 실패: {}", e.getMessage());
-            return false;
+            return null;
         } catch (UnsupportedJwtException e) {
             log.warn("[JWT] 지원되지 않는 토큰: {}", e.getMessage());
-            return false;
+            return null;
         } catch (IllegalArgumentException e) {
             log.warn("[JWT] 토큰 파라미터 오류: {}", e.getMessage());
-            return false;
+            return null;
         } catch (Exception e) {
             log.error("[JWT] 토큰 검증 중 예상치 못한 오류: {}", e.getMessage(), e);
-            return false;
+            return null;
         }
     }
 
@@ -188,14 +270,21 @@ public class JwtTokenProvider {
      */
     public Authentication getAuthentication(String token) {
         try {
-            String username = getUsernameFromToken(token);
+            return buildAuthentication(getUsernameFromToken(token));
+        } catch (Exception e) {
+            log.error("[JWT] Authentication 객체 생성 실패: {}", e.getMessage(), e);
+            return null;
+        }
+    }
 
+    private Authentication buildAuthentication(String username) {
+        try {
             if (username == null || username.trim().isEmpty()) {
                 log.warn("[JWT] 토큰에서 사용자명을 추출할 수 없음");
                 return null;
             }
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = userDetailsCache.get(username);
 
             if (userDetails == null) {
                 log.warn("[JWT] 사용자를 찾을 수 없음: {}", username);
@@ -236,12 +325,7 @@ public class JwtTokenProvider {
      */
     private Claims parseClaims(String token) {
         try {
-            return Jwts
-                    .parserBuilder()
-                    .setSigningKey(getSigningKey(jwtSecret))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰이어도 Claims 정보는 필요할 수 있음 (재발급 시)
             log.debug("[JWT] 만료된 토큰에서 Claims 추출: {}", e.getMessage());
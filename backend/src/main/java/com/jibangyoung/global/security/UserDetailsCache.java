@@ -0,0 +1,95 @@
+package com.jibangyoung.global.security;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증된 요청마다 발생하던 사용자 조회(DB)를 줄이기 위한 UserDetails 캐시
+ * - username → CustomUserPrincipal, 최대 크기/TTL 제한
+ * - 권한/상태 변경 시 evictByUserId(s) 호출 필요 (트랜잭션 안이면 커밋 이후 한 번 더 제거)
+ * - 조회 실패(없는 사용자/비활성 계정)는 캐시하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserDetailsCache {
+
+    private final CustomUserDetailsService userDetailsService;
+
+    @Value("${security.user-details-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${security.user-details-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, CustomUserPrincipal> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public CustomUserPrincipal get(String username) {
+        CustomUserPrincipal cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+        CustomUserPrincipal loaded = (CustomUserPrincipal) userDetailsService.loadUserByUsername(username);
+        cache.put(username, loaded);
+        return loaded;
+    }
+
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.invalidate(username);
+        afterCommit(() -> cache.invalidate(username));
+    }
+
+    public void evictByUserId(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evictByUserIds(Set.of(userId));
+    }
+
+    // 권한/상태 변경은 관리자 작업 위주 → 캐시 전체 순회로 충분
+    public void evictByUserIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = Set.copyOf(userIds);
+        Runnable eviction = () -> cache.asMap().values().removeIf(principal -> ids.contains(principal.getId()));
+        eviction.run();
+        afterCommit(eviction);
+        log.debug("[AUTH] UserDetails 캐시 제거 - userIds: {}", ids);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
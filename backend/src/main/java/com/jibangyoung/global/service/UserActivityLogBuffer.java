@@ -0,0 +1,359 @@
+package com.jibangyoung.global.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jibangyoung.global.common.BoundedRingBuffer;
+import com.jibangyoung.global.common.UserActivityLog;
+import com.jibangyoung.global.repository.UserActivityLogRedisRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 🧺 활동 로그 인프로세스 버퍼 (그룹 커밋)
+ * - 요청 스레드는 lock-free 링 버퍼에 넣기만 함
+ * - 전용 플러셔 스레드가 flushIntervalMs 마다 또는 batchSize 도달 시 Redis에 파이프라인 일괄 저장
+ * - 넘침 정책: DROP_OLDEST(기본) / BLOCK(최대 blockTimeoutMs 대기 후 버림) / SPILL(로컬 파일 기록 후 재적재)
+ * - Redis 저장 실패 배치: SPILL은 스필 파일로, 그 외는 재시도 목록(최대 capacity건)에 보관 후 다음 주기에 먼저 재시도
+ * - 종료 시 남은 로그를 모두 플러시
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserActivityLogBuffer implements SmartLifecycle {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, BLOCK, SPILL
+    }
+
+    private final UserActivityLogRedisRepository redisRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${logging.activity.buffer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${logging.activity.buffer.capacity:8192}")
+    private int capacity;
+
+    @Value("${logging.activity.buffer.batch-size:256}")
+    private int batchSize;
+
+    @Value("${logging.activity.buffer.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${logging.activity.buffer.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${logging.activity.buffer.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    @Value("${logging.activity.buffer.spill-path:${java.io.tmpdir}/jibangyoung-activity-log-spill.jsonl}")
+    private String spillPath;
+
+    private BoundedRingBuffer<UserActivityLog> buffer;
+    private volatile Thread flusherThread;
+    private volatile boolean running = false;
+
+    // 통계
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final AtomicLong flushFailureCount = new AtomicLong();
+    private final AtomicLong retryDroppedCount = new AtomicLong();
+
+    // 저장 실패 배치 (플러셔 전용, flushOnce 안에서만 변경)
+    private final List<UserActivityLog> retryBatch = new ArrayList<>();
+
+    private final Object spillLock = new Object();
+
+    @PostConstruct
+    public void init() {
+        buffer = new BoundedRingBuffer<>(capacity);
+        log.info("🧺 활동 로그 버퍼 설정: enabled={}, capacity={}, batchSize={}, interval={}ms, overflow={}",
+                enabled, buffer.capacity(), batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    /**
+     * 로그 적재 (요청 스레드) - 버퍼/스필 파일 어디에도 남기지 못하면 false
+     */
+    public boolean offer(UserActivityLog activityLog) {
+        boolean accepted = buffer.offer(activityLog) || handleOverflow(activityLog);
+        if (accepted) {
+            enqueuedCount.incrementAndGet();
+            if (buffer.size() >= batchSize) {
+                Thread flusher = flusherThread;
+                if (flusher != null) {
+                    LockSupport.unpark(flusher);
+                }
+            }
+        }
+        return accepted;
+    }
+
+    private boolean handleOverflow(UserActivityLog activityLog) {
+        switch (overflowPolicy) {
+            case BLOCK:
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+                LockSupport.unpark(flusherThread);
+                while (System.nanoTime() < deadline) {
+                    if (buffer.offer(activityLog)) {
+                        return true;
+                    }
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+                }
+                droppedCount.incrementAndGet();
+                log.warn("🧺 버퍼 대기 시간 초과로 로그 버림: logId={}", activityLog.getLogId());
+                return false;
+            case SPILL:
+                // 스필 파일에 기록된 로그는 이후 재적재되므로 수락으로 간주
+                return spill(List.of(activityLog));
+            case DROP_OLDEST:
+            default:
+                // 가장 오래된 로그를 버리고 재시도 (경합 시 몇 번만)
+                for (int attempt = 0; attempt < 4; attempt++) {
+                    if (buffer.poll() != null) {
+                        droppedCount.incrementAndGet();
+                    }
+                    if (buffer.offer(activityLog)) {
+                        return true;
+                    }
+                }
+                droppedCount.incrementAndGet();
+                return false;
+        }
+    }
+
+    // ===== 플러셔 =====
+
+    private void runFlusher() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (running) {
+            if (buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, intervalNanos);
+            }
+            flushOnce();
+            replaySpillIfIdle();
+        }
+    }
+
+    /**
+     * 재시도 목록을 먼저 반영한 뒤 버퍼를 batchSize 단위로 비울 때까지 Redis에 반영
+     * - 저장 실패 시 이번 주기는 중단 (Redis 장애 중 남은 로그는 버퍼에 그대로 유지)
+     */
+    private synchronized void flushOnce() {
+        if (!retryBatch.isEmpty()) {
+            if (!save(retryBatch)) {
+                return;
+            }
+            log.info("🧺 실패 로그 재시도 성공: count={}", retryBatch.size());
+            retryBatch.clear();
+        }
+
+        List<UserActivityLog> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            if (!save(batch)) {
+                if (overflowPolicy == OverflowPolicy.SPILL) {
+                    spill(batch);
+                } else {
+                    holdForRetry(batch);
+                }
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private boolean save(List<UserActivityLog> batch) {
+        try {
+            redisRepository.saveLogs(batch);
+            flushedCount.addAndGet(batch.size());
+            return true;
+        } catch (Exception e) {
+            flushFailureCount.incrementAndGet();
+            log.error("🧺 로그 그룹 커밋 실패: count={}, error={}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    // 실패 배치를 재시도 목록에 보관 - capacity 초과분은 가장 오래된 로그부터 버림
+    private void holdForRetry(List<UserActivityLog> batch) {
+        retryBatch.addAll(batch);
+        int overflow = retryBatch.size() - buffer.capacity();
+        if (overflow > 0) {
+            retryBatch.subList(0, overflow).clear();
+            droppedCount.addAndGet(overflow);
+            retryDroppedCount.addAndGet(overflow);
+            log.warn("🧺 재시도 목록 초과로 로그 버림: dropped={}, pending={}", overflow, retryBatch.size());
+        }
+    }
+
+    // ===== 스필 파일 =====
+
+    private boolean spill(List<UserActivityLog> logs) {
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(spillPath), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (UserActivityLog activityLog : logs) {
+                    writer.write(objectMapper.writeValueAsString(activityLog));
+                    writer.newLine();
+                }
+                spilledCount.addAndGet(logs.size());
+                return true;
+            } catch (IOException e) {
+                droppedCount.addAndGet(logs.size());
+                log.error("🧺 스필 파일 기록 실패: path={}, count={}, error={}", spillPath, logs.size(), e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 버퍼가 비어 있을 때 스필 파일을 Redis로 재적재
+     */
+    private void replaySpillIfIdle() {
+        Path spillFile = Paths.get(spillPath);
+        if (buffer.size() > 0 || !Files.exists(spillFile)) {
+            return;
+        }
+        Path replayFile = Paths.get(spillPath + ".replay");
+        synchronized (spillLock) {
+            try {
+                Files.move(spillFile, replayFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.warn("🧺 스필 파일 이동 실패: {}", e.getMessage());
+                return;
+            }
+        }
+
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            List<UserActivityLog> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(objectMapper.readValue(line, UserActivityLog.class));
+                if (batch.size() >= batchSize) {
+                    redisRepository.saveLogs(batch);
+                    replayed += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisRepository.saveLogs(batch);
+                replayed += batch.size();
+            }
+            Files.deleteIfExists(replayFile);
+            log.info("🧺 스필 로그 재적재 완료: count={}", replayed);
+        } catch (Exception e) {
+            // 재적재 실패 시 남은 파일은 다음 기동/주기에 다시 시도 (이미 적재된 줄은 중복될 수 있음)
+            log.error("🧺 스필 로그 재적재 실패: replayed={}, error={}", replayed, e.getMessage());
+            synchronized (spillLock) {
+                try {
+                    if (!Files.exists(spillFile)) {
+                        Files.move(replayFile, spillFile);
+                    }
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+
+    // ===== 라이프사이클 =====
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runFlusher, "activity-log-flusher");
+        thread.setDaemon(true);
+        flusherThread = thread;
+        thread.start();
+        log.info("🧺 활동 로그 플러셔 시작");
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = flusherThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flusherThread = null;
+        // 종료 직전 남은 로그 플러시
+        flushOnce();
+        synchronized (this) {
+            if (!retryBatch.isEmpty()) {
+                droppedCount.addAndGet(retryBatch.size());
+                retryDroppedCount.addAndGet(retryBatch.size());
+                log.error("🧺 종료 시 재시도 실패로 로그 버림: count={}", retryBatch.size());
+                retryBatch.clear();
+            }
+        }
+        log.info("🧺 활동 로그 플러셔 종료: 남은 버퍼={}, 통계={}", buffer.size(), getStatistics());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Redis 연결 팩토리보다 먼저 멈추도록 높은 phase
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("buffered", buffer.size());
+        stats.put("capacity", buffer.capacity());
+        stats.put("overflowPolicy", overflowPolicy.name());
+        stats.put("enqueued", enqueuedCount.get());
+        stats.put("flushed", flushedCount.get());
+        stats.put("dropped", droppedCount.get());
+        stats.put("spilled", spilledCount.get());
+        stats.put("flushFailures", flushFailureCount.get());
+        stats.put("pendingRetry", retryBatch.size());
+        stats.put("retryDropped", retryDroppedCount.get());
+        return stats;
+    }
+}
@@ -1,8 +1,8 @@
 package com.jibangyoung.global.service;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import com.jibangyoung.global.common.UserActivityLog;
@@ -13,6 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 🚀 사용자 활동 로그 서비스
+ * - 버퍼 활성화 시: 인프로세스 링 버퍼에 적재 → 플러셔가 Redis에 그룹 커밋
+ * - 버퍼 비활성화 시: 기존처럼 logTaskExecutor에서 건별 저장
  */
 @Service
 @RequiredArgsConstructor
@@ -20,18 +22,28 @@ import lombok.extern.slf4j.Slf4j;
 public class UserActivityLogService {
 
     private final UserActivityLogRedisRepository redisRepository;
+    private final UserActivityLogBuffer logBuffer;
+    private final Executor logTaskExecutor;
 
-    @Async("logTaskExecutor")
     public CompletableFuture<Void> saveLogAsync(UserActivityLog activityLog) {
-        try {
+        if (logBuffer.isEnabled()) {
+            if (logBuffer.offer(activityLog)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            log.warn("버퍼 적재 실패 (넘침): logId={}", activityLog.getLogId());
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("activity log buffer overflow: " + activityLog.getLogId()));
+        }
+
+        return CompletableFuture.runAsync(() -> {
             redisRepository.saveLog(activityLog);
             log.debug("비동기 로그 저장 완료: logId={}, actionType={}",
                     activityLog.getLogId(), activityLog.getActionType());
-            return CompletableFuture.completedFuture(null);
-        } catch (Exception e) {
-            log.error("비동기 로그 저장 실패: logId={}", activityLog.getLogId(), e);
-            return CompletableFuture.failedFuture(e);
-        }
+        }, logTaskExecutor).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.error("비동기 로그 저장 실패: logId={}", activityLog.getLogId(), e);
+            }
+        });
     }
 
     public void saveLogSync(UserActivityLog activityLog) {
@@ -46,4 +58,4 @@ public class UserActivityLogService {
     public long getQueueSize() {
         return redisRepository.getBatchQueueSize();
     }
-}
\ No newline at end of file
+}
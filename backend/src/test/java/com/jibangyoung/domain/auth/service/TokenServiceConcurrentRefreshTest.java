@@ -0,0 +1,229 @@
+package com.jibangyoung.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.jibangyoung.domain.auth.dto.LoginResponseDto;
+import com.jibangyoung.domain.auth.entity.User;
+import com.jibangyoung.domain.auth.entity.UserStatus;
+import com.jibangyoung.domain.auth.repository.UserRepository;
+import com.jibangyoung.domain.auth.support.RefreshTokenRedis;
+import com.jibangyoung.domain.auth.support.RefreshTokenRedisRepository;
+import com.jibangyoung.global.config.RedisConfig;
+import com.jibangyoung.global.exception.BusinessException;
+import com.jibangyoung.global.exception.ErrorCode;
+import com.jibangyoung.global.security.JwtTokenProvider;
+
+/**
+ * 리프레시 토큰 교체(ROTATE_SCRIPT)를 실제 Redis에서 실행
+ * - 같은 토큰으로 동시에 재발급 요청 시 정확히 하나만 성공
+ * - 유예 시간 이후 재사용은 탈취로 보고 사용자 토큰 전체 무효화
+ * - Docker가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenServiceConcurrentRefreshTest {
+
+    private static final String USERNAME = "tester";
+    private static final String ORIGINAL_TOKEN = "refresh-0";
+    private static final int THREADS = 16;
+    private static final long TTL_SECONDS = TimeUnit.DAYS.toSeconds(14);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RefreshTokenRedisRepository tokenRepository;
+
+    private TokenService tokenService;
+    private ExecutorService executor;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        // 운영과 같은 직렬화 설정 사용
+        RedisConfig redisConfig = new RedisConfig();
+        RedisTemplate<String, Object> redisTemplate = redisConfig.redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        stringRedisTemplate = redisConfig.stringRedisTemplate(connectionFactory);
+        stringRedisTemplate.afterPropertiesSet();
+
+        tokenRepository = new RefreshTokenRedisRepository(redisTemplate, stringRedisTemplate,
+                Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        User user = User.createUser(USERNAME, "tester@example.com", "password", "테스터", null, null, null, null, null);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsernameAndStatus(USERNAME, UserStatus.ACTIVE)).thenReturn(Optional.of(user));
+
+        AtomicInteger issued = new AtomicInteger();
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.getValidatedUsername(anyString())).thenReturn(USERNAME);
+        when(jwtTokenProvider.createAccessToken(any())).thenReturn("access");
+        when(jwtTokenProvider.createRefreshToken(USERNAME))
+                .thenAnswer(invocation -> "refresh-" + issued.incrementAndGet());
+        when(jwtTokenProvider.getExpirationDateFromToken(anyString()))
+                .thenReturn(LocalDateTime.now().plusDays(14));
+        when(jwtTokenProvider.getAccessTokenValidityInMilliseconds()).thenReturn(TimeUnit.MINUTES.toMillis(30));
+        when(jwtTokenProvider.getRefreshTokenValidityInMilliseconds()).thenReturn(TimeUnit.SECONDS.toMillis(TTL_SECONDS));
+
+        tokenService = new TokenService(tokenRepository, userRepository, jwtTokenProvider);
+        ReflectionTestUtils.setField(tokenService, "refreshReuseGraceMillis", 10_000L);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("유예 시간 내 동시 재발급은 하나만 성공하고 새 토큰/소비 표시/사용자 Set이 기록된다")
+    void concurrentRefreshWithinGrace() throws Exception {
+        saveToken(ORIGINAL_TOKEN, USERNAME, false);
+
+        List<LoginResponseDto> succeeded = refreshConcurrently(ORIGINAL_TOKEN);
+
+        assertThat(succeeded).hasSize(1);
+        String rotated = succeeded.get(0).getRefreshToken();
+        assertThat(tokenRepository.findByToken(ORIGINAL_TOKEN)).isNull();
+        assertThat(tokenRepository.findByToken(rotated)).isNotNull();
+        assertThat(tokenRepository.countActiveTokensByUsername(USERNAME)).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForSet().members("user_tokens:" + USERNAME)).containsExactly(rotated);
+        // 소비 표시는 기존 토큰의 남은 수명(PTTL)만큼 유지
+        assertThat(stringRedisTemplate.getExpire("refresh_token_used:" + ORIGINAL_TOKEN, TimeUnit.SECONDS))
+                .isPositive();
+        assertThat(stringRedisTemplate.getExpire("user_tokens:" + USERNAME, TimeUnit.SECONDS))
+                .isGreaterThan(TTL_SECONDS);
+    }
+
+    @Test
+    @DisplayName("유예 시간 이후 소비된 토큰을 재사용하면 사용자 토큰 전체가 무효화된다")
+    void reuseAfterGraceRevokesTokenFamily() throws Exception {
+        saveToken(ORIGINAL_TOKEN, USERNAME, false);
+
+        List<LoginResponseDto> succeeded = refreshConcurrently(ORIGINAL_TOKEN);
+        assertThat(succeeded).hasSize(1);
+        String rotated = succeeded.get(0).getRefreshToken();
+
+        ReflectionTestUtils.setField(tokenService, "refreshReuseGraceMillis", 0L);
+        Thread.sleep(5);
+
+        assertThatThrownBy(() -> tokenService.refreshAccessToken(ORIGINAL_TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        assertThat(tokenRepository.findByToken(rotated)).isNull();
+        assertThat(tokenRepository.countActiveTokensByUsername(USERNAME)).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화된 토큰은 교체되지 않고 삭제된다")
+    void revokedTokenIsRejected() {
+        saveToken(ORIGINAL_TOKEN, USERNAME, true);
+
+        assertThatThrownBy(() -> tokenService.refreshAccessToken(ORIGINAL_TOKEN))
+                .isInstanceOf(BusinessException.class);
+        assertThat(stringRedisTemplate.hasKey("refresh_token:" + ORIGINAL_TOKEN)).isFalse();
+        assertThat(stringRedisTemplate.hasKey("refresh_token_used:" + ORIGINAL_TOKEN)).isFalse();
+        assertThat(tokenRepository.countActiveTokensByUsername(USERNAME)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자 이름으로 저장된 토큰은 교체되지 않는다")
+    void mismatchedUsernameIsRejected() {
+        saveToken(ORIGINAL_TOKEN, "someone-else", false);
+
+        assertThatThrownBy(() -> tokenService.refreshAccessToken(ORIGINAL_TOKEN))
+                .isInstanceOf(BusinessException.class);
+        assertThat(tokenRepository.countActiveTokensByUsername(USERNAME)).isZero();
+    }
+
+    private void saveToken(String token, String username, boolean revoked) {
+        tokenRepository.save(RefreshTokenRedis.builder()
+                .token(token)
+                .username(username)
+                .expiresAt(LocalDateTime.now().plusDays(14))
+                .revoked(revoked)
+                .build(), TTL_SECONDS);
+    }
+
+    // THREADS개 요청을 동시에 출발시키고 성공 응답만 반환 (실패는 모두 INVALID_REFRESH_TOKEN이어야 함)
+    private List<LoginResponseDto> refreshConcurrently(String refreshToken) throws Exception {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<LoginResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    return tokenService.refreshAccessToken(refreshToken);
+                } catch (BusinessException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+                    return null;
+                }
+            }));
+        }
+        ready.await(5, TimeUnit.SECONDS);
+        start.countDown();
+
+        List<LoginResponseDto> succeeded = new ArrayList<>();
+        for (Future<LoginResponseDto> future : futures) {
+            LoginResponseDto response = future.get(10, TimeUnit.SECONDS);
+            if (response != null) {
+                succeeded.add(response);
+            }
+        }
+        return succeeded;
+    }
+}
@@ -0,0 +1,57 @@
+package com.jibangyoung.domain.community.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jibangyoung.domain.community.repository.PostCursorQueryRepository;
+import com.jibangyoung.domain.community.support.PostBoardCountCache;
+import com.jibangyoung.global.common.SeekCursor;
+import com.jibangyoung.global.exception.BusinessException;
+import com.jibangyoung.global.exception.ErrorCode;
+
+/**
+ * 커서 종류가 엔드포인트 정렬과 다르면 첫 페이지로 되돌리지 않고 400으로 거부
+ */
+@ExtendWith(MockitoExtension.class)
+class CommunityServiceCursorTest {
+
+    @Mock
+    private PostCursorQueryRepository postCursorQueryRepository;
+
+    @Mock
+    private PostBoardCountCache boardCountCache;
+
+    @InjectMocks
+    private CommunityService communityService;
+
+    @Test
+    @DisplayName("전체 추천글 커서(id 단독)를 지역 게시판에 재사용하면 거부된다")
+    void popularCursorIsRejectedOnRegionBoard() {
+        String popularCursor = new SeekCursor(null, 100L).encode();
+
+        assertThatThrownBy(() -> communityService.getPostsByRegionCursor("11110", "all", popularCursor, 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        verifyNoInteractions(postCursorQueryRepository, boardCountCache);
+    }
+
+    @Test
+    @DisplayName("지역 게시판 커서((createdAt, id))를 전체 추천글에 재사용하면 거부된다")
+    void regionCursorIsRejectedOnPopularBoard() {
+        String regionCursor = new SeekCursor(LocalDateTime.of(2025, 7, 1, 9, 0), 100L).encode();
+
+        assertThatThrownBy(() -> communityService.getPopularPostsCursor(regionCursor, 20))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(postCursorQueryRepository, boardCountCache);
+    }
+}
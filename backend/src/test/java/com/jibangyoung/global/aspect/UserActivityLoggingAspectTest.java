@@ -0,0 +1,273 @@
+package com.jibangyoung.global.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.jibangyoung.global.annotation.UserActivityLogging;
+import com.jibangyoung.global.common.ApiResponse;
+import com.jibangyoung.global.common.UserActivityLog;
+import com.jibangyoung.global.service.UserActivityLogService;
+
+/**
+ * UserActivityLoggingAspect 단위 테스트
+ * - 결과 ID 추출 우선순위 (getRefId > getId, ApiResponse.data 언래핑)
+ * - 민감 파라미터 마스킹, userId 보강 순서 (결과 → 파라미터 → principal)
+ * - 메서드 메타데이터 캐시, 실패 로그
+ */
+class UserActivityLoggingAspectTest {
+
+    private UserActivityLogService logService;
+    private UserActivityLoggingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        logService = mock(UserActivityLogService.class);
+        aspect = new UserActivityLoggingAspect(logService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("결과에 getRefId 값이 있으면 getId보다 우선한다")
+    void refIdTakesPrecedenceOverId() throws Throwable {
+        UserActivityLog saved = invoke("view", new String[] { "postId" }, new Object[] { 1L },
+                new RefResult(10L, 20L));
+
+        assertThat(saved.getRefId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("getRefId가 null이면 getId를 refId로 사용한다")
+    void idIsUsedWhenRefIdIsNull() throws Throwable {
+        UserActivityLog saved = invoke("view", new String[] { "postId" }, new Object[] { 1L },
+                new RefResult(10L, null));
+
+        assertThat(saved.getRefId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("ApiResponse 결과는 data에서 userId/regionId/refId를 추출한다")
+    void apiResponseDataIsUnwrapped() throws Throwable {
+        UserActivityLog saved = invoke("view", new String[] { "postId" }, new Object[] { 1L },
+                ApiResponse.success(new OwnedResult(7L, 11110, 30L)));
+
+        assertThat(saved.getUserId()).isEqualTo(7L);
+        assertThat(saved.getRegionId()).isEqualTo(11110L);
+        assertThat(saved.getRefId()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("password/token/secret/key가 들어간 파라미터는 requestParams에서 제외된다")
+    void sensitiveParamsAreMasked() throws Throwable {
+        UserActivityLog saved = invoke("login",
+                new String[] { "username", "password", "refreshToken", "clientSecret", "apiKey", "userId" },
+                new Object[] { "tester", "pw", "rt", "cs", "ak", 5L },
+                null);
+
+        assertThat(saved.getRequestParams())
+                .containsOnlyKeys("username", "userId")
+                .containsEntry("username", "tester")
+                .doesNotContainValue("pw");
+        // 결과에 userId가 없으면 userId 파라미터 사용
+        assertThat(saved.getUserId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("결과/파라미터에 userId가 없으면 인증 principal의 getId를 사용하고, 없으면 null")
+    void principalIsUsedAsLastResort() throws Throwable {
+        UserActivityLog anonymous = invoke("view", new String[] { "postId" }, new Object[] { 1L }, null);
+        assertThat(anonymous.getUserId()).isNull();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new IdPrincipal(42L), null, List.of()));
+        UserActivityLog authenticated = invoke("view", new String[] { "postId" }, new Object[] { 1L }, null);
+
+        assertThat(authenticated.getUserId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("어노테이션 값과 메서드 정보가 로그에 담기고, 메타데이터는 메서드당 1회만 계산된다")
+    void metadataIsCachedPerMethod() throws Throwable {
+        Method method = Fixtures.class.getMethod("view", Long.class);
+        MethodSignature signature = signature(method, new String[] { "postId" });
+
+        UserActivityLog first = proceed(signature, new Object[] { 1L }, null);
+        proceed(signature, new Object[] { 2L }, null);
+
+        assertThat(first.getActionType()).isEqualTo("POST_VIEW");
+        assertThat(first.getScoreDelta()).isEqualTo(1);
+        assertThat(first.getMethodName()).isEqualTo("view");
+        assertThat(first.getClassName()).isEqualTo("Fixtures");
+        assertThat(first.getStatus()).isEqualTo("SUCCESS");
+        assertThat(first.getLang()).isEqualTo("ko");
+        assertThat(first.getLogId()).hasSize(29);
+        verify(signature, times(1)).getParameterNames();
+    }
+
+    @Test
+    @DisplayName("예외 시 logOnFailure면 실패 로그를 남기고 예외를 그대로 던진다")
+    void failureIsLoggedAndRethrown() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint(
+                signature(Fixtures.class.getMethod("view", Long.class), new String[] { "postId" }),
+                new Object[] { 1L });
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.logUserActivity(joinPoint)).hasMessage("boom");
+
+        ArgumentCaptor<UserActivityLog> captor = ArgumentCaptor.forClass(UserActivityLog.class);
+        verify(logService).saveLogAsync(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo("FAILURE");
+        assertThat(captor.getValue().getErrorMessage()).isEqualTo("boom");
+        assertThat(captor.getValue().getUserId()).isNull();
+    }
+
+    @Test
+    @DisplayName("logOnFailure=false면 예외 시 로그를 남기지 않는다")
+    void failureIsNotLoggedWhenDisabled() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint(
+                signature(Fixtures.class.getMethod("quiet", Long.class), new String[] { "postId" }),
+                new Object[] { 1L });
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> aspect.logUserActivity(joinPoint)).isInstanceOf(IllegalStateException.class);
+
+        verify(logService, never()).saveLogAsync(any());
+    }
+
+    private UserActivityLog invoke(String methodName, String[] paramNames, Object[] args, Object result)
+            throws Throwable {
+        Method method = findMethod(methodName);
+        return proceed(signature(method, paramNames), args, result);
+    }
+
+    private UserActivityLog proceed(MethodSignature signature, Object[] args, Object result) throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint(signature, args);
+        when(joinPoint.proceed()).thenReturn(result);
+
+        assertThat(aspect.logUserActivity(joinPoint)).isSameAs(result);
+
+        ArgumentCaptor<UserActivityLog> captor = ArgumentCaptor.forClass(UserActivityLog.class);
+        verify(logService, atLeastOnce()).saveLogAsync(captor.capture());
+        return captor.getValue();
+    }
+
+    private static ProceedingJoinPoint joinPoint(MethodSignature signature, Object[] args) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(args);
+        return joinPoint;
+    }
+
+    private static MethodSignature signature(Method method, String[] paramNames) {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getParameterNames()).thenReturn(paramNames);
+        when(signature.getDeclaringType()).thenReturn(Fixtures.class);
+        return signature;
+    }
+
+    private static Method findMethod(String name) {
+        for (Method method : Fixtures.class.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    public static class Fixtures {
+
+        @UserActivityLogging(actionType = "POST_VIEW", scoreDelta = 1)
+        public Object view(Long postId) {
+            return null;
+        }
+
+        @UserActivityLogging(actionType = "LOGIN")
+        public Object login(String username, String password, String refreshToken, String clientSecret,
+                String apiKey, Long userId) {
+            return null;
+        }
+
+        @UserActivityLogging(actionType = "POST_VIEW", logOnFailure = false)
+        public Object quiet(Long postId) {
+            return null;
+        }
+    }
+
+    public static class RefResult {
+        private final Long id;
+        private final Long refId;
+
+        public RefResult(Long id, Long refId) {
+            this.id = id;
+            this.refId = refId;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public Long getRefId() {
+            return refId;
+        }
+    }
+
+    public static class OwnedResult {
+        private final Long userId;
+        private final Integer regionId;
+        private final Long id;
+
+        public OwnedResult(Long userId, Integer regionId, Long id) {
+            this.userId = userId;
+            this.regionId = regionId;
+            this.id = id;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public Integer getRegionId() {
+            return regionId;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+
+    public static class IdPrincipal {
+        private final Long id;
+
+        public IdPrincipal(Long id) {
+            this.id = id;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.jibangyoung.global.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jibangyoung.global.common.UserActivityLog;
+import com.jibangyoung.global.repository.UserActivityLogRedisRepository;
+
+/**
+ * Writer 모드별 처리량 비교 (LEAN vs VERBOSE)
+ * - DB/Redis는 목으로 대체하고, 왕복 1회마다 고정 지연을 주어 네트워크 비용을 흉내냄
+ * - 같은 청크를 두 모드로 저장한 뒤 왕복 횟수와 getStatistics()의 itemsPerSecond를 비교
+ */
+class UserActivityLogWriterThroughputTest {
+
+    private static final int CHUNKS = 5;
+    private static final int CHUNK_SIZE = 100;
+    private static final long ROUND_TRIP_MILLIS = 1;
+
+    @Test
+    @DisplayName("LEAN 모드는 VERBOSE보다 왕복 횟수가 적고 처리량(items/s)이 높다")
+    void leanOutperformsVerbose() throws Exception {
+        Result lean = run(UserActivityLogWriter.MODE_LEAN);
+        Result verbose = run(UserActivityLogWriter.MODE_VERBOSE);
+
+        System.out.printf("LEAN    : written=%d, roundTrips=%d, itemsPerSecond=%d%n",
+                lean.written(), lean.roundTrips(), lean.itemsPerSecond());
+        System.out.printf("VERBOSE : written=%d, roundTrips=%d, itemsPerSecond=%d%n",
+                verbose.written(), verbose.roundTrips(), verbose.itemsPerSecond());
+
+        assertThat(lean.written()).isEqualTo((long) CHUNKS * CHUNK_SIZE);
+        assertThat(verbose.written()).isEqualTo((long) CHUNKS * CHUNK_SIZE);
+        // LEAN: 청크당 INSERT 1회 + Redis 정리 1회
+        assertThat(lean.roundTrips()).isEqualTo(CHUNKS * 2);
+        // VERBOSE: 청크당 연결 확인 + 배치 INSERT + 검증 쿼리 2회 + 로그별 Redis 삭제
+        assertThat(verbose.roundTrips()).isEqualTo(CHUNKS * (4 + CHUNK_SIZE));
+        assertThat(lean.itemsPerSecond()).isGreaterThan(verbose.itemsPerSecond());
+    }
+
+    @Test
+    @DisplayName("필수 값이 없는 로그는 두 모드 모두 skipped로 집계된다")
+    void invalidItemsAreCountedAsSkipped() throws Exception {
+        for (String mode : List.of(UserActivityLogWriter.MODE_LEAN, UserActivityLogWriter.MODE_VERBOSE)) {
+            UserActivityLogWriter writer = newWriter(mode, new AtomicInteger());
+            List<UserActivityLog> items = new ArrayList<>(logs(0, 3));
+            items.add(UserActivityLog.builder().logId("no-action").createdAt(LocalDateTime.now()).build());
+
+            writer.write(new Chunk<>(items));
+
+            Map<String, Object> stats = writer.getStatistics();
+            assertThat(stats.get("mode")).isEqualTo(mode);
+            assertThat(stats.get("written")).isEqualTo(3L);
+            assertThat(stats.get("skipped")).isEqualTo(1L);
+        }
+    }
+
+    private Result run(String mode) throws Exception {
+        AtomicInteger roundTrips = new AtomicInteger();
+        UserActivityLogWriter writer = newWriter(mode, roundTrips);
+        for (int c = 0; c < CHUNKS; c++) {
+            writer.write(new Chunk<>(logs(c * CHUNK_SIZE, CHUNK_SIZE)));
+        }
+        Map<String, Object> stats = writer.getStatistics();
+        return new Result((Long) stats.get("written"), roundTrips.get(), (Long) stats.get("itemsPerSecond"));
+    }
+
+    private UserActivityLogWriter newWriter(String mode, AtomicInteger roundTrips) {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        UserActivityLogRedisRepository redisRepository = mock(UserActivityLogRedisRepository.class);
+
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            invocation.getArgument(1, PreparedStatementSetter.class).setValues(ps);
+            roundTrip(roundTrips);
+            return 1;
+        });
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            for (int i = 0; i < setter.getBatchSize(); i++) {
+                setter.setValues(ps, i);
+            }
+            roundTrip(roundTrips);
+            int[] results = new int[setter.getBatchSize()];
+            Arrays.fill(results, 1);
+            return results;
+        });
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenAnswer(invocation -> {
+            roundTrip(roundTrips);
+            return 1;
+        });
+        when(jdbcTemplate.queryForList(anyString())).thenAnswer(invocation -> {
+            roundTrip(roundTrips);
+            return List.of();
+        });
+        doAnswer(invocation -> {
+            roundTrip(roundTrips);
+            return null;
+        }).when(redisRepository).deleteLogs(anyList());
+        doAnswer(invocation -> {
+            roundTrip(roundTrips);
+            return null;
+        }).when(redisRepository).deleteLog(anyString());
+
+        UserActivityLogWriter writer = new UserActivityLogWriter(jdbcTemplate, redisRepository);
+        ReflectionTestUtils.setField(writer, "writerMode", mode);
+        return writer;
+    }
+
+    private static void roundTrip(AtomicInteger roundTrips) throws InterruptedException {
+        roundTrips.incrementAndGet();
+        Thread.sleep(ROUND_TRIP_MILLIS);
+    }
+
+    private static List<UserActivityLog> logs(int from, int count) {
+        List<UserActivityLog> items = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            items.add(UserActivityLog.success(UserActivityLog.builder()
+                    .logId("log-" + i)
+                    .userId((long) i)
+                    .regionId(11110L)
+                    .actionType("POST_VIEW")
+                    .refId((long) i)
+                    .meta("{\"source\":\"test\"}")));
+        }
+        return items;
+    }
+
+    private record Result(long written, int roundTrips, long itemsPerSecond) {
+    }
+}
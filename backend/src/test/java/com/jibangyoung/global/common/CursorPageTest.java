@@ -0,0 +1,97 @@
+package com.jibangyoung.global.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorPageTest {
+
+    private static final Function<Long, SeekCursor> ID_CURSOR = id -> new SeekCursor(null, id);
+    private static final Function<List<Long>, List<String>> MAPPER = ids -> ids.stream()
+            .map(String::valueOf)
+            .collect(Collectors.toList());
+
+    @Test
+    @DisplayName("size는 1 ~ MAX_SIZE 범위로 보정된다")
+    void clampSize() {
+        assertThat(CursorPage.clampSize(-5)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(0)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(1)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(20)).isEqualTo(20);
+        assertThat(CursorPage.clampSize(CursorPage.MAX_SIZE)).isEqualTo(CursorPage.MAX_SIZE);
+        assertThat(CursorPage.clampSize(CursorPage.MAX_SIZE + 1)).isEqualTo(CursorPage.MAX_SIZE);
+        assertThat(CursorPage.clampSize(Integer.MAX_VALUE)).isEqualTo(CursorPage.MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("size + 1건이 조회되면 size건만 담고 마지막 행 커서로 다음 페이지를 가리킨다")
+    void hasNextWhenOneExtraRowFetched() {
+        CursorPage<String> page = CursorPage.of(ids(10, 6), 5, ID_CURSOR, MAPPER, 100L);
+
+        assertThat(page.content()).containsExactly("10", "9", "8", "7", "6");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(SeekCursor.decode(page.nextCursor())).isEqualTo(new SeekCursor(null, 6L));
+        assertThat(page.totalElements()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("size건 이하면 마지막 페이지 (nextCursor = null)")
+    void lastPage() {
+        CursorPage<String> exact = CursorPage.of(ids(10, 5), 5, ID_CURSOR, MAPPER, null);
+        CursorPage<String> partial = CursorPage.of(ids(10, 2), 5, ID_CURSOR, MAPPER, null);
+        CursorPage<String> empty = CursorPage.of(List.of(), 5, ID_CURSOR, MAPPER, null);
+
+        assertThat(exact.content()).hasSize(5);
+        assertThat(exact.hasNext()).isFalse();
+        assertThat(exact.nextCursor()).isNull();
+        assertThat(partial.content()).containsExactly("10", "9");
+        assertThat(partial.hasNext()).isFalse();
+        assertThat(empty.content()).isEmpty();
+        assertThat(empty.nextCursor()).isNull();
+        assertThat(empty.totalElements()).isNull();
+    }
+
+    @Test
+    @DisplayName("size=0이어도 1건 페이지로 처리해 커서를 만들 수 있다")
+    void zeroSizeIsTreatedAsOne() {
+        CursorPage<String> page = CursorPage.of(ids(10, 2), 0, ID_CURSOR, MAPPER, null);
+
+        assertThat(page.content()).containsExactly("10");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(SeekCursor.decode(page.nextCursor()).id()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("nextCursor를 따라가면 모든 행을 중복/누락 없이 순회한다")
+    void walkingCursorsVisitsEveryRowOnce() {
+        List<Long> all = ids(50, 50);
+        int size = 7;
+
+        List<String> visited = new ArrayList<>();
+        SeekCursor cursor = null;
+        int pages = 0;
+        do {
+            long before = cursor != null ? cursor.id() : Long.MAX_VALUE;
+            List<Long> fetched = all.stream().filter(id -> id < before).limit(size + 1).collect(Collectors.toList());
+            CursorPage<String> page = CursorPage.of(fetched, size, ID_CURSOR, MAPPER, null);
+            visited.addAll(page.content());
+            cursor = SeekCursor.decode(page.nextCursor());
+            pages++;
+        } while (cursor != null);
+
+        assertThat(visited).containsExactlyElementsOf(MAPPER.apply(all));
+        assertThat(pages).isEqualTo(8);
+    }
+
+    // from부터 1씩 감소하는 id count개 (내림차순)
+    private static List<Long> ids(long from, int count) {
+        return LongStream.iterate(from, id -> id - 1).limit(count).boxed().collect(Collectors.toList());
+    }
+}
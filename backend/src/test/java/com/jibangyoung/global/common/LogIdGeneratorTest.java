@@ -0,0 +1,30 @@
+package com.jibangyoung.global.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LogIdGeneratorTest {
+
+    @Test
+    @DisplayName("ID는 29자 고정 형식이며 같은 프로세스 안에서 유일하고 생성 순서대로 정렬된다")
+    void idsAreFixedWidthUniqueAndOrdered() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(LogIdGenerator.nextId());
+        }
+
+        assertThat(ids).allMatch(id -> id.matches("[0-9a-f]{12}-[0-9a-f]{6}-[0-9a-f]{8}"));
+        Set<String> unique = new HashSet<>(ids);
+        assertThat(unique).hasSize(ids.size());
+        assertThat(ids).isSorted();
+        // node 구간은 프로세스 내에서 고정
+        assertThat(ids).extracting(id -> id.substring(13, 19)).containsOnly(ids.get(0).substring(13, 19));
+    }
+}
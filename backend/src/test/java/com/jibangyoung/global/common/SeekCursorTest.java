@@ -0,0 +1,93 @@
+package com.jibangyoung.global.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.jibangyoung.global.exception.BusinessException;
+import com.jibangyoung.global.exception.ErrorCode;
+
+class SeekCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123_000_000);
+
+    @Test
+    @DisplayName("(createdAt, id) 커서는 인코딩 후 그대로 복원된다")
+    void roundTripWithCreatedAt() {
+        SeekCursor cursor = new SeekCursor(CREATED_AT, 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(SeekCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(SeekCursor.decodeCreatedAtAndId(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("id 단독 커서는 createdAt = null로 복원된다")
+    void roundTripIdOnly() {
+        SeekCursor cursor = new SeekCursor(null, Long.MAX_VALUE);
+
+        String encoded = cursor.encode();
+
+        assertThat(SeekCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(SeekCursor.decodeIdOnly(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null)")
+    void blankCursorMeansFirstPage() {
+        assertThat(SeekCursor.decode(null)).isNull();
+        assertThat(SeekCursor.decode("")).isNull();
+        assertThat(SeekCursor.decode("  ")).isNull();
+        assertThat(SeekCursor.decodeCreatedAtAndId(null)).isNull();
+        assertThat(SeekCursor.decodeIdOnly("")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_INPUT_VALUE")
+    void malformedCursorIsRejected() {
+        assertInvalid("not base64!");
+        assertInvalid(raw("no-separator"));
+        assertInvalid(raw("2025-07-01T12:30|abc"));
+        assertInvalid(raw("yesterday|10"));
+        assertInvalid(raw("|"));
+    }
+
+    @Test
+    @DisplayName("id 단독 커서를 (createdAt, id) 엔드포인트에 쓰면 첫 페이지로 돌아가지 않고 거부된다")
+    void idOnlyCursorIsRejectedOnCreatedAtEndpoint() {
+        String popularCursor = new SeekCursor(null, 100L).encode();
+
+        assertThatThrownBy(() -> SeekCursor.decodeCreatedAtAndId(popularCursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("(createdAt, id) 커서를 id 단독 엔드포인트에 쓰면 거부된다")
+    void createdAtCursorIsRejectedOnIdOnlyEndpoint() {
+        String regionCursor = new SeekCursor(CREATED_AT, 100L).encode();
+
+        assertThatThrownBy(() -> SeekCursor.decodeIdOnly(regionCursor))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> SeekCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}